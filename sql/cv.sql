@@ -22,6 +22,7 @@ DROP TABLE IF EXISTS cv;
 CREATE TABLE `cv` (
   `id` BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '简历ID',
   `user_id` BIGINT DEFAULT NULL COMMENT '用户ID',
+  `parent_id` BIGINT NULL COMMENT '父版本简历ID（优化生成的新版本指向原简历，原始上传的简历为空）',
   `name` VARCHAR(100) NOT NULL COMMENT '姓名（必填）',
   `birth_date` DATE NULL COMMENT '出生日期（用于计算年龄，可选）',
   `title` VARCHAR(200) NULL COMMENT '期望岗位/头衔（可选）',
@@ -29,8 +30,11 @@ CREATE TABLE `cv` (
   `summary` VARCHAR(500) NULL COMMENT '个人摘要（Markdown格式）',
   `delete_flag` TINYINT(1) DEFAULT 0 COMMENT '逻辑删除：0-未删除 1-已删除',
   `created_time` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
-  `updated_time` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
-  INDEX `idx_name` (`name`)
+  `updated_time` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间（游标分页排序字段，不能为空）',
+  INDEX `idx_name` (`name`),
+  INDEX `idx_user_deleted_updated` (`user_id`, `delete_flag`, `updated_time`) COMMENT '按用户查询简历列表（按更新时间倒序游标分页）',
+  INDEX `idx_parent_id` (`parent_id`) COMMENT '按父版本查询派生版本',
+  INDEX `idx_delete_flag` (`delete_flag`) COMMENT '归档任务按主键顺序扫描已删除简历'
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='简历基本信息表';
 
 -- 联系方式表
@@ -77,7 +81,8 @@ CREATE TABLE `cv_education` (
   `delete_flag` TINYINT(1) DEFAULT 0 COMMENT '逻辑删除：0-未删除 1-已删除',
   `created_time` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
   `updated_time` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
-  INDEX `idx_cv_edu` (`cv_id`, `start_date` DESC) COMMENT '按简历ID+开始时间倒序查询（最新在前）'
+  INDEX `idx_cv_edu` (`cv_id`, `start_date` DESC) COMMENT '按简历ID+开始时间倒序查询（最新在前）',
+  INDEX `idx_cv_degree_key` (`cv_id`, (LOWER(TRIM(`degree`)))) COMMENT '在指定简历内按学历（忽略大小写及首尾空格）检索'
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='简历教育经历表';
 
 -- 工作/实习经历表
@@ -128,10 +133,13 @@ CREATE TABLE `cv_highlight` (
   `created_time` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
   `updated_time` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
   -- 索引：按类型+关联ID查询（核心查询场景）
-  INDEX `idx_type_related` (`type`, `related_id`) COMMENT '按类型+关联ID查询亮点（如：type=1+related_id=工作经历ID）'
+  INDEX `idx_type_related` (`type`, `related_id`) COMMENT '按类型+关联ID查询亮点（如：type=1+related_id=工作经历ID）',
+  INDEX `idx_related_id` (`related_id`) COMMENT '按关联ID批量查询亮点（组装简历时一次性加载所有亮点）'
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='统一亮点表（工作经历/项目经历的亮点）';
 
 -- 技能表
+-- 技能名称、学历使用函数索引（MySQL 8.0.13+，由隐藏的生成列实现），实体映射与归档的 SELECT * 迁移不受影响；
+-- 检索时条件表达式须与索引表达式 LOWER(TRIM(...)) 完全一致才能命中索引
 DROP TABLE IF EXISTS cv_skill;
 CREATE TABLE `cv_skill` (
   `id` BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '主键ID',
@@ -143,7 +151,8 @@ CREATE TABLE `cv_skill` (
   `delete_flag` TINYINT(1) DEFAULT 0 COMMENT '逻辑删除：0-未删除 1-已删除',
   `created_time` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
   `updated_time` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
-  INDEX `idx_cv_skill` (`cv_id`, `category`) COMMENT '按简历ID+分类查询技能'
+  INDEX `idx_cv_skill` (`cv_id`, `category`) COMMENT '按简历ID+分类查询技能',
+  INDEX `idx_cv_name_key` (`cv_id`, (LOWER(TRIM(`name`)))) COMMENT '在指定简历内按技能名称（忽略大小写及首尾空格）检索'
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='简历技能表';
 
 -- 证书/获奖表
@@ -196,6 +205,27 @@ CREATE TABLE `cv_locale_config` (
   UNIQUE INDEX `uk_format_locale` (`format_meta_id`, `locale`) COMMENT '唯一约束：同一格式元数据下语言标识不重复'
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='简历国际化配置表';
 
+-- 简历快照表
+DROP TABLE IF EXISTS cv_snapshot;
+CREATE TABLE `cv_snapshot` (
+  `cv_id` BIGINT NOT NULL PRIMARY KEY COMMENT '简历ID',
+  `schema_version` INT NOT NULL COMMENT '快照结构版本，与当前版本不一致时按规范化表重建',
+  `payload` MEDIUMBLOB NOT NULL COMMENT '完整简历对象（gzip压缩的JSON）',
+  `created_time` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+  `updated_time` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='简历快照表（整份简历的反范式副本，按主键一次读取）';
+
+-- 简历模块引用表
+DROP TABLE IF EXISTS cv_section_ref;
+CREATE TABLE `cv_section_ref` (
+  `cv_id` BIGINT NOT NULL COMMENT '简历ID',
+  `section` VARCHAR(32) NOT NULL COMMENT '模块编码：contact/social_link/education/experience/project/skill/certificate/format_meta',
+  `source_cv_id` BIGINT NOT NULL COMMENT '实际存储该模块子表行的简历ID',
+  `created_time` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+  PRIMARY KEY (`cv_id`, `section`),
+  INDEX `idx_source_cv_id` (`source_cv_id`) COMMENT '按来源简历查询引用方'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='简历模块引用表（新版本与父版本相同的模块共享父版本的子表行）';
+
 -- 简历处理任务表
 DROP TABLE IF EXISTS resume_task;
 CREATE TABLE `resume_task` (
@@ -207,16 +237,71 @@ CREATE TABLE `resume_task` (
     `file_size` BIGINT NOT NULL COMMENT '文件大小（字节）',
     `content_type` VARCHAR(100) DEFAULT NULL COMMENT '文件MIME类型',
     `file_path` VARCHAR(500) DEFAULT NULL COMMENT '文件存储路径',
-    `status` VARCHAR(20) NOT NULL DEFAULT 'PROCESSING' COMMENT '任务状态：PROCESSING-处理中，ANALYZING-解析中，SAVING-存储中，COMPLETED-完成，FAILED-失败',
+    `status` VARCHAR(20) NOT NULL DEFAULT 'PROCESSING' COMMENT '任务状态：PROCESSING-处理中，ANALYZING-解析中，SAVING-存储中，COMPLETED-完成，FAILED-失败，DEAD_LETTER-重试耗尽',
     `resume_id` BIGINT DEFAULT NULL COMMENT '关联的简历ID（完成后填充）',
     `error_message` TEXT DEFAULT NULL COMMENT '错误详细信息',
     `start_time` DATETIME DEFAULT NULL COMMENT '开始处理时间',
+    `analyze_start_time` DATETIME DEFAULT NULL COMMENT '进入解析阶段时间',
+    `save_start_time` DATETIME DEFAULT NULL COMMENT '进入存储阶段时间',
     `complete_time` DATETIME DEFAULT NULL COMMENT '完成时间',
+    `model_name` VARCHAR(100) DEFAULT NULL COMMENT '解析使用的模型名称',
+    `attempts` INT NOT NULL DEFAULT 0 COMMENT '已领取执行的次数',
+    `next_run_time` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '可被领取的时间（排队中为可执行时间，执行中为租约到期时间，重试时为退避后的时间）',
+    `lease_owner` VARCHAR(100) DEFAULT NULL COMMENT '当前持有租约的工作节点',
     `create_time` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
     `update_time` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
     `delete_flag` TINYINT(1) NOT NULL DEFAULT 0 COMMENT '是否删除：0-否，1-是',
     PRIMARY KEY (`id`),
     UNIQUE KEY `uk_task_id` (`task_id`),
-    KEY `idx_user_id` (`user_id`),
-    KEY `idx_resume_id_status` (`resume_id`,`status`)
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='简历处理任务表';
\ No newline at end of file
+    KEY `idx_user_deleted_created` (`user_id`, `delete_flag`, `create_time`) COMMENT '按用户查询任务列表（按创建时间倒序游标分页）',
+    KEY `idx_resume_id_status` (`resume_id`,`status`),
+    KEY `idx_status_complete` (`status`, `complete_time`) COMMENT '按完成时间查询近期已完成任务（统计各阶段耗时）',
+    KEY `idx_status_next_run` (`status`, `next_run_time`) COMMENT '工作节点领取到期的待执行任务'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='简历处理任务表';
+
+DROP TABLE IF EXISTS resume_task_event;
+CREATE TABLE `resume_task_event` (
+    `id` BIGINT NOT NULL AUTO_INCREMENT COMMENT '主键ID',
+    `task_id` VARCHAR(200) DEFAULT NULL COMMENT '任务唯一标识符（不属于解析任务的阶段为空，如向量化）',
+    `resume_id` BIGINT DEFAULT NULL COMMENT '关联的简历ID',
+    `stage` VARCHAR(20) NOT NULL COMMENT '执行阶段：UPLOAD-文件上传，EXTRACT-文本提取，LLM_PARSE-大模型解析，PERSIST-简历落库，EMBED-向量化',
+    `node_id` VARCHAR(100) NOT NULL COMMENT '执行该阶段的节点',
+    `start_time` DATETIME(3) NOT NULL COMMENT '阶段开始时间',
+    `duration_ms` BIGINT NOT NULL COMMENT '阶段耗时（毫秒）',
+    `input_tokens` INT DEFAULT NULL COMMENT '输入token数（仅大模型调用阶段）',
+    `output_tokens` INT DEFAULT NULL COMMENT '输出token数（仅大模型调用阶段）',
+    `success` TINYINT(1) NOT NULL DEFAULT 1 COMMENT '是否成功：0-否，1-是',
+    `error_message` VARCHAR(500) DEFAULT NULL COMMENT '失败原因',
+    `create_time` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+    PRIMARY KEY (`id`),
+    KEY `idx_task_id` (`task_id`) COMMENT '查询单个任务的阶段耗时',
+    KEY `idx_create_stage` (`create_time`, `stage`) COMMENT '按时间窗口统计各阶段耗时分位数'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='简历处理任务阶段事件表（只追加，记录各阶段耗时）';
+
+-- ============================== 归档表 ==============================
+-- 已逻辑删除的简历由后台归档任务整棵（主表、子表、亮点、本地化配置、模块引用）迁移到归档表，
+-- 热表只保留有效数据，索引规模不随历史数据增长。归档表结构与热表保持一致，热表结构变更时需同步修改。
+DROP TABLE IF EXISTS cv_archive;
+CREATE TABLE `cv_archive` LIKE `cv`;
+DROP TABLE IF EXISTS cv_contact_archive;
+CREATE TABLE `cv_contact_archive` LIKE `cv_contact`;
+DROP TABLE IF EXISTS cv_social_link_archive;
+CREATE TABLE `cv_social_link_archive` LIKE `cv_social_link`;
+DROP TABLE IF EXISTS cv_education_archive;
+CREATE TABLE `cv_education_archive` LIKE `cv_education`;
+DROP TABLE IF EXISTS cv_experience_archive;
+CREATE TABLE `cv_experience_archive` LIKE `cv_experience`;
+DROP TABLE IF EXISTS cv_project_archive;
+CREATE TABLE `cv_project_archive` LIKE `cv_project`;
+DROP TABLE IF EXISTS cv_skill_archive;
+CREATE TABLE `cv_skill_archive` LIKE `cv_skill`;
+DROP TABLE IF EXISTS cv_highlight_archive;
+CREATE TABLE `cv_highlight_archive` LIKE `cv_highlight`;
+DROP TABLE IF EXISTS cv_certificate_archive;
+CREATE TABLE `cv_certificate_archive` LIKE `cv_certificate`;
+DROP TABLE IF EXISTS cv_format_meta_archive;
+CREATE TABLE `cv_format_meta_archive` LIKE `cv_format_meta`;
+DROP TABLE IF EXISTS cv_locale_config_archive;
+CREATE TABLE `cv_locale_config_archive` LIKE `cv_locale_config`;
+DROP TABLE IF EXISTS cv_section_ref_archive;
+CREATE TABLE `cv_section_ref_archive` LIKE `cv_section_ref`;
@@ -2,14 +2,21 @@ package com.tengYii.jobspark.application.controller;
 
 import com.tengYii.jobspark.application.service.ResumeApplicationService;
 import com.tengYii.jobspark.application.validate.ResumeValidator;
+import com.tengYii.jobspark.common.enums.ResultCodeEnum;
+import com.tengYii.jobspark.common.enums.TaskStatusEnum;
+import com.tengYii.jobspark.common.exception.TooManyRequestsException;
 import com.tengYii.jobspark.common.exception.ValidationException;
 import com.tengYii.jobspark.common.utils.login.UserContext;
 import com.tengYii.jobspark.domain.service.ResumeRagService;
 import com.tengYii.jobspark.dto.request.ResumeOptimizeRequest;
 import com.tengYii.jobspark.dto.request.ResumeOptimizedDownloadRequest;
 import com.tengYii.jobspark.dto.request.ResumeUploadRequest;
+import com.tengYii.jobspark.dto.request.TaskStatusBatchRequest;
+import com.tengYii.jobspark.dto.response.CursorPageResponse;
 import com.tengYii.jobspark.dto.response.ResumeDetailResponse;
 import com.tengYii.jobspark.dto.response.ResumeOptimizedResponse;
+import com.tengYii.jobspark.dto.response.ResumeSearchResponse;
+import com.tengYii.jobspark.dto.response.ResumeSummaryResponse;
 import com.tengYii.jobspark.dto.response.ResumeUploadAsyncResponse;
 import com.tengYii.jobspark.dto.response.TaskStatusResponse;
 import com.tengYii.jobspark.infrastructure.context.OptimizationProgressContext;
@@ -18,18 +25,21 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 
 
 /**
@@ -46,6 +56,16 @@ import java.util.concurrent.Executor;
 @Slf4j
 public class ResumeController {
 
+    /**
+     * 优化请求被拒绝时建议的重试等待时间（秒），单次优化通常在一分钟内完成
+     */
+    private static final long OPTIMIZE_RETRY_AFTER_SECONDS = 30L;
+
+    /**
+     * 简历列表下一页游标的响应头
+     */
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     @Autowired
     private ResumeApplicationService resumeApplicationService;
 
@@ -56,15 +76,59 @@ public class ResumeController {
     private Executor resumeTaskExecutor;
 
     /**
-     * 获取当前用户的简历列表
+     * 按游标分页获取当前用户的简历列表（按更新时间倒序）
+     * <p>
+     * 响应体保持为简历列表，还有下一页时通过 X-Next-Cursor 响应头返回下一页游标。
      *
+     * @param cursor 分页游标，取上一页响应头中的 X-Next-Cursor，为空表示第一页
+     * @param size   每页条数，默认20，最大100
      * @return 简历列表
      */
     @GetMapping("/list")
-    public ResponseEntity<List<ResumeDetailResponse>> getResumeList() {
+    public ResponseEntity<List<ResumeDetailResponse>> getResumeList(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        Long userId = getLoginUserId();
+        CursorPageResponse<ResumeDetailResponse> resumePage = resumeApplicationService.getResumeList(userId, cursor, size);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (StringUtils.isNotEmpty(resumePage.getNextCursor())) {
+            builder.header(NEXT_CURSOR_HEADER, resumePage.getNextCursor());
+        }
+        return builder.body(resumePage.getItems());
+    }
+
+    /**
+     * 按游标分页获取当前用户的简历摘要列表（仅基本信息及各模块条目数量）
+     *
+     * @param cursor 分页游标，取上一页返回的 nextCursor，为空表示第一页
+     * @param size   每页条数，默认20，最大100
+     * @return 简历摘要分页结果
+     */
+    @GetMapping("/summaries")
+    public ResponseEntity<CursorPageResponse<ResumeSummaryResponse>> getResumeSummaryPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        Long userId = getLoginUserId();
+        CursorPageResponse<ResumeSummaryResponse> summaryPage = resumeApplicationService.getResumeSummaryPage(userId, cursor, size);
+        return ResponseEntity.ok(summaryPage);
+    }
+
+    /**
+     * 按关键词、学历检索当前用户的简历
+     *
+     * @param keyword 关键词，匹配个人摘要、经历/项目描述、亮点及技能名称（可选）
+     * @param degree  学历，如：本科/硕士（可选，与关键词不能同时为空）
+     * @param size    最多返回的简历数量，默认10，最大50
+     * @return 命中的简历及片段，按相关度倒序
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<ResumeSearchResponse>> searchResumes(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String degree,
+            @RequestParam(required = false) Integer size) {
         Long userId = getLoginUserId();
-        List<ResumeDetailResponse> resumeList = resumeApplicationService.getResumeList(userId);
-        return ResponseEntity.ok(resumeList);
+        List<ResumeSearchResponse> searchResult = resumeApplicationService.searchResumes(userId, keyword, degree, size);
+        return ResponseEntity.ok(searchResult);
     }
 
     /**
@@ -155,32 +219,38 @@ public class ResumeController {
             emitter.complete();
         });
 
-        CompletableFuture.runAsync(() -> {
-            try {
-                // 设置进度回调
-                OptimizationProgressContext.setEmitter(message -> {
-                    try {
-                        emitter.send(SseEmitter.event().name("progress").data(message));
-                    } catch (IOException e) {
-                        log.error("发送进度消息失败", e);
-                    }
-                });
-
-                // 执行优化逻辑
-                ResumeOptimizedResponse response = resumeApplicationService.optimizeResume(request);
-                // 发送最终结果
-                emitter.send(SseEmitter.event().name("result").data(response));
-                // 完成
-                emitter.complete();
-
-            } catch (Exception e) {
-                log.error("简历优化流式处理异常", e);
-                emitter.completeWithError(e);
-            } finally {
-                // 清理上下文
-                OptimizationProgressContext.clear();
-            }
-        }, resumeTaskExecutor);
+        try {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    // 设置进度回调
+                    OptimizationProgressContext.setEmitter(message -> {
+                        try {
+                            emitter.send(SseEmitter.event().name("progress").data(message));
+                        } catch (IOException e) {
+                            log.error("发送进度消息失败", e);
+                        }
+                    });
+
+                    // 执行优化逻辑
+                    ResumeOptimizedResponse response = resumeApplicationService.optimizeResume(request);
+                    // 发送最终结果
+                    emitter.send(SseEmitter.event().name("result").data(response));
+                    // 完成
+                    emitter.complete();
+
+                } catch (Exception e) {
+                    log.error("简历优化流式处理异常", e);
+                    emitter.completeWithError(e);
+                } finally {
+                    // 清理上下文
+                    OptimizationProgressContext.clear();
+                }
+            }, resumeTaskExecutor);
+        } catch (TaskRejectedException e) {
+            // 线程池已满时直接拒绝，不占用Web线程执行耗时的优化
+            throw new TooManyRequestsException(ResultCodeEnum.TASK_QUEUE_FULL, "当前优化请求较多，请稍后重试",
+                    OPTIMIZE_RETRY_AFTER_SECONDS);
+        }
 
         return emitter;
     }
@@ -210,6 +280,44 @@ public class ResumeController {
                 .body(pdfBytes);
     }
 
+    /**
+     * 流式导出当前用户的全部简历（NDJSON，每行一份简历详情）
+     *
+     * @param gzip 是否gzip压缩，默认不压缩
+     * @return 流式响应
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportResumes(@RequestParam(defaultValue = "false") boolean gzip) {
+        // 登录用户需在请求线程获取，流式响应体在异步线程中写出
+        Long userId = getLoginUserId();
+        StreamingResponseBody body = outputStream -> resumeApplicationService.exportResumes(userId, gzip, outputStream);
+
+        String fileName = gzip ? "resumes.ndjson.gz" : "resumes.ndjson";
+        MediaType mediaType = gzip ? MediaType.parseMediaType("application/gzip") : MediaType.parseMediaType("application/x-ndjson");
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fileName)
+                .body(body);
+    }
+
+    /**
+     * 按游标分页获取当前用户的任务列表
+     *
+     * @param status 任务状态（可选）
+     * @param cursor 分页游标，取上一页返回的 nextCursor，为空表示第一页
+     * @param size   每页条数，默认20，最大100
+     * @return 任务分页结果
+     */
+    @GetMapping("/tasks")
+    public ResponseEntity<CursorPageResponse<TaskStatusResponse>> getUserTaskPage(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        Long userId = getLoginUserId();
+        CursorPageResponse<TaskStatusResponse> taskPage = resumeApplicationService.getUserTaskPage(userId, status, cursor, size);
+        return ResponseEntity.ok(taskPage);
+    }
+
     /**
      * 查询任务状态
      *
@@ -226,6 +334,68 @@ public class ResumeController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 批量查询任务状态
+     * <p>
+     * 多文件上传时一次请求查询所有任务的状态，替代逐个轮询。
+     *
+     * @param request 批量查询请求，包含任务ID列表
+     * @return 任务状态列表，按请求顺序排列，不存在或不属于当前用户的任务不返回
+     */
+    @PostMapping("/task/status:batch")
+    public ResponseEntity<List<TaskStatusResponse>> getTaskStatuses(@RequestBody TaskStatusBatchRequest request) {
+        Long userId = getLoginUserId();
+        List<TaskStatusResponse> responses = resumeApplicationService.getTaskStatuses(userId, request.getTaskIds());
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * 订阅任务状态（SSE）
+     * <p>
+     * 连接建立后立即推送一次当前状态，之后在任务进入解析、存储、完成、失败阶段时推送最新状态，
+     * 任务结束后服务端关闭连接，客户端无需再轮询任务状态。
+     *
+     * @param taskId 任务ID
+     * @return SseEmitter 对象，事件名为 status，数据为任务状态响应
+     */
+    @GetMapping(value = "/task/{taskId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeTaskStatus(@PathVariable String taskId) {
+        if (StringUtils.isEmpty(taskId)) {
+            throw new ValidationException(String.valueOf(HttpStatus.BAD_REQUEST.value()), "任务ID不能为空");
+        }
+        Long userId = getLoginUserId();
+
+        // 设置超时时间为 10 分钟，超时后客户端可重新订阅
+        SseEmitter emitter = new SseEmitter(600000L);
+
+        // 回调在请求处理返回后才会触发，此时取消订阅操作已设置
+        AtomicReference<Runnable> unsubscribe = new AtomicReference<>();
+        emitter.onCompletion(() -> {
+            if (Objects.nonNull(unsubscribe.get())) {
+                unsubscribe.get().run();
+            }
+        });
+        emitter.onTimeout(emitter::complete);
+        emitter.onError((e) -> {
+            log.warn("任务状态SSE连接错误：taskId={}", taskId, e);
+            emitter.complete();
+        });
+
+        unsubscribe.set(resumeApplicationService.subscribeTaskStatus(userId, taskId, response -> {
+            try {
+                emitter.send(SseEmitter.event().name("status").data(response));
+                if (TaskStatusEnum.isTerminal(response.getStatus())) {
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 客户端已断开或连接已关闭
+                log.debug("推送任务状态失败，taskId: {}", taskId, e);
+                emitter.complete();
+            }
+        }));
+        return emitter;
+    }
+
     /**
      * 取消任务
      *
@@ -0,0 +1,36 @@
+package com.tengYii.jobspark.application.controller;
+
+import com.tengYii.jobspark.domain.service.TaskStageTimingService;
+import com.tengYii.jobspark.model.bo.TaskStageStatsBO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 任务阶段耗时统计端点
+ * <p>
+ * 暴露在监控端口（GET /actuator/taskstages?windowHours=24），按阶段返回统计窗口内的耗时p50/p95与平均token用量，
+ * 跨用户的统计数据不经过业务接口对外开放。
+ */
+@Component
+@Endpoint(id = "taskstages")
+public class TaskStageStatsEndpoint {
+
+    @Autowired
+    private TaskStageTimingService taskStageTimingService;
+
+    /**
+     * 查询各阶段耗时统计
+     *
+     * @param windowHours 统计窗口（小时），为空时使用默认窗口
+     * @return 各阶段统计
+     */
+    @ReadOperation
+    public List<TaskStageStatsBO> stageStats(@Nullable Integer windowHours) {
+        return taskStageTimingService.listStageStats(windowHours);
+    }
+}
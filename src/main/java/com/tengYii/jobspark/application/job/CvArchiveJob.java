@@ -0,0 +1,133 @@
+package com.tengYii.jobspark.application.job;
+
+import com.tengYii.jobspark.common.utils.RedisUtil;
+import com.tengYii.jobspark.domain.service.CvArchiveService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 已删除简历归档任务
+ * <p>
+ * 定期将已逻辑删除的简历整棵迁移到归档表，保持热表及其索引规模稳定。
+ * 按小批次、批次间暂停、单次运行批次数上限控制对主库的压力；检查点保存在Redis，中断后从上次位置继续，
+ * 扫描到末尾后回到起点，下一轮重新检查此前因仍被引用而跳过的简历。多实例部署时通过Redis锁保证同一时刻只有一个实例运行。
+ */
+@Slf4j
+@Component
+public class CvArchiveJob {
+
+    /**
+     * 归档任务锁
+     */
+    private static final String LOCK_KEY = "cv:archive:lock";
+
+    @Autowired
+    private CvArchiveService cvArchiveService;
+
+    @Autowired
+    private RedisUtil redisUtil;
+
+    /**
+     * 是否开启归档
+     */
+    @Value("${jobspark.cv.archive.enabled:true}")
+    private boolean archiveEnabled;
+
+    /**
+     * 每批归档的简历数量
+     */
+    @Value("${jobspark.cv.archive.batch-size:50}")
+    private int batchSize;
+
+    /**
+     * 单次运行最多处理的批次数
+     */
+    @Value("${jobspark.cv.archive.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    /**
+     * 批次间暂停时间（毫秒）
+     */
+    @Value("${jobspark.cv.archive.pause-ms:200}")
+    private long pauseMs;
+
+    /**
+     * 任务锁过期时间（秒），需大于单次运行的最长耗时
+     */
+    @Value("${jobspark.cv.archive.lock-ttl-seconds:600}")
+    private long lockTtlSeconds;
+
+    /**
+     * 执行一轮归档
+     */
+    @Scheduled(initialDelayString = "${jobspark.cv.archive.initial-delay-ms:60000}",
+            fixedDelayString = "${jobspark.cv.archive.fixed-delay-ms:300000}")
+    public void archiveDeletedResumes() {
+        if (!archiveEnabled) {
+            return;
+        }
+
+        String owner = UUID.randomUUID().toString();
+        if (!redisUtil.tryLock(LOCK_KEY, owner, lockTtlSeconds, TimeUnit.SECONDS)) {
+            log.debug("归档任务正在其他实例运行，本次跳过");
+            return;
+        }
+
+        try {
+            runBatches();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("归档任务被中断");
+        } catch (Exception e) {
+            log.error("归档任务执行异常", e);
+        } finally {
+            redisUtil.unlock(LOCK_KEY, owner);
+        }
+    }
+
+    /**
+     * 从检查点开始分批归档，每批完成后推进检查点
+     *
+     * @throws InterruptedException 批次间暂停被中断
+     */
+    private void runBatches() throws InterruptedException {
+        long checkpoint = cvArchiveService.getCheckpoint();
+        int totalArchived = 0;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Long> candidateIds = cvArchiveService.listCandidates(checkpoint, batchSize);
+            if (candidateIds.isEmpty()) {
+                // 已扫描到末尾，下一轮从头开始
+                checkpoint = 0L;
+                cvArchiveService.saveCheckpoint(checkpoint);
+                break;
+            }
+
+            try {
+                totalArchived += cvArchiveService.archiveBatch(candidateIds);
+            } catch (Exception e) {
+                // 整批已回滚，跳过该批次避免检查点停滞，下一轮扫描时会重新尝试
+                log.error("归档简历批次失败，cvIds: {}", candidateIds, e);
+            }
+            checkpoint = candidateIds.get(candidateIds.size() - 1);
+            cvArchiveService.saveCheckpoint(checkpoint);
+
+            if (candidateIds.size() < batchSize) {
+                cvArchiveService.saveCheckpoint(0L);
+                break;
+            }
+            TimeUnit.MILLISECONDS.sleep(pauseMs);
+        }
+
+        if (totalArchived > 0) {
+            log.info("归档任务本轮完成，归档简历: {}, 检查点: {}", totalArchived, checkpoint);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.tengYii.jobspark.application.job;
+
+import com.tengYii.jobspark.infrastructure.context.DataSourceRoutingContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 从库复制延迟采样任务
+ * <p>
+ * 定期采样各从库的复制延迟，用于确定写入窗口期，延迟未知或过大时用户读请求回退主库。
+ * 每个实例各自采样，无需加锁；未开启从库路由时不执行任何查询。
+ */
+@Slf4j
+@Component
+public class ReplicaLagRefreshJob {
+
+    @Autowired
+    private DataSourceRoutingContext dataSourceRoutingContext;
+
+    /**
+     * 采样从库复制延迟
+     */
+    @Scheduled(initialDelayString = "${jobspark.datasource.replica.lag-initial-delay-ms:1000}",
+            fixedDelayString = "${jobspark.datasource.replica.lag-sample-interval-ms:2000}")
+    public void refreshReplicaLag() {
+        try {
+            dataSourceRoutingContext.refreshReplicaLag();
+        } catch (Exception e) {
+            log.error("采样从库复制延迟失败", e);
+        }
+    }
+}
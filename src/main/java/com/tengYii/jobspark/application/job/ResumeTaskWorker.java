@@ -0,0 +1,144 @@
+package com.tengYii.jobspark.application.job;
+
+import com.tengYii.jobspark.application.service.ResumeApplicationService;
+import com.tengYii.jobspark.domain.service.ResumeTaskCancellationService;
+import com.tengYii.jobspark.domain.service.ResumeTaskService;
+import com.tengYii.jobspark.domain.service.TaskAdmissionService;
+import com.tengYii.jobspark.model.po.ResumeTaskPO;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 简历解析任务队列工作节点
+ * <p>
+ * resume_task 表即任务队列：上传接口只写入任务记录，各实例定期按本地线程池空闲容量领取到期任务并执行。
+ * 领取使用 SELECT ... FOR UPDATE SKIP LOCKED，多实例并发领取互不阻塞；租约到期未续租的任务会被其他实例重新领取，
+ * 因此实例重启、发布不会丢失任务，扩容解析能力只需增加实例。
+ * <p>
+ * 执行中的任务定期续租，租约时长只需覆盖几个续租周期：实例宕机后任务能很快被重新领取，而长时间的解析不会因租约过期被重复执行。
+ */
+@Slf4j
+@Component
+public class ResumeTaskWorker {
+
+    @Autowired
+    private ResumeTaskService resumeTaskService;
+
+    @Autowired
+    private ResumeApplicationService resumeApplicationService;
+
+    @Autowired
+    private ResumeTaskCancellationService resumeTaskCancellationService;
+
+    @Autowired
+    private TaskAdmissionService taskAdmissionService;
+
+    @Resource(name = "resumeTaskExecutor")
+    private ThreadPoolTaskExecutor resumeTaskExecutor;
+
+    /**
+     * 是否在本实例领取执行任务（可只让部分实例作为工作节点）
+     */
+    @Value("${jobspark.task.queue.enabled:true}")
+    private boolean queueEnabled;
+
+    /**
+     * 单次最多领取的任务数
+     */
+    @Value("${jobspark.task.queue.batch-size:10}")
+    private int batchSize;
+
+    /**
+     * 工作节点标识，写入 lease_owner 用于校验租约
+     */
+    private final String workerId = resolveWorkerId();
+
+    /**
+     * 领取并执行到期任务
+     */
+    @Scheduled(initialDelayString = "${jobspark.task.queue.initial-delay-ms:5000}",
+            fixedDelayString = "${jobspark.task.queue.poll-interval-ms:1000}")
+    public void pollTasks() {
+        if (!queueEnabled) {
+            return;
+        }
+
+        // 只领取核心线程能立即执行的数量，避免已领取的任务在线程池队列中等待导致租约过期
+        int capacity = Math.min(batchSize, resumeTaskExecutor.getCorePoolSize() - resumeTaskExecutor.getActiveCount()
+                - resumeTaskExecutor.getThreadPoolExecutor().getQueue().size());
+        if (capacity <= 0) {
+            return;
+        }
+
+        List<ResumeTaskPO> tasks;
+        try {
+            tasks = resumeTaskService.leaseTasks(workerId, capacity);
+        } catch (Exception e) {
+            log.error("领取简历解析任务失败，workerId: {}", workerId, e);
+            return;
+        }
+        if (CollectionUtils.isEmpty(tasks)) {
+            return;
+        }
+
+        log.info("领取简历解析任务{}个，workerId: {}", tasks.size(), workerId);
+        LocalDateTime now = LocalDateTime.now();
+        for (ResumeTaskPO task : tasks) {
+            if (Objects.equals(task.getAttempts(), 1) && Objects.nonNull(task.getStartTime())) {
+                taskAdmissionService.recordQueueWait(Duration.between(task.getStartTime(), now));
+            }
+            try {
+                resumeTaskCancellationService.submit(task.getTaskId(), resumeTaskExecutor,
+                        () -> resumeApplicationService.processResumeTask(task, workerId));
+            } catch (TaskRejectedException e) {
+                log.warn("线程池已满，释放任务租约，taskId: {}", task.getTaskId());
+                resumeTaskService.releaseLease(task.getTaskId(), workerId);
+            }
+        }
+    }
+
+    /**
+     * 为本节点正在执行的任务续租
+     * <p>
+     * 在独立的心跳调度器上执行，领取任务等其他定时任务变慢时不会推迟续租导致租约过期
+     */
+    @Scheduled(initialDelayString = "${jobspark.task.queue.heartbeat-interval-ms:30000}",
+            fixedDelayString = "${jobspark.task.queue.heartbeat-interval-ms:30000}",
+            scheduler = "taskHeartbeatScheduler")
+    public void renewLeases() {
+        List<String> runningTaskIds = resumeTaskCancellationService.runningTaskIds();
+        if (CollectionUtils.isEmpty(runningTaskIds)) {
+            return;
+        }
+
+        try {
+            resumeTaskService.renewLeases(workerId, runningTaskIds);
+        } catch (Exception e) {
+            log.error("任务续租失败，workerId: {}, 任务数: {}", workerId, runningTaskIds.size(), e);
+        }
+    }
+
+    private static String resolveWorkerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
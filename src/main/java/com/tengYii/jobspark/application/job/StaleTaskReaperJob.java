@@ -0,0 +1,81 @@
+package com.tengYii.jobspark.application.job;
+
+import com.tengYii.jobspark.common.utils.RedisUtil;
+import com.tengYii.jobspark.domain.service.ResumeTaskService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 超时任务回收任务
+ * <p>
+ * 实例宕机时其任务的租约不再续期，过期后由工作节点直接重新领取；实例存活但执行线程卡死时租约会一直续期，
+ * 由本任务按各阶段的最长停留时间回收，未超过最大执行次数的重新排队，否则转入重试耗尽状态。
+ * 多实例部署时通过Redis锁保证同一时刻只有一个实例运行。
+ */
+@Slf4j
+@Component
+public class StaleTaskReaperJob {
+
+    /**
+     * 回收任务锁
+     */
+    private static final String LOCK_KEY = "task:reaper:lock";
+
+    @Autowired
+    private ResumeTaskService resumeTaskService;
+
+    @Autowired
+    private RedisUtil redisUtil;
+
+    /**
+     * 是否开启超时任务回收
+     */
+    @Value("${jobspark.task.reaper.enabled:true}")
+    private boolean reaperEnabled;
+
+    /**
+     * 单次最多回收的任务数
+     */
+    @Value("${jobspark.task.reaper.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * 任务锁过期时间（秒），需大于单次运行的最长耗时
+     */
+    @Value("${jobspark.task.reaper.lock-ttl-seconds:60}")
+    private long lockTtlSeconds;
+
+    /**
+     * 执行一轮回收
+     */
+    @Scheduled(initialDelayString = "${jobspark.task.reaper.initial-delay-ms:30000}",
+            fixedDelayString = "${jobspark.task.reaper.fixed-delay-ms:60000}")
+    public void reapStaleTasks() {
+        if (!reaperEnabled) {
+            return;
+        }
+
+        String owner = UUID.randomUUID().toString();
+        if (!redisUtil.tryLock(LOCK_KEY, owner, lockTtlSeconds, TimeUnit.SECONDS)) {
+            log.debug("超时任务回收正在其他实例运行，本次跳过");
+            return;
+        }
+
+        try {
+            int reaped = resumeTaskService.reapStaleTasks("reaper-" + owner.substring(0, 8), batchSize);
+            if (reaped > 0) {
+                log.info("超时任务回收本轮完成，回收任务: {}", reaped);
+            }
+        } catch (Exception e) {
+            log.error("超时任务回收执行异常", e);
+        } finally {
+            redisUtil.unlock(LOCK_KEY, owner);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.tengYii.jobspark.application.job;
+
+import com.tengYii.jobspark.domain.service.TaskAdmissionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 任务队列统计刷新任务
+ * <p>
+ * 定期统计任务队列深度与完成速率，供上传准入判断和指标上报使用，上传请求本身不查询数据库。
+ * 每个实例各自统计（只读从库），无需加锁。
+ */
+@Slf4j
+@Component
+public class TaskAdmissionRefreshJob {
+
+    @Autowired
+    private TaskAdmissionService taskAdmissionService;
+
+    /**
+     * 刷新任务队列统计
+     */
+    @Scheduled(initialDelayString = "${jobspark.task.admission.initial-delay-ms:5000}",
+            fixedDelayString = "${jobspark.task.admission.refresh-interval-ms:2000}")
+    public void refreshQueueStats() {
+        try {
+            taskAdmissionService.refresh();
+        } catch (Exception e) {
+            // 统计失败时保留上一次的统计结果
+            log.error("刷新任务队列统计失败", e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.tengYii.jobspark.application.job;
+
+import com.tengYii.jobspark.domain.service.TaskEtaEstimator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 任务阶段耗时统计刷新任务
+ * <p>
+ * 定期从近期已完成的任务重新统计各阶段耗时分位数，使进度与剩余时间预估跟随模型延迟、简历大小的变化。
+ * 每个实例各自统计（只读从库），无需加锁。
+ */
+@Slf4j
+@Component
+public class TaskEtaRefreshJob {
+
+    @Autowired
+    private TaskEtaEstimator taskEtaEstimator;
+
+    /**
+     * 刷新各阶段耗时统计
+     */
+    @Scheduled(initialDelayString = "${jobspark.task.eta.initial-delay-ms:10000}",
+            fixedDelayString = "${jobspark.task.eta.refresh-interval-ms:300000}")
+    public void refreshStageDurations() {
+        try {
+            taskEtaEstimator.refresh();
+        } catch (Exception e) {
+            // 统计失败时保留上一次的统计结果
+            log.error("刷新任务阶段耗时统计失败", e);
+        }
+    }
+}
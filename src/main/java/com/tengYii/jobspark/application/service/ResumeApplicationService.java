@@ -2,13 +2,20 @@ package com.tengYii.jobspark.application.service;
 
 import com.tengYii.jobspark.dto.request.ResumeOptimizedDownloadRequest;
 import com.tengYii.jobspark.dto.request.ResumeOptimizeRequest;
+import com.tengYii.jobspark.dto.response.CursorPageResponse;
 import com.tengYii.jobspark.dto.response.ResumeDetailResponse;
+import com.tengYii.jobspark.dto.response.ResumeSearchResponse;
+import com.tengYii.jobspark.dto.response.ResumeSummaryResponse;
 import com.tengYii.jobspark.dto.response.ResumeOptimizedResponse;
 import com.tengYii.jobspark.dto.response.ResumeUploadAsyncResponse;
 import com.tengYii.jobspark.dto.request.ResumeUploadRequest;
 import com.tengYii.jobspark.dto.response.TaskStatusResponse;
+import com.tengYii.jobspark.model.po.ResumeTaskPO;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ResumeApplicationService {
 
@@ -21,6 +28,14 @@ public interface ResumeApplicationService {
      */
     ResumeUploadAsyncResponse uploadAndParseResumeAsync(ResumeUploadRequest request);
 
+    /**
+     * 执行已领取的简历解析任务（由任务队列工作线程调用）
+     *
+     * @param taskPO     领取到的任务
+     * @param leaseOwner 持有租约的工作节点
+     */
+    void processResumeTask(ResumeTaskPO taskPO, String leaseOwner);
+
     /**
      * 获取优化后的简历信息
      *
@@ -46,21 +61,88 @@ public interface ResumeApplicationService {
     TaskStatusResponse getTaskStatus(String taskId);
 
     /**
-     * 获取用户任务列表
+     * 批量获取用户的任务状态
      *
-     * @param userId 用户ID（可选）
+     * @param userId  用户ID
+     * @param taskIds 任务ID列表
+     * @return 任务状态列表，按请求顺序排列，不存在或不属于该用户的任务不返回
+     */
+    List<TaskStatusResponse> getTaskStatuses(Long userId, List<String> taskIds);
+
+    /**
+     * 订阅任务状态变更
+     * <p>
+     * 订阅后立即推送一次当前状态，之后每次状态变更推送最新状态。
+     *
+     * @param userId   用户ID
+     * @param taskId   任务ID
+     * @param listener 任务状态监听器
+     * @return 取消订阅操作，连接关闭时必须调用
+     */
+    Runnable subscribeTaskStatus(Long userId, String taskId, Consumer<TaskStatusResponse> listener);
+
+    /**
+     * 获取用户最近的任务列表（最多 {@link com.tengYii.jobspark.common.utils.PageCursorUtil#MAX_PAGE_SIZE} 条）
+     *
+     * @param userId 用户ID
      * @param status 任务状态（可选）
      * @return 任务列表
+     * @deprecated 只返回第一页，使用 {@link #getUserTaskPage(Long, String, String, Integer)} 分页获取
      */
+    @Deprecated
     List<TaskStatusResponse> getUserTasks(Long userId, String status);
 
     /**
-     * 获取用户简历列表
+     * 按游标分页获取用户任务列表
      *
      * @param userId 用户ID
-     * @return 简历列表
+     * @param status 任务状态（可选）
+     * @param cursor 分页游标，为空表示第一页
+     * @param size   每页条数
+     * @return 任务分页结果
+     */
+    CursorPageResponse<TaskStatusResponse> getUserTaskPage(Long userId, String status, String cursor, Integer size);
+
+    /**
+     * 按游标分页获取用户简历列表（完整简历）
+     *
+     * @param userId 用户ID
+     * @param cursor 分页游标，为空表示第一页
+     * @param size   每页条数
+     * @return 简历分页结果
+     */
+    CursorPageResponse<ResumeDetailResponse> getResumeList(Long userId, String cursor, Integer size);
+
+    /**
+     * 按游标分页获取用户简历摘要列表
+     *
+     * @param userId 用户ID
+     * @param cursor 分页游标，为空表示第一页
+     * @param size   每页条数
+     * @return 简历摘要分页结果
+     */
+    CursorPageResponse<ResumeSummaryResponse> getResumeSummaryPage(Long userId, String cursor, Integer size);
+
+    /**
+     * 按关键词、学历检索用户的简历
+     *
+     * @param userId  用户ID
+     * @param keyword 关键词（匹配摘要、经历描述、亮点及技能名称），可为空
+     * @param degree  学历，可为空，与关键词不能同时为空
+     * @param size    最多返回的简历数量
+     * @return 命中的简历及片段，按相关度倒序
+     */
+    List<ResumeSearchResponse> searchResumes(Long userId, String keyword, String degree, Integer size);
+
+    /**
+     * 以NDJSON格式流式导出用户的全部简历（每行一份简历详情）
+     *
+     * @param userId       用户ID
+     * @param gzip         是否gzip压缩输出
+     * @param outputStream 输出流（由调用方关闭）
+     * @throws IOException 写出失败（通常为客户端断开连接）
      */
-    List<ResumeDetailResponse> getResumeList(Long userId);
+    void exportResumes(Long userId, boolean gzip, OutputStream outputStream) throws IOException;
 
     /**
      * 获取简历详情
@@ -4,8 +4,12 @@ import com.tengYii.jobspark.application.service.ResumeApplicationService;
 import com.tengYii.jobspark.common.enums.DeleteFlagEnum;
 import com.tengYii.jobspark.common.enums.DownloadFileTypeEnum;
 import com.tengYii.jobspark.common.enums.ResultCodeEnum;
+import com.tengYii.jobspark.common.enums.TaskStageEnum;
 import com.tengYii.jobspark.common.enums.TaskStatusEnum;
 import com.tengYii.jobspark.common.exception.BusinessException;
+import com.tengYii.jobspark.common.exception.ValidationException;
+import com.tengYii.jobspark.common.utils.PageCursorUtil;
+import com.tengYii.jobspark.common.utils.SearchSnippetUtil;
 import com.tengYii.jobspark.common.utils.SnowflakeUtil;
 import com.tengYii.jobspark.config.cv.DocxConfig;
 import com.tengYii.jobspark.config.cv.HtmlConfig;
@@ -20,16 +24,26 @@ import com.tengYii.jobspark.domain.render.pdf.PdfService;
 import com.tengYii.jobspark.domain.service.*;
 import com.tengYii.jobspark.dto.request.ResumeOptimizedDownloadRequest;
 import com.tengYii.jobspark.dto.request.ResumeOptimizeRequest;
+import com.tengYii.jobspark.dto.response.CursorPageResponse;
 import com.tengYii.jobspark.dto.response.ResumeDetailResponse;
 import com.tengYii.jobspark.dto.response.ResumeOptimizedResponse;
+import com.tengYii.jobspark.dto.response.ResumeSearchResponse;
+import com.tengYii.jobspark.dto.response.ResumeSummaryResponse;
+import com.tengYii.jobspark.infrastructure.context.DataSourceRoutingContext;
 import com.tengYii.jobspark.infrastructure.repo.CvRepository;
 import com.tengYii.jobspark.model.bo.CvBO;
+import com.tengYii.jobspark.model.bo.CvSearchHitBO;
+import com.tengYii.jobspark.model.bo.CvSectionCountBO;
+import com.tengYii.jobspark.model.bo.PageCursorBO;
+import com.tengYii.jobspark.model.bo.TaskEstimateBO;
 import com.tengYii.jobspark.dto.response.FileStorageResultDTO;
 import com.tengYii.jobspark.dto.response.ResumeUploadAsyncResponse;
 import com.tengYii.jobspark.dto.request.ResumeUploadRequest;
 import com.tengYii.jobspark.dto.response.TaskStatusResponse;
 import com.tengYii.jobspark.model.po.CvPO;
 import com.tengYii.jobspark.model.po.ResumeTaskPO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.langchain4j.agentic.AgenticServices;
 import dev.langchain4j.model.chat.ChatModel;
 import jakarta.annotation.Resource;
@@ -39,20 +53,27 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StopWatch;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 
 @Slf4j
@@ -78,8 +99,11 @@ public class ResumeApplicationServiceImpl implements ResumeApplicationService {
     @Autowired
     private CvRepository cvRepository;
 
-    @Resource(name = "resumeTaskExecutor")
-    private Executor resumeTaskExecutor;
+    @Autowired
+    private ResumeCacheService resumeCacheService;
+
+    @Autowired
+    private DataSourceRoutingContext dataSourceRoutingContext;
 
     @Autowired
     private ResumeRagService resumeRagService;
@@ -87,32 +111,47 @@ public class ResumeApplicationServiceImpl implements ResumeApplicationService {
     @Resource(name = "chatModel")
     private ChatModel chatModel;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ResumeTaskEventService resumeTaskEventService;
+
+    @Autowired
+    private TaskEtaEstimator taskEtaEstimator;
+
+    @Autowired
+    private ResumeTaskCancellationService resumeTaskCancellationService;
+
+    @Autowired
+    private TaskAdmissionService taskAdmissionService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TaskStageTimingService taskStageTimingService;
+
     /**
-     * 任务处理阶段预估总耗时（秒）
-     */
-    private static final long PROCESSING_ESTIMATED_TOTAL_SECONDS = 70L;
-    /**
-     * 任务处理阶段最小剩余时间（秒）
+     * 简历检索默认返回的简历数量
      */
-    private static final long PROCESSING_MIN_REMAINING_SECONDS = 65L;
-
+    private static final int SEARCH_DEFAULT_SIZE = 10;
     /**
-     * 任务解析阶段预估总耗时（秒）
+     * 简历检索最多返回的简历数量
      */
-    private static final long ANALYZING_ESTIMATED_TOTAL_SECONDS = 70L;
+    private static final int SEARCH_MAX_SIZE = 50;
     /**
-     * 任务解析阶段最小剩余时间（秒）
+     * 简历检索关键词最大长度
      */
-    private static final long ANALYZING_MIN_REMAINING_SECONDS = 10L;
-
+    private static final int SEARCH_KEYWORD_MAX_LENGTH = 50;
     /**
-     * 任务保存阶段预估总耗时（秒）
+     * 每份简历最多返回的命中片段数量
      */
-    private static final long SAVING_ESTIMATED_TOTAL_SECONDS = 75L;
+    private static final int SEARCH_SNIPPETS_PER_RESUME = 3;
     /**
-     * 任务保存阶段最小剩余时间（秒）
+     * 批量查询任务状态的最大任务数
      */
-    private static final long SAVING_MIN_REMAINING_SECONDS = 3L;
+    private static final int TASK_STATUS_BATCH_MAX_SIZE = 50;
 
     /**
      * 上传简历
@@ -122,8 +161,12 @@ public class ResumeApplicationServiceImpl implements ResumeApplicationService {
      * @return 简历上传响应对象
      */
     public ResumeUploadAsyncResponse uploadAndParseResumeAsync(ResumeUploadRequest request) {
+        // 排队已满时直接拒绝（429），不再保存文件
+        taskAdmissionService.checkAdmission();
+
         try {
             // 1. 立即保存文件（快速操作）
+            long uploadStartMillis = System.currentTimeMillis();
             FileStorageResultDTO storageResultDTO = fileStorageService.saveUploadedFile(request.getFile(), null);
 
             // 2. 生成任务ID
@@ -141,23 +184,26 @@ public class ResumeApplicationServiceImpl implements ResumeApplicationService {
                     .contentType(request.getFile().getContentType())
                     .filePath(storageResultDTO.getFilePath())
                     .status(TaskStatusEnum.PROCESSING.getCode())
+                    .modelName(chatModel.defaultRequestParameters().modelName())
+                    .attempts(0)
+                    .nextRunTime(nowTime)
                     .startTime(nowTime)
                     .createTime(nowTime)
                     .updateTime(nowTime)
                     .deleteFlag(DeleteFlagEnum.NOT_DELETED.getCode())
                     .build();
 
+            // 任务记录即队列消息，由任意节点的工作线程领取执行，服务重启不会丢失
             Boolean saveTaskSuccessFlag = resumeTaskService.saveTask(taskPO);
             if (Boolean.FALSE.equals(saveTaskSuccessFlag)) {
                 log.error("简历上传解析，创建异步任务记录失败，userId: {}", userId);
+                return ResumeUploadAsyncResponse.failure(request.getFile().getOriginalFilename(), "创建解析任务失败");
             }
+            // 紧随其后的任务列表查询走主库，避免从库延迟导致查不到刚创建的任务
+            dataSourceRoutingContext.markWrite(userId);
+            taskStageTimingService.record(taskId, null, TaskStageEnum.UPLOAD, uploadStartMillis, null);
 
-            // 4. 异步执行耗时操作
-            CompletableFuture.runAsync(() -> {
-                processResumeAsync(userId, taskId, storageResultDTO.getUniqueFileName());
-            }, resumeTaskExecutor);
-
-            // 5. 立即返回任务ID
+            // 4. 立即返回任务ID
             return ResumeUploadAsyncResponse.success(taskId, storageResultDTO.getUniqueFileName());
 
         } catch (Exception e) {
@@ -167,48 +213,79 @@ public class ResumeApplicationServiceImpl implements ResumeApplicationService {
     }
 
     /**
-     * 异步处理简历解析
+     * 执行已领取的简历解析任务
+     * <p>
+     * 每次状态变更都会校验并续租，租约丢失（被其他节点接管）或任务已被取消时停止处理；
+     * 任务被取消时执行线程会被中断，正在进行的大模型调用随之终止，阶段之间再检查一次取消标记。
+     * 执行失败时按指数退避重新排队，超过最大执行次数后转入重试耗尽状态。
      *
-     * @param userId   用户ID
-     * @param taskId   任务ID
-     * @param fileName 存储文件名称
+     * @param taskPO     领取到的任务
+     * @param leaseOwner 持有租约的工作节点
      */
-    @Async
-    private void processResumeAsync(Long userId, String taskId, String fileName) {
+    @Override
+    public void processResumeTask(ResumeTaskPO taskPO, String leaseOwner) {
+        String taskId = taskPO.getTaskId();
+        if (resumeTaskService.deadLetterIfExhausted(taskPO, leaseOwner)) {
+            return;
+        }
 
-        Long resumeId = -1L;
         LocalDateTime nowTime = LocalDateTime.now();
         try {
             // 更新任务状态为解析中
-            Boolean updateTaskStatus = resumeTaskService.updateTaskStatus(taskId, TaskStatusEnum.ANALYZING);
-            if (Boolean.FALSE.equals(updateTaskStatus)) {
-                log.error("异步处理简历解析，更新异步任务状态失败，taskId: {}", taskId);
+            if (Boolean.FALSE.equals(resumeTaskService.updateTaskStatus(taskId, leaseOwner, TaskStatusEnum.ANALYZING))) {
+                log.warn("简历解析任务已被接管或取消，停止处理，taskId: {}", taskId);
+                return;
             }
 
-            // 解析简历内容（耗时操作）
-            long currentTimeMillis = System.currentTimeMillis();
-            CvBO cvBO = resumeAnalysisService.analyzeResumeFile(fileName);
-            cvBO.setUserId(userId);
-            log.info("解析简历内容耗时:{} ms", System.currentTimeMillis() - currentTimeMillis);
+            // 解析简历内容（耗时操作，文本提取与大模型解析的耗时分别记录）
+            CvBO cvBO = resumeAnalysisService.analyzeResumeFile(taskId, taskPO.getFileName());
+            cvBO.setUserId(taskPO.getUserId());
 
-            // 更新任务状态为存储中
-            updateTaskStatus = resumeTaskService.updateTaskStatus(taskId, TaskStatusEnum.SAVING);
-            if (Boolean.FALSE.equals(updateTaskStatus)) {
-                log.error("异步处理简历解析，更新异步任务状态失败，taskId: {}", taskId);
+            // 解析期间任务被取消时不再落库
+            if (resumeTaskCancellationService.isCancelled(taskId)) {
+                log.info("简历解析任务已取消，停止处理，taskId: {}", taskId);
+                return;
             }
 
-            // 将结构化简历对象落库（耗时操作）
-            resumeId = resumePersistenceService.convertAndSaveCv(cvBO, nowTime);
+            // 更新任务状态为存储中
+            if (Boolean.FALSE.equals(resumeTaskService.updateTaskStatus(taskId, leaseOwner, TaskStatusEnum.SAVING))) {
+                log.warn("简历解析任务已被接管或取消，停止处理，taskId: {}", taskId);
+                return;
+            }
 
-            // 更新任务状态为完成
-            Boolean completed = resumeTaskService.completeTask(taskId, resumeId);
-            if (completed) {
-                log.info("任务完成，taskId: {}, resumeId: {}", taskId, resumeId);
+            // 简历落库与任务完成在同一事务中：租约已被接管或任务已取消时完成失败，回滚已写入的简历，
+            // 任务被重新执行时不会产生重复简历
+            long persistStartMillis = System.currentTimeMillis();
+            Long resumeId;
+            try {
+                resumeId = transactionTemplate.execute(status -> {
+                    Long savedResumeId = resumePersistenceService.convertAndSaveCv(cvBO, nowTime);
+                    if (Boolean.FALSE.equals(resumeTaskService.completeTask(taskId, leaseOwner, savedResumeId))) {
+                        status.setRollbackOnly();
+                        return null;
+                    }
+                    return savedResumeId;
+                });
+            } catch (RuntimeException e) {
+                taskStageTimingService.recordFailure(taskId, null, TaskStageEnum.PERSIST, persistStartMillis, e.getMessage());
+                throw e;
+            }
+            if (Objects.nonNull(resumeId)) {
+                taskStageTimingService.record(taskId, resumeId, TaskStageEnum.PERSIST, persistStartMillis, null);
+                log.info("任务完成，taskId: {}, resumeId: {}, 执行次数: {}", taskId, resumeId, taskPO.getAttempts());
+            } else {
+                taskStageTimingService.recordFailure(taskId, null, TaskStageEnum.PERSIST, persistStartMillis,
+                        "任务已被接管或取消，落库已回滚");
+                log.warn("简历解析任务已被接管或取消，已回滚落库的简历，taskId: {}", taskId);
             }
         } catch (Exception e) {
-            log.error("异步处理简历失败，taskId: {}", taskId, e);
-            // 更新任务状态为失败
-            resumeTaskService.failTask(taskId, resumeId, e.getMessage());
+            if (resumeTaskCancellationService.isCancelled(taskId)) {
+                // 取消导致的中断异常，任务已是终态，无需重试
+                log.info("简历解析任务已取消，执行已中断，taskId: {}", taskId);
+                return;
+            }
+            log.error("处理简历解析任务失败，taskId: {}, 执行次数: {}", taskId, taskPO.getAttempts(), e);
+            resumeTaskService.retryOrDeadLetter(taskPO, leaseOwner, e.getMessage());
         }
     }
 
@@ -227,19 +304,14 @@ public class ResumeApplicationServiceImpl implements ResumeApplicationService {
         log.info("简历优化开始：userId:{}, resumeId: {}, jobDescription: {}", userId, resumeId, jobDescription);
 
         StopWatch stopWatch = new StopWatch("简历优化");
-        stopWatch.start("根据条件查询简历对象");
+        stopWatch.start("获取简历bo对象");
         // 使用用户Id进行校验
-        CvPO cvPO = cvRepository.getCvByCondition(resumeId, userId);
-        if (Objects.isNull(cvPO)) {
+        CvBO cvBO = loadCvBO(resumeId, userId);
+        if (Objects.isNull(cvBO)) {
             throw new BusinessException(ResultCodeEnum.RESUME_NOT_FOUND, "简历不存在，请重新上传简历");
         }
         stopWatch.stop();
 
-        // 获取简历bo对象
-        stopWatch.start("转换简历bo对象");
-        CvBO cvBO = resumePersistenceService.convertToCvBO(cvPO);
-        stopWatch.stop();
-
         // 检索参考模板 (RAG)
         stopWatch.start("检索优秀简历模板");
         List<String> referenceTemplates = resumeRagService.retrieveTemplates(jobDescription, 3);
@@ -255,8 +327,8 @@ public class ResumeApplicationServiceImpl implements ResumeApplicationService {
         stopWatch.start("优化后简历保存");
         // 设置当前时间用于保存
         LocalDateTime nowTime = LocalDateTime.now();
-        // 将优化后的简历保存到数据库，并获取新的简历ID
-        Long newResumeId = resumePersistenceService.convertAndSaveCv(optimizeCv, nowTime);
+        // 将优化后的简历作为原简历的新版本保存（未改动的模块共享原简历数据），并获取新的简历ID
+        Long newResumeId = resumePersistenceService.convertAndSaveCvVersion(optimizeCv, resumeId, nowTime);
         log.info("优化后简历已保存，newResumeId: {}", newResumeId);
         stopWatch.stop();
 
@@ -292,13 +364,10 @@ public class ResumeApplicationServiceImpl implements ResumeApplicationService {
 
             stopWatch.start("获取简历bo对象");
             // 使用用户Id进行校验
-            CvPO cvPO = cvRepository.getCvByCondition(resumeId, request.getUserId());
-            if (Objects.isNull(cvPO)) {
+            CvBO cvBO = loadCvBO(resumeId, request.getUserId());
+            if (Objects.isNull(cvBO)) {
                 throw new BusinessException(ResultCodeEnum.RESUME_NOT_FOUND, "简历不存在，请重新上传简历");
             }
-
-            // 获取简历bo对象
-            CvBO cvBO = resumePersistenceService.convertToCvBO(cvPO);
             stopWatch.stop();
 
             // 第一步：CvBO -> Markdown
@@ -541,7 +610,9 @@ public class ResumeApplicationServiceImpl implements ResumeApplicationService {
         }
 
         try {
-            ResumeTaskPO taskPO = resumeTaskService.getByTaskId(taskId);
+            // 轮询请求读取写穿的Redis任务状态；未命中时回源主库，避免从库延迟导致回填旧状态
+            ResumeTaskPO taskPO = resumeTaskService.getTaskThroughCache(taskId,
+                    () -> dataSourceRoutingContext.onPrimary(() -> resumeTaskService.getByTaskId(taskId)));
             if (Objects.isNull(taskPO)) {
                 log.warn("获取任务状态失败，任务不存在，taskId: {}", taskId);
                 return null;
@@ -555,16 +626,86 @@ public class ResumeApplicationServiceImpl implements ResumeApplicationService {
     }
 
     /**
-     * 获取用户任务列表
+     * 批量获取用户的任务状态
+     * <p>
+     * 一次管道读取所有任务的Redis状态，未命中的任务通过一次 IN 查询回源主库并回填。
+     *
+     * @param userId  用户ID
+     * @param taskIds 任务ID列表
+     * @return 任务状态列表，按请求顺序排列，不存在或不属于该用户的任务不返回
+     */
+    @Override
+    public List<TaskStatusResponse> getTaskStatuses(Long userId, List<String> taskIds) {
+        List<String> distinctTaskIds = CollectionUtils.emptyIfNull(taskIds).stream()
+                .filter(StringUtils::isNotEmpty)
+                .distinct()
+                .collect(Collectors.toList());
+        if (CollectionUtils.isEmpty(distinctTaskIds)) {
+            throw new ValidationException(ResultCodeEnum.PARAM_ERROR, "任务ID不能为空");
+        }
+        if (distinctTaskIds.size() > TASK_STATUS_BATCH_MAX_SIZE) {
+            throw new ValidationException(ResultCodeEnum.PARAM_ERROR, "单次最多查询" + TASK_STATUS_BATCH_MAX_SIZE + "个任务");
+        }
+
+        Map<String, ResumeTaskPO> taskMap = resumeTaskService.getTasksThroughCache(distinctTaskIds,
+                missedTaskIds -> dataSourceRoutingContext.onPrimary(() -> resumeTaskService.listByTaskIds(missedTaskIds)));
+        return distinctTaskIds.stream()
+                .map(taskMap::get)
+                .filter(taskPO -> Objects.nonNull(taskPO) && Objects.equals(taskPO.getUserId(), userId))
+                .map(this::convertToTaskStatusResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 订阅任务状态变更
+     * <p>
+     * 先订阅再推送当前状态，避免读取当前状态与订阅之间发生的状态变更丢失；
+     * 事件只作为变更通知，每次推送都读取最新的任务状态（优先读Redis）。
      *
-     * @param userId 用户ID（可选）
+     * @param userId   用户ID
+     * @param taskId   任务ID
+     * @param listener 任务状态监听器
+     * @return 取消订阅操作
+     */
+    @Override
+    public Runnable subscribeTaskStatus(Long userId, String taskId, Consumer<TaskStatusResponse> listener) {
+        Supplier<ResumeTaskPO> taskLoader = () -> resumeTaskService.getTaskThroughCache(taskId,
+                () -> dataSourceRoutingContext.onPrimary(() -> resumeTaskService.getByTaskId(taskId)));
+
+        ResumeTaskPO taskPO = taskLoader.get();
+        if (Objects.isNull(taskPO) || !Objects.equals(taskPO.getUserId(), userId)) {
+            throw new BusinessException(ResultCodeEnum.TASK_NOT_FOUND);
+        }
+        if (TaskStatusEnum.isTerminal(taskPO.getStatus())) {
+            // 任务已结束，不会再有状态变更
+            listener.accept(convertToTaskStatusResponse(taskPO));
+            return () -> {
+            };
+        }
+
+        Runnable unsubscribe = resumeTaskEventService.subscribe(taskId,
+                event -> listener.accept(convertToTaskStatusResponse(taskLoader.get())));
+        listener.accept(convertToTaskStatusResponse(taskLoader.get()));
+        return unsubscribe;
+    }
+
+    /**
+     * 获取用户最近的任务列表（最多一页）
+     *
+     * @param userId 用户ID
      * @param status 任务状态（可选）
      * @return 任务列表
      */
     @Override
+    @Deprecated
     public List<TaskStatusResponse> getUserTasks(Long userId, String status) {
+        if (Objects.isNull(userId)) {
+            return new ArrayList<>();
+        }
+
         try {
-            List<ResumeTaskPO> taskPOList = resumeTaskService.getUserTasks(userId, status);
+            List<ResumeTaskPO> taskPOList = dataSourceRoutingContext.readForUser(userId,
+                    () -> resumeTaskService.pageUserTasks(userId, status, null, PageCursorUtil.MAX_PAGE_SIZE));
 
             if (CollectionUtils.isEmpty(taskPOList)) {
                 return new ArrayList<>();
@@ -585,6 +726,55 @@ public class ResumeApplicationServiceImpl implements ResumeApplicationService {
         }
     }
 
+    /**
+     * 按游标分页获取用户任务列表
+     *
+     * @param userId 用户ID
+     * @param status 任务状态（可选）
+     * @param cursor 分页游标，为空表示第一页
+     * @param size   每页条数
+     * @return 任务分页结果
+     */
+    @Override
+    public CursorPageResponse<TaskStatusResponse> getUserTaskPage(Long userId, String status, String cursor, Integer size) {
+        if (Objects.isNull(userId)) {
+            return buildEmptyPage();
+        }
+
+        PageCursorBO pageCursor = PageCursorUtil.decode(cursor);
+        int pageSize = PageCursorUtil.normalizeSize(size);
+        try {
+            // 多查一条用于判断是否还有下一页
+            List<ResumeTaskPO> taskPOList = dataSourceRoutingContext.readForUser(userId,
+                    () -> resumeTaskService.pageUserTasks(userId, status, pageCursor, pageSize + 1));
+            boolean hasMore = taskPOList.size() > pageSize;
+            if (hasMore) {
+                taskPOList = taskPOList.subList(0, pageSize);
+            }
+            if (CollectionUtils.isEmpty(taskPOList)) {
+                return buildEmptyPage();
+            }
+
+            List<TaskStatusResponse> responseList = new ArrayList<>(taskPOList.size());
+            for (ResumeTaskPO taskPO : taskPOList) {
+                TaskStatusResponse response = convertToTaskStatusResponse(taskPO);
+                if (Objects.nonNull(response)) {
+                    responseList.add(response);
+                }
+            }
+
+            ResumeTaskPO lastTaskPO = taskPOList.get(taskPOList.size() - 1);
+            return CursorPageResponse.<TaskStatusResponse>builder()
+                    .items(responseList)
+                    .hasMore(hasMore)
+                    .nextCursor(hasMore ? PageCursorUtil.encode(lastTaskPO.getCreateTime(), lastTaskPO.getId()) : null)
+                    .build();
+        } catch (Exception e) {
+            log.error("获取用户任务列表异常，userId: {}, status: {}", userId, status, e);
+            throw new BusinessException(ResultCodeEnum.SYSTEM_ERROR, "获取任务列表失败");
+        }
+    }
+
     /**
      * 取消任务
      *
@@ -599,23 +789,14 @@ public class ResumeApplicationServiceImpl implements ResumeApplicationService {
         }
 
         try {
-            ResumeTaskPO taskPO = resumeTaskService.getByTaskId(taskId);
-            if (Objects.isNull(taskPO)) {
-                log.warn("取消任务失败，任务不存在，taskId: {}", taskId);
-                return Boolean.FALSE;
-            }
-
-            // 只有处理中、解析中、存储中的任务才能取消
-            String currentStatus = taskPO.getStatus();
-            if (StringUtils.equals(currentStatus, TaskStatusEnum.COMPLETED.getCode()) ||
-                    StringUtils.equals(currentStatus, TaskStatusEnum.FAILED.getCode())) {
-                log.warn("取消任务失败，任务已完成或失败，taskId: {}, status: {}", taskId, currentStatus);
+            // 只有处理中、解析中、存储中的任务才能取消：单条条件更新为失败，与任务完成并发时只有一方成功；
+            // 状态事件广播到各节点，执行该任务的节点收到后中断执行线程
+            Boolean cancelled = resumeTaskService.failTask(taskId, null, "任务已被用户取消");
+            if (Boolean.FALSE.equals(cancelled)) {
+                log.warn("取消任务失败，任务不存在或已结束，taskId: {}", taskId);
                 return Boolean.FALSE;
             }
 
-            // 更新任务状态为失败，并设置错误信息
-            resumeTaskService.failTask(taskId, taskPO.getResumeId(), "任务已被用户取消");
-
             log.info("任务取消成功，taskId: {}", taskId);
             return Boolean.TRUE;
         } catch (Exception e) {
@@ -625,29 +806,39 @@ public class ResumeApplicationServiceImpl implements ResumeApplicationService {
     }
 
     /**
-     * 获取指定用户的简历列表
+     * 按游标分页获取指定用户的简历列表
      *
      * @param userId 用户ID
-     * @return 简历详情列表
+     * @param cursor 分页游标，为空表示第一页
+     * @param size   每页条数
+     * @return 简历详情分页结果
      */
     @Override
-    public List<ResumeDetailResponse> getResumeList(Long userId) {
-        log.info("获取用户简历列表，userId: {}", userId);
+    public CursorPageResponse<ResumeDetailResponse> getResumeList(Long userId, String cursor, Integer size) {
+        log.info("获取用户简历列表，userId: {}, cursor: {}, size: {}", userId, cursor, size);
         if (Objects.isNull(userId)) {
-            return new ArrayList<>();
+            return buildEmptyPage();
         }
 
+        PageCursorBO pageCursor = PageCursorUtil.decode(cursor);
+        int pageSize = PageCursorUtil.normalizeSize(size);
         try {
-
-            List<CvPO> cvPOList = cvRepository.getCvByCondition(userId);
+            // 多查一条用于判断是否还有下一页
+            List<CvPO> pagedCvPOList = dataSourceRoutingContext.readForUser(userId,
+                    () -> cvRepository.pageByUser(userId, pageCursor, pageSize + 1));
+            boolean hasMore = pagedCvPOList.size() > pageSize;
+            List<CvPO> cvPOList = hasMore ? pagedCvPOList.subList(0, pageSize) : pagedCvPOList;
             if (CollectionUtils.isEmpty(cvPOList)) {
-                return new ArrayList<>();
+                return buildEmptyPage();
             }
 
+            // 批量将PO转换为BO，各子表只查询一次
+            List<CvBO> cvBOList = dataSourceRoutingContext.readForUser(userId,
+                    () -> resumePersistenceService.convertToCvBOList(cvPOList));
+
             List<ResumeDetailResponse> responseList = new ArrayList<>();
-            for (CvPO cvPO : cvPOList) {
-                // 将PO转换为BO，获取结构化数据
-                CvBO cvBO = resumePersistenceService.convertToCvBO(cvPO);
+            for (int i = 0; i < cvPOList.size(); i++) {
+                CvBO cvBO = cvBOList.get(i);
                 if (Objects.isNull(cvBO)) {
                     continue;
                 }
@@ -657,17 +848,216 @@ public class ResumeApplicationServiceImpl implements ResumeApplicationService {
                 // 复制BO属性到响应对象
                 BeanUtils.copyProperties(cvBO, response);
                 // 设置简历主键ID
-                response.setResumeId(String.valueOf(cvPO.getId()));
+                response.setResumeId(String.valueOf(cvPOList.get(i).getId()));
 
                 responseList.add(response);
             }
-            return responseList;
+
+            CvPO lastCvPO = cvPOList.get(cvPOList.size() - 1);
+            return CursorPageResponse.<ResumeDetailResponse>builder()
+                    .items(responseList)
+                    .hasMore(hasMore)
+                    .nextCursor(hasMore ? PageCursorUtil.encode(lastCvPO.getUpdatedTime(), lastCvPO.getId()) : null)
+                    .build();
         } catch (Exception e) {
             log.error("获取用户简历列表失败，userId: {}", userId, e);
             throw new BusinessException(ResultCodeEnum.SYSTEM_ERROR, "获取简历列表失败");
         }
     }
 
+    /**
+     * 按游标分页获取指定用户的简历摘要列表
+     *
+     * @param userId 用户ID
+     * @param cursor 分页游标，为空表示第一页
+     * @param size   每页条数
+     * @return 简历摘要分页结果
+     */
+    @Override
+    public CursorPageResponse<ResumeSummaryResponse> getResumeSummaryPage(Long userId, String cursor, Integer size) {
+        log.info("获取用户简历摘要列表，userId: {}, cursor: {}, size: {}", userId, cursor, size);
+        if (Objects.isNull(userId)) {
+            return buildEmptyPage();
+        }
+
+        PageCursorBO pageCursor = PageCursorUtil.decode(cursor);
+        int pageSize = PageCursorUtil.normalizeSize(size);
+        try {
+            // 多查一条用于判断是否还有下一页
+            List<CvPO> cvPOList = dataSourceRoutingContext.readForUser(userId,
+                    () -> cvRepository.pageByUser(userId, pageCursor, pageSize + 1));
+            boolean hasMore = cvPOList.size() > pageSize;
+            if (hasMore) {
+                cvPOList = cvPOList.subList(0, pageSize);
+            }
+            if (CollectionUtils.isEmpty(cvPOList)) {
+                return buildEmptyPage();
+            }
+
+            // 一次查询统计所有简历各模块的条目数量
+            List<Long> cvIds = cvPOList.stream().map(CvPO::getId).collect(Collectors.toList());
+            Map<Long, Map<String, Long>> sectionCountMap = dataSourceRoutingContext.readForUser(userId,
+                    () -> resumePersistenceService.countSectionsByCvIds(cvIds));
+
+            List<ResumeSummaryResponse> responseList = new ArrayList<>(cvPOList.size());
+            for (CvPO cvPO : cvPOList) {
+                Map<String, Long> sectionCount = sectionCountMap.getOrDefault(cvPO.getId(), Collections.emptyMap());
+                responseList.add(ResumeSummaryResponse.builder()
+                        .resumeId(String.valueOf(cvPO.getId()))
+                        .name(cvPO.getName())
+                        .title(cvPO.getTitle())
+                        .updatedTime(cvPO.getUpdatedTime())
+                        .educationCount(sectionCount.getOrDefault(CvSectionCountBO.SECTION_EDUCATION, 0L))
+                        .experienceCount(sectionCount.getOrDefault(CvSectionCountBO.SECTION_EXPERIENCE, 0L))
+                        .projectCount(sectionCount.getOrDefault(CvSectionCountBO.SECTION_PROJECT, 0L))
+                        .skillCount(sectionCount.getOrDefault(CvSectionCountBO.SECTION_SKILL, 0L))
+                        .certificateCount(sectionCount.getOrDefault(CvSectionCountBO.SECTION_CERTIFICATE, 0L))
+                        .build());
+            }
+
+            CvPO lastCvPO = cvPOList.get(cvPOList.size() - 1);
+            return CursorPageResponse.<ResumeSummaryResponse>builder()
+                    .items(responseList)
+                    .hasMore(hasMore)
+                    .nextCursor(hasMore ? PageCursorUtil.encode(lastCvPO.getUpdatedTime(), lastCvPO.getId()) : null)
+                    .build();
+        } catch (Exception e) {
+            log.error("获取用户简历摘要列表失败，userId: {}", userId, e);
+            throw new BusinessException(ResultCodeEnum.SYSTEM_ERROR, "获取简历摘要列表失败");
+        }
+    }
+
+    /**
+     * 按关键词、学历检索用户的简历
+     * <p>
+     * 一次索引查询取回所有命中文本，按简历聚合后截取关键词附近的片段，不加载完整简历。
+     *
+     * @param userId  用户ID
+     * @param keyword 关键词，可为空
+     * @param degree  学历，可为空，与关键词不能同时为空
+     * @param size    最多返回的简历数量
+     * @return 命中的简历及片段，按相关度倒序
+     */
+    @Override
+    public List<ResumeSearchResponse> searchResumes(Long userId, String keyword, String degree, Integer size) {
+        log.info("检索用户简历，userId: {}, keyword: {}, degree: {}, size: {}", userId, keyword, degree, size);
+        if (Objects.isNull(userId)) {
+            return new ArrayList<>();
+        }
+        if (StringUtils.isBlank(keyword) && StringUtils.isBlank(degree)) {
+            throw new ValidationException(ResultCodeEnum.PARAM_ERROR, "关键词与学历不能同时为空");
+        }
+        if (StringUtils.isNotBlank(keyword)
+                && (StringUtils.length(keyword.trim()) > SEARCH_KEYWORD_MAX_LENGTH || Objects.isNull(SearchSnippetUtil.buildSearchTerm(keyword)))) {
+            throw new ValidationException(ResultCodeEnum.PARAM_ERROR, "关键词不合法");
+        }
+        int resumeLimit = Objects.isNull(size) || size <= 0 ? SEARCH_DEFAULT_SIZE : Math.min(size, SEARCH_MAX_SIZE);
+
+        try {
+            // 命中条数按每份简历的片段上限放大，尽量保证凑满简历数量
+            List<CvSearchHitBO> hits = dataSourceRoutingContext.readForUser(userId,
+                    () -> cvRepository.searchByUser(userId, keyword, degree, resumeLimit * SEARCH_SNIPPETS_PER_RESUME));
+
+            // 命中项已按相关度倒序，首次出现的简历即为该简历的最高分
+            Map<Long, ResumeSearchResponse> responseMap = new LinkedHashMap<>();
+            for (CvSearchHitBO hit : hits) {
+                ResumeSearchResponse response = responseMap.get(hit.getCvId());
+                if (Objects.isNull(response)) {
+                    if (responseMap.size() >= resumeLimit) {
+                        continue;
+                    }
+                    response = ResumeSearchResponse.builder()
+                            .resumeId(String.valueOf(hit.getCvId()))
+                            .score(hit.getScore())
+                            .snippets(new ArrayList<>())
+                            .build();
+                    responseMap.put(hit.getCvId(), response);
+                }
+                if (response.getSnippets().size() < SEARCH_SNIPPETS_PER_RESUME) {
+                    response.getSnippets().add(ResumeSearchResponse.Snippet.builder()
+                            .field(hit.getField())
+                            .text(SearchSnippetUtil.snippet(hit.getContent(), keyword, SearchSnippetUtil.DEFAULT_SNIPPET_RADIUS))
+                            .build());
+                }
+            }
+            return new ArrayList<>(responseMap.values());
+        } catch (Exception e) {
+            log.error("检索用户简历失败，userId: {}", userId, e);
+            throw new BusinessException(ResultCodeEnum.SYSTEM_ERROR, "检索简历失败");
+        }
+    }
+
+    /**
+     * 以NDJSON格式流式导出用户的全部简历
+     * <p>
+     * 简历经游标逐行读取、分批组装后立即序列化写出，不在内存中累积，内存占用与简历数量无关。
+     *
+     * @param userId       用户ID
+     * @param gzip         是否gzip压缩输出
+     * @param outputStream 输出流（由调用方关闭）
+     * @throws IOException 写出失败（通常为客户端断开连接）
+     */
+    @Override
+    public void exportResumes(Long userId, boolean gzip, OutputStream outputStream) throws IOException {
+        log.info("导出用户简历开始，userId: {}, gzip: {}", userId, gzip);
+        GZIPOutputStream gzipOutputStream = gzip ? new GZIPOutputStream(outputStream) : null;
+        AtomicInteger exportedCount = new AtomicInteger();
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(gzip ? gzipOutputStream : outputStream)) {
+            // 底层响应流由容器关闭；每行一份简历，行之间不再额外写入分隔符
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            dataSourceRoutingContext.readForUser(userId, () -> {
+                resumePersistenceService.forEachUserCv(userId, (cvPO, cvBO) -> {
+                    writeExportLine(generator, cvPO, cvBO);
+                    exportedCount.incrementAndGet();
+                });
+                return null;
+            });
+        } catch (UncheckedIOException e) {
+            log.warn("导出用户简历中断，userId: {}, 已导出: {}", userId, exportedCount.get());
+            throw e.getCause();
+        }
+
+        if (Objects.nonNull(gzipOutputStream)) {
+            gzipOutputStream.finish();
+        }
+        log.info("导出用户简历完成，userId: {}, 共导出: {}", userId, exportedCount.get());
+    }
+
+    /**
+     * 写出一行简历详情
+     *
+     * @param generator JSON生成器
+     * @param cvPO      简历po对象
+     * @param cvBO      简历业务对象
+     */
+    private void writeExportLine(JsonGenerator generator, CvPO cvPO, CvBO cvBO) {
+        ResumeDetailResponse response = new ResumeDetailResponse();
+        BeanUtils.copyProperties(cvBO, response);
+        response.setResumeId(String.valueOf(cvPO.getId()));
+        try {
+            objectMapper.writeValue(generator, response);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 构建空的分页结果
+     *
+     * @param <T> 列表元素类型
+     * @return 空分页结果
+     */
+    private <T> CursorPageResponse<T> buildEmptyPage() {
+        return CursorPageResponse.<T>builder()
+                .items(new ArrayList<>())
+                .hasMore(Boolean.FALSE)
+                .build();
+    }
+
     /**
      * 获取简历详情
      *
@@ -677,25 +1067,19 @@ public class ResumeApplicationServiceImpl implements ResumeApplicationService {
      */
     @Override
     public ResumeDetailResponse getResumeDetail(Long resumeId, Long userId) {
-        CvPO cvPO = cvRepository.getCvByCondition(resumeId, userId);
-        if (Objects.isNull(cvPO)) {
-            throw new BusinessException(ResultCodeEnum.RESUME_NOT_FOUND, "简历不存在");
-        }
-
-        // 将PO转换为BO，获取结构化数据
-        CvBO cvBO = resumePersistenceService.convertToCvBO(cvPO);
+        // 获取结构化简历数据
+        CvBO cvBO = loadCvBO(resumeId, userId);
         if (Objects.isNull(cvBO)) {
-            return new ResumeDetailResponse();
+            throw new BusinessException(ResultCodeEnum.RESUME_NOT_FOUND, "简历不存在");
         }
 
-        ResumeDetailResponse resumeDetailResponse = new ResumeDetailResponse();
         // 构建响应对象
         ResumeDetailResponse response = new ResumeDetailResponse();
         // 复制BO属性到响应对象
         BeanUtils.copyProperties(cvBO, response);
         // 设置简历主键ID
-        response.setResumeId(String.valueOf(cvPO.getId()));
-        return resumeDetailResponse;
+        response.setResumeId(String.valueOf(resumeId));
+        return response;
     }
 
     /**
@@ -720,13 +1104,10 @@ public class ResumeApplicationServiceImpl implements ResumeApplicationService {
                 .fileName(taskPO.getFileName())
                 .originalFileName(taskPO.getOriginalFileName());
 
-        // 计算进度百分比
-        Integer progress = calculateProgress(taskPO);
-        builder.progress(progress);
-
-        // 计算预估剩余时间
-        Long estimatedRemainingSeconds = calculateEstimatedRemainingTime(taskPO);
-        builder.estimatedRemainingSeconds(estimatedRemainingSeconds);
+        // 按近期已完成任务各阶段耗时的分位数预估进度与剩余时间
+        TaskEstimateBO estimate = taskEtaEstimator.estimate(taskPO, LocalDateTime.now());
+        builder.progress(estimate.getProgress());
+        builder.estimatedRemainingSeconds(estimate.getEstimatedRemainingSeconds());
 
         return builder.build();
     }
@@ -750,122 +1131,6 @@ public class ResumeApplicationServiceImpl implements ResumeApplicationService {
         return "未知状态";
     }
 
-    /**
-     * 根据任务状态和耗时计算进度百分比
-     *
-     * @param taskPO 任务对象
-     * @return 进度百分比（0-100）
-     */
-    private Integer calculateProgress(ResumeTaskPO taskPO) {
-        if (Objects.isNull(taskPO) || StringUtils.isEmpty(taskPO.getStatus())) {
-            return 0;
-        }
-
-        String status = taskPO.getStatus();
-        // 1. 已完成或失败状态直接返回
-        if (StringUtils.equals(status, TaskStatusEnum.COMPLETED.getCode())) {
-            return 100;
-        } else if (StringUtils.equals(status, TaskStatusEnum.FAILED.getCode())) {
-            return 0;
-        }
-
-        // 2. 如果开始时间为空，返回初始进度
-        if (Objects.isNull(taskPO.getStartTime())) {
-            return 5;
-        }
-
-        // 3. 计算已耗时（秒）
-        long elapsedSeconds = ChronoUnit.SECONDS.between(taskPO.getStartTime(), LocalDateTime.now());
-        // 避免负数（系统时间回调等极端情况）
-        elapsedSeconds = Math.max(0, elapsedSeconds);
-
-        if (StringUtils.equals(status, TaskStatusEnum.PROCESSING.getCode())) {
-            // 初始处理阶段，固定返回5%
-            return 5;
-        } else if (StringUtils.equals(status, TaskStatusEnum.ANALYZING.getCode())) {
-            // 解析阶段（核心耗时阶段，假设约50-60秒）
-            // 逻辑：基础值 10 + (已耗时 / 55.0 * 70)
-            // 解释：从10%开始，随时间增长，最大增长到85%
-            double progress = 10.0 + (elapsedSeconds / 55.0 * 70.0);
-            return (int) Math.min(85, Math.round(progress));
-        } else if (StringUtils.equals(status, TaskStatusEnum.SAVING.getCode())) {
-            // 保存阶段（收尾阶段）
-            // 逻辑：基础值 85 + ((已耗时 - 55) / 15.0 * 14)
-            // 解释：假设进入此阶段已经过去约55秒，后续增长到99%
-            // 使用 Math.max(elapsedSeconds, 55) 确保进度不回退，始终 >= 85
-            double progress = 85.0 + ((Math.max(elapsedSeconds, 55) - 55.0) / 15.0 * 14.0);
-            return (int) Math.min(99, Math.round(progress));
-        }
-
-        return 0;
-    }
-
-    /**
-     * 计算预估剩余时间
-     * <p>
-     * 根据当前任务状态和已耗时时长，计算任务预计还需要多少秒完成。
-     * 不同阶段有不同的预估基准时间和最小剩余时间保底。
-     * </p>
-     *
-     * @param taskPO 任务持久化对象
-     * @return 预估剩余时间（秒），如果任务已完成或失败则返回null
-     */
-    private Long calculateEstimatedRemainingTime(ResumeTaskPO taskPO) {
-        // 1. 基础校验：对象为空或开始时间为空，无法计算
-        if (Objects.isNull(taskPO) || Objects.isNull(taskPO.getStartTime())) {
-            return null;
-        }
-
-        String status = taskPO.getStatus();
-        // 校验状态字符串非空
-        if (StringUtils.isEmpty(status)) {
-            return null;
-        }
-
-        // 2. 终态检查：已完成或失败的任务不需要预估时间
-        if (StringUtils.equals(status, TaskStatusEnum.COMPLETED.getCode()) ||
-                StringUtils.equals(status, TaskStatusEnum.FAILED.getCode())) {
-            return null;
-        }
-
-        // 3. 计算已耗时（秒）
-        LocalDateTime now = LocalDateTime.now();
-        long elapsedSeconds = ChronoUnit.SECONDS.between(taskPO.getStartTime(), now);
-        // 避免时间回拨导致负数
-        elapsedSeconds = Math.max(0L, elapsedSeconds);
-
-        // 4. 根据状态计算剩余时间
-        // 使用策略模式思想，匹配对应状态的配置参数
-        if (StringUtils.equals(status, TaskStatusEnum.PROCESSING.getCode())) {
-            // PROCESSING 阶段
-            return calculateRemainingSeconds(elapsedSeconds, PROCESSING_ESTIMATED_TOTAL_SECONDS, PROCESSING_MIN_REMAINING_SECONDS);
-        } else if (StringUtils.equals(status, TaskStatusEnum.ANALYZING.getCode())) {
-            // ANALYZING 阶段
-            return calculateRemainingSeconds(elapsedSeconds, ANALYZING_ESTIMATED_TOTAL_SECONDS, ANALYZING_MIN_REMAINING_SECONDS);
-        } else if (StringUtils.equals(status, TaskStatusEnum.SAVING.getCode())) {
-            // SAVING 阶段
-            return calculateRemainingSeconds(elapsedSeconds, SAVING_ESTIMATED_TOTAL_SECONDS, SAVING_MIN_REMAINING_SECONDS);
-        }
-
-        // 其他未定义状态
-        return null;
-    }
-
-    /**
-     * 计算剩余时间的通用逻辑
-     *
-     * @param elapsedSeconds 已耗时（秒）
-     * @param totalSeconds   预估总耗时（秒）
-     * @param minSeconds     最小剩余时间保底（秒）
-     * @return 剩余时间（秒）
-     */
-    private Long calculateRemainingSeconds(long elapsedSeconds, long totalSeconds, long minSeconds) {
-        // 剩余时间 = 总预估时间 - 已耗时
-        long remaining = totalSeconds - elapsedSeconds;
-        // 必须保证至少返回 minSeconds，避免出现负数或 0（给用户即时的心理缓冲）
-        return Math.max(minSeconds, remaining);
-    }
-
     /**
      * 将简历保存到向量数据库
      *
@@ -877,28 +1142,45 @@ public class ResumeApplicationServiceImpl implements ResumeApplicationService {
     public Boolean storeResumeEmbedding(Long resumeId, Long userId) {
         log.info("开始将简历保存到向量数据库，resumeId: {}, userId: {}", resumeId, userId);
 
-        // 使用cvRepository.getCvByCondition查询CvPO
-        CvPO cvPO = cvRepository.getCvByCondition(resumeId, userId);
+        // 获取简历bo对象
+        CvBO cvBO = loadCvBO(resumeId, userId);
 
-        // 校验CvPO是否存在
-        if (Objects.isNull(cvPO)) {
+        // 校验简历是否存在
+        if (Objects.isNull(cvBO)) {
             log.error("简历不存在，resumeId: {}, userId: {}", resumeId, userId);
             throw new BusinessException(ResultCodeEnum.RESUME_NOT_FOUND, "简历不存在");
         }
 
+        long embedStartMillis = System.currentTimeMillis();
         try {
-            // 将CvPO转换为CvBO
-            CvBO cvBO = resumePersistenceService.convertToCvBO(cvPO);
             // 调用resumeRagService.storeCvBO保存到向量数据库
             resumeRagService.storeCvBO(cvBO);
+            taskStageTimingService.record(null, resumeId, TaskStageEnum.EMBED, embedStartMillis, null);
             log.info("简历成功保存到向量数据库，resumeId: {}", resumeId);
             return Boolean.TRUE;
         } catch (Exception e) {
+            taskStageTimingService.recordFailure(null, resumeId, TaskStageEnum.EMBED, embedStartMillis, e.getMessage());
             log.error("保存简历到向量数据库失败，resumeId: {}", resumeId, e);
             throw new BusinessException(ResultCodeEnum.SYSTEM_ERROR, "保存简历到向量数据库失败");
         }
     }
 
+    /**
+     * 获取简历bo对象，优先读取两级缓存
+     * <p>
+     * 缓存未命中时从从库组装；用户刚写入简历时走主库，保证读到自己的写入。
+     *
+     * @param resumeId 简历ID
+     * @param userId   用户ID
+     * @return 简历业务对象，简历不存在时返回null
+     */
+    private CvBO loadCvBO(Long resumeId, Long userId) {
+        return resumeCacheService.getCvBO(resumeId, userId, () -> dataSourceRoutingContext.readForUser(userId, () -> {
+            CvPO cvPO = cvRepository.getCvByCondition(resumeId, userId);
+            return Objects.isNull(cvPO) ? null : resumePersistenceService.convertToCvBO(cvPO);
+        }));
+    }
+
     private String buildMemoryId(Long userId, Long resumeId) {
         return userId + "_" + resumeId;
     }
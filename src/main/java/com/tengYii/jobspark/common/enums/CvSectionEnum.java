@@ -0,0 +1,58 @@
+package com.tengYii.jobspark.common.enums;
+
+import lombok.Getter;
+
+/**
+ * 简历模块枚举（可在简历版本之间共享的子表数据单元）
+ */
+@Getter
+public enum CvSectionEnum {
+
+    CONTACT("contact", "联系方式"),
+
+    SOCIAL_LINK("social_link", "社交链接"),
+
+    EDUCATION("education", "教育经历"),
+
+    EXPERIENCE("experience", "工作经历（含亮点）"),
+
+    PROJECT("project", "项目经历（含亮点）"),
+
+    SKILL("skill", "专业技能（含亮点）"),
+
+    CERTIFICATE("certificate", "证书"),
+
+    FORMAT_META("format_meta", "格式元数据（含本地化配置）"),
+
+    ;
+
+    /**
+     * 模块编码
+     */
+    private final String code;
+
+    /**
+     * 说明
+     */
+    private final String desc;
+
+    CvSectionEnum(String code, String desc) {
+        this.code = code;
+        this.desc = desc;
+    }
+
+    /**
+     * 根据给定的code获取对应的简历模块枚举值。
+     *
+     * @param code 模块编码
+     * @return 对应的简历模块枚举值，若未找到则返回 null。
+     */
+    public static CvSectionEnum getByCode(String code) {
+        for (CvSectionEnum sectionEnum : CvSectionEnum.values()) {
+            if (sectionEnum.code.equals(code)) {
+                return sectionEnum;
+            }
+        }
+        return null;
+    }
+}
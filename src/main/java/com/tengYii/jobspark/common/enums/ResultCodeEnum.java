@@ -58,6 +58,7 @@ public enum ResultCodeEnum {
     TASK_STATUS_INVALID("6002", "任务状态异常"),
     TASK_EXECUTION_ERROR("6003", "任务执行失败"),
     TASK_TIMEOUT("6004", "任务执行超时"),
+    TASK_QUEUE_FULL("6005", "任务排队已满，请稍后重试"),
 
     /**
      * 简历处理相关错误码
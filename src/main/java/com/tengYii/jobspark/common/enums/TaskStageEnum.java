@@ -0,0 +1,42 @@
+package com.tengYii.jobspark.common.enums;
+
+import lombok.Getter;
+
+/**
+ * 简历解析任务执行阶段枚举（用于记录各阶段耗时）
+ */
+@Getter
+public enum TaskStageEnum {
+    /**
+     * 文件上传（保存上传的简历文件）
+     */
+    UPLOAD("UPLOAD", "文件上传"),
+
+    /**
+     * 文本提取（读取简历文件并提取PDF文本）
+     */
+    EXTRACT("EXTRACT", "文本提取"),
+
+    /**
+     * 大模型解析（将简历文本转换为结构化对象）
+     */
+    LLM_PARSE("LLM_PARSE", "大模型解析"),
+
+    /**
+     * 简历落库（保存结构化简历并完成任务）
+     */
+    PERSIST("PERSIST", "简历落库"),
+
+    /**
+     * 向量化（将简历保存到向量数据库）
+     */
+    EMBED("EMBED", "向量化");
+
+    private final String code;
+    private final String desc;
+
+    TaskStageEnum(String code, String desc) {
+        this.code = code;
+        this.desc = desc;
+    }
+}
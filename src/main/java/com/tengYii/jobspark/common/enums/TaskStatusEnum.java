@@ -2,6 +2,8 @@ package com.tengYii.jobspark.common.enums;
 
 import lombok.Getter;
 
+import java.util.List;
+
 /**
  * 任务状态枚举
  */
@@ -30,7 +32,12 @@ public enum TaskStatusEnum {
     /**
      * 失败
      */
-    FAILED("FAILED", "失败");
+    FAILED("FAILED", "失败"),
+
+    /**
+     * 重试耗尽（多次执行失败后不再自动重试）
+     */
+    DEAD_LETTER("DEAD_LETTER", "重试耗尽");
 
     private final String code;
     private final String desc;
@@ -39,4 +46,35 @@ public enum TaskStatusEnum {
         this.code = code;
         this.desc = desc;
     }
+
+    /**
+     * 判断任务状态是否为终态（完成、失败或重试耗尽），终态任务不会再发生状态变更
+     *
+     * @param code 任务状态码
+     * @return 是否为终态
+     */
+    public static boolean isTerminal(String code) {
+        return COMPLETED.code.equals(code) || FAILED.code.equals(code) || DEAD_LETTER.code.equals(code);
+    }
+
+    /**
+     * 未结束的任务状态（可被工作节点领取执行）
+     *
+     * @return 状态码列表
+     */
+    public static List<String> runnableCodes() {
+        return List.of(PROCESSING.code, ANALYZING.code, SAVING.code);
+    }
+
+    /**
+     * 允许变更到当前状态的前置状态（任务状态机）
+     * <p>
+     * 解析中、存储中、重新排队（处理中）、失败（取消）、重试耗尽只能由未结束的状态变更而来，完成只能由存储中变更而来；
+     * 终态不能再变更。
+     *
+     * @return 前置状态码列表
+     */
+    public List<String> predecessorCodes() {
+        return this == COMPLETED ? List.of(SAVING.code) : runnableCodes();
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.tengYii.jobspark.common.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -33,6 +34,24 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * 处理过载异常
+     *
+     * @param ex TooManyRequestsException
+     * @return ResponseEntity，携带 Retry-After 响应头
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<Map<String, Object>> handleTooManyRequestsException(TooManyRequestsException ex) {
+        log.warn("Too many requests: {}, retryAfter: {}s", ex.getMessage(), ex.getRetryAfterSeconds());
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("code", ex.getCode());
+        errorResponse.put("message", ex.getMessage());
+        errorResponse.put("retryAfterSeconds", ex.getRetryAfterSeconds());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     /**
      * 处理业务异常
      *
@@ -0,0 +1,29 @@
+package com.tengYii.jobspark.common.exception;
+
+import com.tengYii.jobspark.common.enums.ResultCodeEnum;
+import lombok.Getter;
+
+/**
+ * 过载异常
+ * 系统排队已满、拒绝接收新请求时抛出，对应 HTTP 429，并通过 Retry-After 告知客户端建议的重试等待时间
+ */
+@Getter
+public class TooManyRequestsException extends BusinessException {
+
+    /**
+     * 建议的重试等待时间（秒）
+     */
+    private final long retryAfterSeconds;
+
+    /**
+     * 构造方法
+     *
+     * @param resultCode        错误码枚举
+     * @param message           自定义错误信息
+     * @param retryAfterSeconds 建议的重试等待时间（秒）
+     */
+    public TooManyRequestsException(ResultCodeEnum resultCode, String message, long retryAfterSeconds) {
+        super(resultCode, message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,212 @@
+package com.tengYii.jobspark.common.interceptor;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL执行指标拦截器
+ * <p>
+ * 按 Mapper 语句（如 CvHighlightMapper.selectList）记录执行耗时直方图与影响/返回行数，通过 Micrometer 暴露；
+ * 耗时超过阈值的语句按采样率写入慢查询日志。慢查询日志只输出带占位符的SQL及参数个数，不输出参数值，避免简历等个人信息落入日志。
+ */
+@Slf4j
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "queryCursor",
+                args = {MappedStatement.class, Object.class, RowBounds.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class SqlMetricsInterceptor implements Interceptor {
+
+    /**
+     * 慢查询日志单独输出，便于按logger调整级别或路由到独立文件
+     */
+    private static final Logger SLOW_SQL_LOG = LoggerFactory.getLogger("jobspark.sql.slow");
+
+    /**
+     * SQL执行耗时指标名称
+     */
+    private static final String STATEMENT_TIMER = "jobspark.sql.statement";
+
+    /**
+     * SQL返回/影响行数指标名称
+     */
+    private static final String STATEMENT_ROWS = "jobspark.sql.rows";
+
+    /**
+     * 慢查询日志中SQL的最大长度
+     */
+    private static final int MAX_LOGGED_SQL_LENGTH = 2000;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * 慢查询阈值（毫秒）
+     */
+    @Value("${jobspark.sql.slow-threshold-ms:200}")
+    private long slowThresholdMs;
+
+    /**
+     * 慢查询日志采样率（0~1）
+     */
+    @Value("${jobspark.sql.slow-log-sample-rate:1.0}")
+    private double slowLogSampleRate;
+
+    /**
+     * 按语句缓存的指标，避免每次执行重复构建
+     */
+    private final Map<String, Timer> timerCache = new ConcurrentHashMap<>();
+
+    private final Map<String, DistributionSummary> rowsCache = new ConcurrentHashMap<>();
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+        String statement = shortStatementId(mappedStatement.getId());
+        String command = mappedStatement.getSqlCommandType().name();
+
+        long startNanos = System.nanoTime();
+        String outcome = "success";
+        Object result = null;
+        try {
+            result = invocation.proceed();
+            return result;
+        } catch (Throwable e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            long rows = countRows(result);
+            record(statement, command, outcome, elapsedNanos, rows);
+
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            if (elapsedMs >= slowThresholdMs && ThreadLocalRandom.current().nextDouble() < slowLogSampleRate) {
+                logSlowStatement(invocation, mappedStatement, statement, elapsedMs, rows);
+            }
+        }
+    }
+
+    /**
+     * 记录耗时与行数指标
+     *
+     * @param statement    语句标识
+     * @param command      SQL类型
+     * @param outcome      执行结果（success/error）
+     * @param elapsedNanos 耗时（纳秒）
+     * @param rows         返回/影响行数，未知时为-1
+     */
+    private void record(String statement, String command, String outcome, long elapsedNanos, long rows) {
+        try {
+            timerCache.computeIfAbsent(statement + '|' + outcome, key -> Timer.builder(STATEMENT_TIMER)
+                            .description("Mapper 语句执行耗时")
+                            .tag("statement", statement)
+                            .tag("command", command)
+                            .tag("outcome", outcome)
+                            .publishPercentileHistogram()
+                            .register(meterRegistry))
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+            if (rows >= 0) {
+                rowsCache.computeIfAbsent(statement, key -> DistributionSummary.builder(STATEMENT_ROWS)
+                                .description("Mapper 语句返回/影响行数")
+                                .baseUnit("rows")
+                                .tag("statement", statement)
+                                .tag("command", command)
+                                .publishPercentileHistogram()
+                                .register(meterRegistry))
+                        .record(rows);
+            }
+        } catch (Exception e) {
+            // 指标记录失败不能影响业务SQL
+            log.warn("记录SQL指标失败，statement: {}", statement, e);
+        }
+    }
+
+    /**
+     * 输出慢查询日志（SQL保留占位符，不输出参数值）
+     *
+     * @param invocation      调用信息
+     * @param mappedStatement 映射语句
+     * @param statement       语句标识
+     * @param elapsedMs       耗时（毫秒）
+     * @param rows            返回/影响行数，未知时为-1
+     */
+    private void logSlowStatement(Invocation invocation, MappedStatement mappedStatement, String statement,
+                                  long elapsedMs, long rows) {
+        try {
+            Object[] args = invocation.getArgs();
+            BoundSql boundSql = args.length > 5 && args[5] instanceof BoundSql
+                    ? (BoundSql) args[5]
+                    : mappedStatement.getBoundSql(args[1]);
+            String sql = StringUtils.abbreviate(StringUtils.normalizeSpace(boundSql.getSql()), MAX_LOGGED_SQL_LENGTH);
+            int paramCount = Objects.isNull(boundSql.getParameterMappings()) ? 0 : boundSql.getParameterMappings().size();
+
+            SLOW_SQL_LOG.warn("慢SQL，statement: {}, elapsed: {} ms, rows: {}, params: {}, sql: {}",
+                    statement, elapsedMs, rows, paramCount, sql);
+        } catch (Exception e) {
+            log.warn("输出慢SQL日志失败，statement: {}", statement, e);
+        }
+    }
+
+    /**
+     * 统计返回/影响行数
+     *
+     * @param result 执行结果
+     * @return 行数，无法确定时返回-1（如游标查询、执行异常）
+     */
+    private static long countRows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Number number) {
+            return number.longValue();
+        }
+        return -1;
+    }
+
+    /**
+     * 截取语句ID的 Mapper 类名与方法名，如 com.xx.mapper.CvHighlightMapper.selectList -> CvHighlightMapper.selectList
+     *
+     * @param statementId 完整语句ID
+     * @return 简短语句标识
+     */
+    private static String shortStatementId(String statementId) {
+        int methodDot = statementId.lastIndexOf('.');
+        if (methodDot <= 0) {
+            return statementId;
+        }
+        int classDot = statementId.lastIndexOf('.', methodDot - 1);
+        return statementId.substring(classDot + 1);
+    }
+}
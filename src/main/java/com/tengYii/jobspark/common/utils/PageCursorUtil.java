@@ -0,0 +1,81 @@
+package com.tengYii.jobspark.common.utils;
+
+import com.tengYii.jobspark.common.enums.ResultCodeEnum;
+import com.tengYii.jobspark.common.exception.ValidationException;
+import com.tengYii.jobspark.model.bo.PageCursorBO;
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * 游标分页工具类
+ * <p>
+ * 游标对调用方不透明，内容为 排序时间|主键ID 的 URL 安全 Base64 编码。
+ */
+public class PageCursorUtil {
+
+    /**
+     * 默认每页条数
+     */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    /**
+     * 每页最大条数
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    private PageCursorUtil() {
+    }
+
+    /**
+     * 编码游标
+     *
+     * @param sortTime 排序时间
+     * @param id       主键ID
+     * @return 游标字符串
+     */
+    public static String encode(LocalDateTime sortTime, Long id) {
+        String raw = sortTime + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解码游标
+     *
+     * @param cursor 游标字符串，为空表示第一页
+     * @return 分页位置，第一页返回null
+     * @throws ValidationException 游标格式非法
+     */
+    public static PageCursorBO decode(String cursor) {
+        if (StringUtils.isBlank(cursor)) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String sortTime = StringUtils.substringBefore(raw, SEPARATOR);
+            String id = StringUtils.substringAfter(raw, SEPARATOR);
+            return new PageCursorBO(LocalDateTime.parse(sortTime), Long.valueOf(id));
+        } catch (RuntimeException e) {
+            throw new ValidationException(ResultCodeEnum.PARAM_ERROR, "分页游标无效", e);
+        }
+    }
+
+    /**
+     * 规范化每页条数
+     *
+     * @param size 请求的每页条数
+     * @return 取值范围 [1, MAX_PAGE_SIZE] 内的每页条数，为空时返回默认值
+     */
+    public static int normalizeSize(Integer size) {
+        if (Objects.isNull(size) || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+}
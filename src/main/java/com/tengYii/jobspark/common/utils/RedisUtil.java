@@ -1,9 +1,16 @@
 package com.tengYii.jobspark.common.utils;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 
@@ -160,6 +167,106 @@ public class RedisUtil {
         }
     }
 
+    /**
+     * 批量获取多个 hash 的所有键值（单次往返），结果与 keys 一一对应，不存在的 key 对应空 Map
+     */
+    @SuppressWarnings("unchecked")
+    public List<Map<Object, Object>> hmgetAll(List<String> keys) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                keys.forEach(key -> ops.opsForHash().entries(key));
+                return null;
+            }
+        });
+        List<Map<Object, Object>> entries = new ArrayList<>(results.size());
+        for (Object result : results) {
+            entries.add(result instanceof Map ? (Map<Object, Object>) result : Collections.emptyMap());
+        }
+        return entries;
+    }
+
+    /**
+     * 条件写入 hash：guardField 当前值属于 blockedGuardValues，或 versionField 当前值大于本次写入的版本时不写入
+     */
+    private static final DefaultRedisScript<Long> HMSET_GUARDED_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('hmget', KEYS[1], ARGV[1], ARGV[2]) "
+                    + "local blocked = tonumber(ARGV[4]) "
+                    + "for i = 5, 4 + blocked do if current[1] == ARGV[i] then return 0 end end "
+                    + "local version = ARGV[5 + blocked] "
+                    + "if current[2] and version ~= '' and current[2] > version then return 0 end "
+                    + "local fields = {} "
+                    + "for i = 6 + blocked, #ARGV do fields[#fields + 1] = ARGV[i] end "
+                    + "redis.call('hset', KEYS[1], unpack(fields)) "
+                    + "if tonumber(ARGV[3]) > 0 then redis.call('expire', KEYS[1], ARGV[3]) end "
+                    + "return 1",
+            Long.class);
+
+    /**
+     * HashSet 条件写入并设置时间（原子执行）：guardField 当前值属于 blockedGuardValues，
+     * 或 versionField 当前值大于本次写入的值（按序列化后的字符串比较，版本值须按字典序有序，如ISO时间）时放弃写入
+     *
+     * @return 是否执行成功（放弃写入也视为成功），异常时返回false
+     */
+    public boolean hmsetGuarded(String key, Map<String, Object> map, String guardField, Collection<?> blockedGuardValues,
+                                String versionField, long time, TimeUnit unit) {
+        try {
+            List<String> args = new ArrayList<>();
+            args.add(guardField);
+            args.add(versionField);
+            args.add(String.valueOf(unit.toSeconds(time)));
+            args.add(String.valueOf(blockedGuardValues.size()));
+            blockedGuardValues.forEach(value -> args.add(serializeHashValue(value)));
+            args.add(map.containsKey(versionField) ? serializeHashValue(map.get(versionField)) : "");
+            map.forEach((item, value) -> {
+                args.add(item);
+                args.add(serializeHashValue(value));
+            });
+            StringRedisSerializer serializer = StringRedisSerializer.UTF_8;
+            redisTemplate.execute(HMSET_GUARDED_SCRIPT, serializer, new GenericToStringSerializer<>(Long.class),
+                    Collections.singletonList(key), args.toArray());
+            return true;
+        } catch (Exception e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * 按 hash 值序列化器序列化，与 putAll 写入的内容一致，供脚本直接比较
+     */
+    @SuppressWarnings("unchecked")
+    private String serializeHashValue(Object value) {
+        RedisSerializer<Object> serializer = (RedisSerializer<Object>) redisTemplate.getHashValueSerializer();
+        return new String(serializer.serialize(value), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * HashSet 仅写入 hash 中尚不存在的项，并设置时间（单次往返）
+     */
+    public boolean hmsetIfAbsent(String key, Map<String, Object> map, long time, TimeUnit unit) {
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    map.forEach((item, value) -> ops.opsForHash().putIfAbsent(key, item, value));
+                    if (time > 0) {
+                        ops.expire(key, time, unit);
+                    }
+                    return null;
+                }
+            });
+            return true;
+        } catch (Exception e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
     /**
      * 向一张 hash 表中放入数据，如果不存在将创建
      */
@@ -379,4 +486,58 @@ public class RedisUtil {
             return 0;
         }
     }
-}
\ No newline at end of file
+
+    // ============================== Lock ==============================
+    /**
+     * 释放锁脚本：仅当锁仍由当前持有者持有时删除
+     */
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    /**
+     * 尝试获取分布式锁（SET NX + 过期时间）
+     */
+    public boolean tryLock(String key, String owner, long time, TimeUnit unit) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, owner, time, unit));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * 释放分布式锁，锁已过期并被他人持有时不做处理
+     */
+    public boolean unlock(String key, String owner) {
+        try {
+            Long released = redisTemplate.execute(UNLOCK_SCRIPT, Collections.singletonList(key), owner);
+            return Objects.nonNull(released) && released > 0;
+        } catch (Exception e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    // ============================ Pub/Sub =============================
+    /**
+     * 向频道发布消息
+     */
+    public boolean publish(String channel, Object message) {
+        try {
+            redisTemplate.convertAndSend(channel, message);
+            return true;
+        } catch (Exception e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * 反序列化频道消息体
+     */
+    public Object deserializeMessage(byte[] body) {
+        return redisTemplate.getValueSerializer().deserialize(body);
+    }
+}
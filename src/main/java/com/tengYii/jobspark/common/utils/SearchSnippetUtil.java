@@ -0,0 +1,101 @@
+package com.tengYii.jobspark.common.utils;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * 简历检索工具类
+ * <p>
+ * 负责将用户输入的关键词转换为子串检索的 LIKE 模式，以及从命中文本中截取关键词附近的片段。
+ */
+public class SearchSnippetUtil {
+
+    /**
+     * 片段中关键词前后保留的字符数
+     */
+    public static final int DEFAULT_SNIPPET_RADIUS = 30;
+
+    /**
+     * 省略号
+     */
+    private static final String ELLIPSIS = "...";
+
+    /**
+     * LIKE 模式中需要转义的字符（MySQL 默认转义符为反斜杠）
+     */
+    private static final String LIKE_SPECIAL_CHARS = "\\%_";
+
+    private SearchSnippetUtil() {
+    }
+
+    /**
+     * 构建检索词
+     * <p>
+     * 压缩首尾及连续空白后整体作为子串检索，避免"分布式"被拆开后命中无关文本。
+     *
+     * @param keyword 关键词
+     * @return 检索词，关键词为空时返回null
+     */
+    public static String buildSearchTerm(String keyword) {
+        String term = StringUtils.normalizeSpace(keyword);
+        return StringUtils.isEmpty(term) ? null : term;
+    }
+
+    /**
+     * 构建子串匹配的 LIKE 模式
+     * <p>
+     * 转义检索词中的通配符，使用户输入的 % 和 _ 按字面匹配。
+     *
+     * @param searchTerm 检索词
+     * @return LIKE 模式，检索词为空时返回null
+     */
+    public static String buildLikePattern(String searchTerm) {
+        if (StringUtils.isEmpty(searchTerm)) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder(searchTerm.length() + 8).append('%');
+        for (char ch : searchTerm.toCharArray()) {
+            if (LIKE_SPECIAL_CHARS.indexOf(ch) >= 0) {
+                builder.append('\\');
+            }
+            builder.append(ch);
+        }
+        return builder.append('%').toString();
+    }
+
+    /**
+     * 截取关键词附近的文本片段
+     *
+     * @param content 命中的文本内容
+     * @param keyword 关键词，为空时从文本开头截取
+     * @param radius  关键词前后保留的字符数
+     * @return 文本片段，被截断的一侧以省略号标识
+     */
+    public static String snippet(String content, String keyword, int radius) {
+        if (StringUtils.isEmpty(content)) {
+            return content;
+        }
+        String text = StringUtils.normalizeSpace(content);
+        int index = StringUtils.isBlank(keyword) ? -1 : StringUtils.indexOfIgnoreCase(text, keyword.trim());
+
+        int start;
+        int end;
+        if (index < 0) {
+            // 未定位到关键词（如排序规则命中了全半角不同的写法），从开头截取
+            start = 0;
+            end = Math.min(text.length(), radius * 2);
+        } else {
+            start = Math.max(0, index - radius);
+            end = Math.min(text.length(), index + keyword.trim().length() + radius);
+        }
+
+        StringBuilder builder = new StringBuilder();
+        if (start > 0) {
+            builder.append(ELLIPSIS);
+        }
+        builder.append(text, start, end);
+        if (end < text.length()) {
+            builder.append(ELLIPSIS);
+        }
+        return builder.toString();
+    }
+}
@@ -9,11 +9,52 @@ import org.apache.commons.lang3.StringUtils;
 import java.net.InetAddress;
 import java.net.NetworkInterface;
 import java.net.UnknownHostException;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 雪花算法ID生成器
+ * <p>
+ * 位布局与 hutool {@link Snowflake} 默认配置一致：41位时间戳（相对 {@link #EPOCH}）+ 5位数据中心ID + 5位机器ID + 12位序列号，
+ * 与历史生成的ID保持单调递增且不冲突。
+ * <p>
+ * 时间戳与序列号打包在一个 {@link AtomicLong} 中通过CAS推进，不再使用 synchronized，
+ * 多个保存线程并发取号时不会在同一把锁上排队；{@link #nextIds(int)} 一次CAS可分配一整段连续序列号。
+ */
 @Slf4j
 public class SnowflakeUtil {
 
-    private static final Snowflake SNOW_FLAKE = IdUtil.getSnowflake(getWorkId(), getDataCenterId());
+    /**
+     * 起始时间戳，与 hutool Snowflake 默认值一致
+     */
+    private static final long EPOCH = 1288834974657L;
+
+    private static final long WORKER_ID_BITS = 5L;
+    private static final long DATA_CENTER_ID_BITS = 5L;
+    private static final long SEQUENCE_BITS = 12L;
+
+    private static final long WORKER_ID_SHIFT = SEQUENCE_BITS;
+    private static final long DATA_CENTER_ID_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
+    private static final long TIMESTAMP_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS + DATA_CENTER_ID_BITS;
+
+    /**
+     * 每毫秒最大序列号
+     */
+    private static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);
+
+    /**
+     * 允许的时钟回拨时间（毫秒），回拨在此范围内时沿用上次时间戳继续取号，与 hutool 默认值一致
+     */
+    private static final long MAX_BACKWARD_MS = 2000L;
+
+    /**
+     * 本机节点ID（数据中心ID + 机器ID）在ID中的位段
+     */
+    private static final long NODE_BITS = (getDataCenterId() << DATA_CENTER_ID_SHIFT) | (getWorkId() << WORKER_ID_SHIFT);
+
+    /**
+     * 最近一次分配的状态：高位为相对时间戳，低 {@link #SEQUENCE_BITS} 位为该毫秒内已分配的最大序列号
+     */
+    private static final AtomicLong STATE = new AtomicLong(-1L);
 
     private SnowflakeUtil() {
     }
@@ -21,8 +62,32 @@ public class SnowflakeUtil {
     /**
      * 雪花算法，生成唯一id。
      */
-    public static synchronized long snowflakeId() {
-        return SNOW_FLAKE.nextId();
+    public static long snowflakeId() {
+        return toId(allocate(1));
+    }
+
+    /**
+     * 批量生成唯一id，同一毫秒内的ID连续分配
+     *
+     * @param n 数量
+     * @return 单调递增的ID数组
+     */
+    public static long[] nextIds(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("ID数量不能小于0");
+        }
+
+        long[] ids = new long[n];
+        int filled = 0;
+        while (filled < n) {
+            int blockSize = (int) Math.min(n - filled, SEQUENCE_MASK + 1);
+            long lastState = allocate(blockSize);
+            long firstState = lastState - blockSize + 1;
+            for (int i = 0; i < blockSize; i++) {
+                ids[filled++] = toId(firstState + i);
+            }
+        }
+        return ids;
     }
 
     public static synchronized long snowflakeId(long workerId, long dataCenterId) {
@@ -30,6 +95,55 @@ public class SnowflakeUtil {
         return snowflake.nextId();
     }
 
+    /**
+     * 通过CAS分配连续的序列号段
+     *
+     * @param count 序列号数量，不超过每毫秒序列号总数
+     * @return 分配段中最后一个序列号对应的状态
+     */
+    private static long allocate(int count) {
+        while (true) {
+            long current = STATE.get();
+            long lastTimestamp = current < 0 ? -1L : current >>> SEQUENCE_BITS;
+            long lastSequence = current < 0 ? SEQUENCE_MASK : current & SEQUENCE_MASK;
+            long timestamp = System.currentTimeMillis() - EPOCH;
+
+            if (timestamp < lastTimestamp) {
+                if (lastTimestamp - timestamp > MAX_BACKWARD_MS) {
+                    throw new IllegalStateException(String.format("时钟回拨 %d 毫秒，拒绝生成ID", lastTimestamp - timestamp));
+                }
+                timestamp = lastTimestamp;
+            }
+
+            long next;
+            if (timestamp > lastTimestamp) {
+                next = (timestamp << SEQUENCE_BITS) | (count - 1);
+            } else if (lastSequence + count <= SEQUENCE_MASK) {
+                next = current + count;
+            } else {
+                // 当前毫秒序列号不足，等待进入下一毫秒
+                Thread.onSpinWait();
+                continue;
+            }
+
+            if (STATE.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * 由状态拼装ID
+     *
+     * @param state 相对时间戳 + 序列号
+     * @return ID
+     */
+    private static long toId(long state) {
+        long timestamp = state >>> SEQUENCE_BITS;
+        long sequence = state & SEQUENCE_MASK;
+        return (timestamp << TIMESTAMP_SHIFT) | NODE_BITS | sequence;
+    }
+
     /**
      * 获取机器id
      */
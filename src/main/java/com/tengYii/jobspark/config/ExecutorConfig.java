@@ -1,13 +1,20 @@
 package com.tengYii.jobspark.config;
 
+import com.baomidou.dynamic.datasource.toolkit.DynamicDataSourceContextHolder;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 线程池配置类
@@ -17,6 +24,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 @Slf4j
 @Configuration
 @EnableAsync
+@EnableScheduling
 public class ExecutorConfig {
 
     /**
@@ -48,10 +56,10 @@ public class ExecutorConfig {
         // 线程名前缀：方便日志排查
         executor.setThreadNamePrefix("resume-task-");
 
-        // 拒绝策略：由调用线程处理 (CallerRunsPolicy)
-        // 理由：当线程池过载时，由提交任务的 Web 线程直接执行，起到一种自然的"背压"（Backpressure）机制，
-        // 既减缓了请求提交速度，又保证了核心业务数据（简历）绝不丢失。
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        // 拒绝策略：直接拒绝 (AbortPolicy)
+        // 理由：过载时若由提交任务的 Web 线程执行，耗时数十秒的大模型调用会占满 Tomcat 线程，拖垮所有接口；
+        // 解析任务由工作节点按空闲容量领取（已持久化在任务表，被拒绝时释放租约），优化请求被拒绝时返回 429。
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
 
         // 优雅停机：等待所有任务结束后再关闭线程池
         executor.setWaitForTasksToCompleteOnShutdown(true);
@@ -65,4 +73,247 @@ public class ExecutorConfig {
         log.info("简历任务执行器初始化完成，Core: {}, Max: {}", processors * 2, processors * 4);
         return executor;
     }
+
+    /**
+     * 简历组装查询执行器
+     * <p>
+     * 组装 CvBO 时并发发起各子表查询，单次查询耗时短、数量多，与简历解析任务隔离，避免互相占用线程
+     *
+     * @return 任务执行器
+     */
+    @Bean("cvAssembleExecutor")
+    public Executor cvAssembleExecutor() {
+        int processors = Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        // 核心线程数：设置 2 * CPU核数
+        // 理由：子表查询以等待数据库返回为主，线程大部分时间处于 IO 等待
+        executor.setCorePoolSize(processors * 2);
+
+        // 最大线程数：设置 4 * CPU核数
+        // 理由：并发线程数受数据库连接池约束，不宜无限放大
+        executor.setMaxPoolSize(processors * 4);
+
+        // 队列容量：500
+        // 理由：单次组装会同时提交约 10 个查询，需要容纳多个请求同时组装
+        executor.setQueueCapacity(500);
+
+        executor.setThreadNamePrefix("cv-assemble-");
+
+        // 任务装饰器：传递调用线程当前的数据源路由
+        // 理由：子表查询需与调用方读取同一数据源（主库或从库），否则会在主从之间读到不一致的数据
+        executor.setTaskDecorator(dataSourceRoutingDecorator());
+
+        // 拒绝策略：由调用线程处理 (CallerRunsPolicy)
+        // 理由：线程池饱和时退化为调用线程顺序查询，保证组装结果完整
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+
+        executor.initialize();
+
+        log.info("简历组装查询执行器初始化完成，Core: {}, Max: {}", processors * 2, processors * 4);
+        return executor;
+    }
+
+    /**
+     * 简历导出组装执行器
+     * <p>
+     * 流式导出时，读取游标的线程所在事务连接被流式结果集独占，组装查询必须在其他线程、其他连接上执行，
+     * 因此与组装查询执行器隔离，且线程池饱和时绝不在调用线程上执行
+     *
+     * @return 任务执行器
+     */
+    @Bean("cvExportExecutor")
+    public Executor cvExportExecutor() {
+        int processors = Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        // 核心线程数 = 最大线程数：CPU核数
+        // 理由：每个导出同一时刻只提交一批组装，线程数即可并行组装的导出数，受数据库连接池约束
+        executor.setCorePoolSize(processors);
+        executor.setMaxPoolSize(processors);
+
+        // 队列容量：50
+        // 理由：导出为低频操作，排队过多说明数据库已成为瓶颈，应让导出等待而不是继续堆积
+        executor.setQueueCapacity(50);
+
+        executor.setThreadNamePrefix("cv-export-");
+
+        // 任务装饰器：传递调用线程当前的数据源路由，导出与游标读取同一数据源
+        executor.setTaskDecorator(dataSourceRoutingDecorator());
+
+        // 拒绝策略：阻塞等待队列空位，超时后拒绝
+        // 理由：不能由调用线程执行（其连接被流式结果集占用），导出可以接受排队等待
+        executor.setRejectedExecutionHandler((runnable, pool) -> {
+            try {
+                if (!pool.getQueue().offer(runnable, 30, TimeUnit.SECONDS)) {
+                    throw new RejectedExecutionException("简历导出组装线程池已满");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("等待简历导出组装线程池时被中断", e);
+            }
+        });
+
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+
+        executor.initialize();
+
+        log.info("简历导出组装执行器初始化完成，Core: {}, Max: {}", processors, processors);
+        return executor;
+    }
+
+    /**
+     * 简历快照回填执行器
+     * <p>
+     * 读取简历时异步回填缺失的快照，调用线程可能绑定了只读事务连接（或流式结果集），回填不能在调用线程上执行
+     *
+     * @return 任务执行器
+     */
+    @Bean("cvSnapshotBackfillExecutor")
+    public Executor cvSnapshotBackfillExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        // 核心线程数：2，最大线程数：4
+        // 理由：回填为单行写入，频率随快照命中率提升而下降
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+
+        // 队列容量：1000
+        executor.setQueueCapacity(1000);
+
+        executor.setThreadNamePrefix("cv-snapshot-");
+
+        // 拒绝策略：丢弃 (DiscardPolicy)
+        // 理由：回填失败不影响读取，下次读取时会再次尝试
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+
+        executor.initialize();
+
+        log.info("简历快照回填执行器初始化完成，Core: {}, Max: {}", 2, 4);
+        return executor;
+    }
+
+    /**
+     * 任务状态事件分发执行器
+     * <p>
+     * Redis 消息监听线程只负责接收事件，回调订阅方（读取任务状态、SSE推送）在该线程池中执行，
+     * 避免慢订阅方阻塞所有任务的事件接收
+     *
+     * @return 任务执行器
+     */
+    @Bean("taskEventDispatchExecutor")
+    public Executor taskEventDispatchExecutor() {
+        int processors = Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        // 核心线程数：CPU核数，最大线程数：2 * CPU核数
+        // 理由：回调主要是读缓存与网络写出，单次耗时短，慢连接由最大线程数兜底
+        executor.setCorePoolSize(processors);
+        executor.setMaxPoolSize(processors * 2);
+
+        // 队列容量：1000
+        // 理由：同一订阅的多个事件会合并为一次回调，排队数不超过本节点的订阅数
+        executor.setQueueCapacity(1000);
+
+        executor.setThreadNamePrefix("task-event-");
+
+        // 拒绝策略：直接拒绝 (AbortPolicy)
+        // 理由：不能回到 Redis 监听线程执行，由分发方记录日志并允许下一个事件重新分发
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+
+        executor.initialize();
+
+        log.info("任务状态事件分发执行器初始化完成，Core: {}, Max: {}", processors, processors * 2);
+        return executor;
+    }
+
+    /**
+     * 定时任务调度器
+     * <p>
+     * 所有未指定调度器的 @Scheduled 任务共用（任务领取、归档、ETA刷新、准入统计、超时回收），
+     * 默认的单线程调度器会让一个慢任务（如归档批次、数据库抖动时的领取）推迟其他所有任务
+     *
+     * @return 任务调度器
+     */
+    @Bean("taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+
+        // 线程数：4
+        // 理由：定时任务均为短周期的数据库操作，少量线程即可避免互相排队
+        scheduler.setPoolSize(4);
+
+        scheduler.setThreadNamePrefix("scheduling-");
+
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+
+        scheduler.initialize();
+
+        log.info("定时任务调度器初始化完成，PoolSize: {}", 4);
+        return scheduler;
+    }
+
+    /**
+     * 任务租约心跳调度器
+     * <p>
+     * 续租必须在租约到期前按时执行，与其他定时任务隔离，不受它们的执行耗时影响
+     *
+     * @return 任务调度器
+     */
+    @Bean("taskHeartbeatScheduler")
+    public ThreadPoolTaskScheduler taskHeartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+
+        // 线程数：1，心跳为单个定时任务，串行执行即可
+        scheduler.setPoolSize(1);
+
+        scheduler.setThreadNamePrefix("task-heartbeat-");
+
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+
+        scheduler.initialize();
+
+        log.info("任务租约心跳调度器初始化完成");
+        return scheduler;
+    }
+
+    /**
+     * 数据源路由传递装饰器
+     * <p>
+     * 提交任务时记录调用线程的数据源路由，在执行线程上恢复，执行结束后清理
+     *
+     * @return 任务装饰器
+     */
+    private TaskDecorator dataSourceRoutingDecorator() {
+        return runnable -> {
+            String dataSourceKey = DynamicDataSourceContextHolder.peek();
+            return () -> {
+                if (StringUtils.isEmpty(dataSourceKey)) {
+                    runnable.run();
+                    return;
+                }
+                DynamicDataSourceContextHolder.push(dataSourceKey);
+                try {
+                    runnable.run();
+                } finally {
+                    DynamicDataSourceContextHolder.poll();
+                }
+            };
+        };
+    }
 }
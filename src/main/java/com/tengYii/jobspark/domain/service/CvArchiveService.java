@@ -0,0 +1,102 @@
+package com.tengYii.jobspark.domain.service;
+
+import com.tengYii.jobspark.common.utils.RedisUtil;
+import com.tengYii.jobspark.infrastructure.repo.CvArchiveRepository;
+import com.tengYii.jobspark.infrastructure.repo.CvRepository;
+import com.tengYii.jobspark.model.po.CvPO;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 简历归档服务
+ * <p>
+ * 提供按检查点分批查询可归档简历、单批次事务内归档的能力，由归档任务按节奏调用。
+ */
+@Slf4j
+@Service
+public class CvArchiveService {
+
+    /**
+     * 归档检查点（上一批次最后一份简历ID）
+     */
+    private static final String CHECKPOINT_KEY = "cv:archive:checkpoint";
+
+    @Autowired
+    private CvArchiveRepository cvArchiveRepository;
+
+    @Autowired
+    private CvRepository cvRepository;
+
+    @Autowired
+    private ResumeCacheService resumeCacheService;
+
+    @Autowired
+    private RedisUtil redisUtil;
+
+    /**
+     * 读取归档检查点，不存在时从头开始
+     *
+     * @return 检查点
+     */
+    public long getCheckpoint() {
+        Object checkpoint = redisUtil.get(CHECKPOINT_KEY);
+        return checkpoint instanceof Number number ? number.longValue() : 0L;
+    }
+
+    /**
+     * 保存归档检查点
+     *
+     * @param checkpoint 检查点
+     */
+    public void saveCheckpoint(long checkpoint) {
+        redisUtil.set(CHECKPOINT_KEY, checkpoint);
+    }
+
+    /**
+     * 查询检查点之后的一批可归档简历
+     *
+     * @param afterId 检查点
+     * @param limit   批次大小
+     * @return 简历ID列表（主键升序）
+     */
+    public List<Long> listCandidates(long afterId, int limit) {
+        return cvArchiveRepository.listArchivableCvIds(afterId, limit);
+    }
+
+    /**
+     * 在单个事务内归档一批简历
+     * <p>
+     * 任一步骤失败整批回滚，热表与归档表不会出现半迁移状态。
+     * 事务提交后失效已归档简历的两级缓存并广播到其他节点，避免缓存继续返回已归档的简历。
+     *
+     * @param cvIds 候选简历ID
+     * @return 实际归档的简历数量
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public int archiveBatch(List<Long> cvIds) {
+        if (CollectionUtils.isEmpty(cvIds)) {
+            return 0;
+        }
+
+        // 缓存key包含用户ID，归档前先查出各简历所属用户
+        Map<Long, Long> cvUserMap = cvRepository.listByIds(cvIds).stream()
+                .filter(cvPO -> Objects.nonNull(cvPO.getUserId()))
+                .collect(Collectors.toMap(CvPO::getId, CvPO::getUserId));
+
+        List<Long> archivedCvIds = cvArchiveRepository.archive(cvIds);
+        int archivedCount = Objects.isNull(archivedCvIds) ? 0 : archivedCvIds.size();
+        if (archivedCount > 0) {
+            archivedCvIds.forEach(cvId -> resumeCacheService.evict(cvId, cvUserMap.get(cvId)));
+        }
+        log.info("归档简历批次完成，候选: {}, 归档: {}", cvIds.size(), archivedCount);
+        return archivedCount;
+    }
+}
@@ -0,0 +1,86 @@
+package com.tengYii.jobspark.domain.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tengYii.jobspark.common.enums.CvSectionEnum;
+import com.tengYii.jobspark.model.bo.CvBO;
+import com.tengYii.jobspark.model.bo.HighlightBO;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * 简历模块比较器
+ * <p>
+ * 按模块比较新旧两个版本的内容是否一致，用于判断新版本能否直接共享父版本已存储的子表行。
+ * 比较基于JSON树，忽略亮点的主键与关联ID（二者由存储层生成，同一内容在不同版本中取值不同）。
+ */
+@Component
+public class CvSectionDiffer {
+
+    private final ObjectMapper sectionMapper;
+
+    public CvSectionDiffer(ObjectMapper objectMapper) {
+        this.sectionMapper = objectMapper.copy().addMixIn(HighlightBO.class, HighlightIdentityMixIn.class);
+    }
+
+    /**
+     * 判断两个版本的指定模块是否可以共享存储
+     * <p>
+     * 模块内容为空时无需共享，返回false。
+     *
+     * @param section 简历模块
+     * @param current 新版本简历
+     * @param parent  父版本简历
+     * @return 模块内容非空且一致时返回true
+     */
+    public boolean isSharable(CvSectionEnum section, CvBO current, CvBO parent) {
+        if (Objects.isNull(current) || Objects.isNull(parent)) {
+            return false;
+        }
+
+        JsonNode currentNode = sectionMapper.valueToTree(sectionOf(section, current));
+        if (isEmpty(currentNode)) {
+            return false;
+        }
+        JsonNode parentNode = sectionMapper.valueToTree(sectionOf(section, parent));
+        return currentNode.equals(parentNode);
+    }
+
+    /**
+     * 获取简历指定模块的内容
+     *
+     * @param section 简历模块
+     * @param cvBO    简历业务对象
+     * @return 模块内容
+     */
+    private static Object sectionOf(CvSectionEnum section, CvBO cvBO) {
+        return switch (section) {
+            case CONTACT -> cvBO.getContact();
+            case SOCIAL_LINK -> cvBO.getSocialLinks();
+            case EDUCATION -> cvBO.getEducations();
+            case EXPERIENCE -> cvBO.getExperiences();
+            case PROJECT -> cvBO.getProjects();
+            case SKILL -> cvBO.getSkills();
+            case CERTIFICATE -> cvBO.getCertificates();
+            case FORMAT_META -> cvBO.getMeta();
+        };
+    }
+
+    private static boolean isEmpty(JsonNode node) {
+        return Objects.isNull(node) || node.isNull() || (node.isContainerNode() && node.isEmpty());
+    }
+
+    /**
+     * 比较时忽略亮点的存储标识
+     */
+    private abstract static class HighlightIdentityMixIn {
+
+        @JsonIgnore
+        abstract Long getId();
+
+        @JsonIgnore
+        abstract Long getRelatedId();
+    }
+}
@@ -0,0 +1,82 @@
+package com.tengYii.jobspark.domain.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.tengYii.jobspark.common.enums.ResultCodeEnum;
+import com.tengYii.jobspark.common.exception.BusinessException;
+import com.tengYii.jobspark.model.bo.CvBO;
+import org.springframework.beans.BeanUtils;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 简历快照编解码器
+ * <p>
+ * 快照为整份 {@link CvBO} 的 gzip 压缩 JSON，不包含优化建议、优化历史等过程数据。
+ * CvBO 结构发生不兼容变更时需提升 {@link #CURRENT_SCHEMA_VERSION}，旧版本快照读取时视为未命中并按规范化表重建。
+ */
+@Component
+public class CvSnapshotCodec {
+
+    /**
+     * 当前快照结构版本
+     */
+    public static final int CURRENT_SCHEMA_VERSION = 1;
+
+    private final ObjectMapper objectMapper;
+
+    private final ObjectReader cvReader;
+
+    public CvSnapshotCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.cvReader = objectMapper.readerFor(CvBO.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    /**
+     * 编码简历快照
+     *
+     * @param cvBO 简历业务对象
+     * @return gzip压缩的JSON字节
+     */
+    public byte[] encode(CvBO cvBO) {
+        CvBO snapshotBO = new CvBO();
+        BeanUtils.copyProperties(cvBO, snapshotBO);
+        snapshotBO.setAdvice(null);
+        snapshotBO.setOptimizationHistory(null);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            objectMapper.writeValue(gzipOutputStream, snapshotBO);
+        } catch (IOException e) {
+            throw new BusinessException(ResultCodeEnum.SYSTEM_ERROR, "简历快照序列化失败", e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * 解码简历快照
+     *
+     * @param schemaVersion 快照结构版本
+     * @param payload       gzip压缩的JSON字节
+     * @return 简历业务对象，版本不一致或内容为空时返回null
+     */
+    public CvBO decode(Integer schemaVersion, byte[] payload) {
+        if (!Objects.equals(schemaVersion, CURRENT_SCHEMA_VERSION) || Objects.isNull(payload) || payload.length == 0) {
+            return null;
+        }
+
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return cvReader.readValue(gzipInputStream);
+        } catch (IOException e) {
+            throw new BusinessException(ResultCodeEnum.SYSTEM_ERROR, "简历快照反序列化失败", e);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.tengYii.jobspark.domain.service;
 
 import com.tengYii.jobspark.common.constants.FileStoreConstants;
 import com.tengYii.jobspark.common.enums.ResultCodeEnum;
+import com.tengYii.jobspark.common.enums.TaskStageEnum;
 import com.tengYii.jobspark.common.exception.BusinessException;
 import com.tengYii.jobspark.domain.agent.CvAnalysisAgent;
 import com.tengYii.jobspark.model.bo.CvBO;
@@ -32,14 +33,22 @@ public class ResumeAnalysisService {
     @Autowired
     private ChatModel chatModel;
 
+    @Autowired
+    private TaskStageTimingService taskStageTimingService;
+
 
     /**
      * 分析上传的简历并将其转换为结构化对象。
+     * <p>
+     * 文本提取、大模型解析两个阶段分别记录耗时事件，大模型解析阶段同时记录token用量。
      *
+     * @param taskId   任务ID，用于记录阶段耗时
      * @param fileName 简历文件名称，用于从oss中获取简历
      * @return 解析后的简历信息对象。
      */
-    public CvBO analyzeResumeFile(String fileName) {
+    public CvBO analyzeResumeFile(String taskId, String fileName) {
+        TaskStageEnum stage = TaskStageEnum.EXTRACT;
+        long stageStartMillis = System.currentTimeMillis();
 
         // 读取文件内容
         try (InputStream inputStream = fileStorageService.downloadFileByBucketAndName(FileStoreConstants.BUCKET_NAME, fileName);
@@ -54,25 +63,30 @@ public class ResumeAnalysisService {
             // 读取整个文档的文本内容
             String resumeText = pdfStripper.getText(document);
             log.info("[简历文本内容转换结构化对象开始] 简历文本内容: {}", resumeText);
+            taskStageTimingService.record(taskId, null, stage, stageStartMillis, null);
 
             // 调用简历解析agent将简历转换为结构化对象（耗时操作）
-            long currentTimeMillis = System.currentTimeMillis();
+            stage = TaskStageEnum.LLM_PARSE;
+            stageStartMillis = System.currentTimeMillis();
             CvAnalysisAgent cvAnalysisAgent = AgenticServices.createAgenticSystem(CvAnalysisAgent.class, chatModel);
             Result<CvBO> cvBOResult = cvAnalysisAgent.reviewCv(resumeText);
-            log.info("解析简历内容耗时:{} ms", System.currentTimeMillis() - currentTimeMillis);
+            log.info("解析简历内容耗时:{} ms", System.currentTimeMillis() - stageStartMillis);
 
             // 获取调用的元数据信息
             TokenUsage tokenUsage = cvBOResult.tokenUsage();
+            taskStageTimingService.record(taskId, null, stage, stageStartMillis, tokenUsage);
 
             log.info("简历解析完成: inputTokenCount:{}, outputTokenCount:{}, totalTokenCount:{}",
                     tokenUsage.inputTokenCount(), tokenUsage.outputTokenCount(), tokenUsage.totalTokenCount());
             return cvBOResult.content();
         } catch (UndeclaredThrowableException e) {
             Throwable undeclaredThrowable = e.getUndeclaredThrowable();
+            taskStageTimingService.recordFailure(taskId, null, stage, stageStartMillis, undeclaredThrowable.getMessage());
             log.error("简历解析失败 (UndeclaredThrowableException): 真实异常类型: {}, 异常信息: {}",
                     undeclaredThrowable.getClass().getName(), undeclaredThrowable.getMessage(), undeclaredThrowable);
             throw new BusinessException(ResultCodeEnum.FILE_PARSE_ERROR, "简历解析失败(底层异常): " + undeclaredThrowable.getMessage(), e);
         } catch (Exception e) {
+            taskStageTimingService.recordFailure(taskId, null, stage, stageStartMillis, e.getMessage());
             log.error("简历解析失败", e);
             throw new BusinessException(ResultCodeEnum.FILE_PARSE_ERROR, "简历解析失败: " + e.getMessage(), e);
         }
@@ -0,0 +1,204 @@
+package com.tengYii.jobspark.domain.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.tengYii.jobspark.common.utils.RedisUtil;
+import com.tengYii.jobspark.model.bo.CvBO;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Base64;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 简历两级缓存服务
+ * <p>
+ * 进程内近端缓存（容量+过期淘汰）在前，Redis 在后，按 简历ID+用户ID 缓存组装好的 {@link CvBO}。
+ * 两级缓存均存放快照编码后的字节，每次命中都解码出新的对象，调用方修改返回值不会污染缓存。
+ * 简历写入后删除 Redis 缓存并通过 Redis 频道广播失效消息，各节点收到后清除近端缓存。
+ */
+@Slf4j
+@Service
+public class ResumeCacheService implements MessageListener, InitializingBean {
+
+    private static final String REDIS_KEY_PREFIX = "cv:bo:v" + CvSnapshotCodec.CURRENT_SCHEMA_VERSION + ":";
+    private static final String INVALIDATE_CHANNEL = "cv:bo:invalidate";
+
+    @Resource
+    private RedisUtil redisUtil;
+
+    @Resource
+    private CvSnapshotCodec cvSnapshotCodec;
+
+    @Resource
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    /**
+     * 是否开启简历缓存
+     */
+    @Value("${jobspark.cv.cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    /**
+     * 近端缓存最大条目数
+     */
+    @Value("${jobspark.cv.cache.near-max-size:1000}")
+    private long nearMaxSize;
+
+    /**
+     * 近端缓存过期时间（秒）
+     */
+    @Value("${jobspark.cv.cache.near-ttl-seconds:300}")
+    private long nearTtlSeconds;
+
+    /**
+     * Redis缓存过期时间（秒）
+     */
+    @Value("${jobspark.cv.cache.redis-ttl-seconds:1800}")
+    private long redisTtlSeconds;
+
+    private Cache<String, byte[]> nearCache;
+
+    @Override
+    public void afterPropertiesSet() {
+        nearCache = CacheBuilder.newBuilder()
+                .maximumSize(nearMaxSize)
+                .expireAfterWrite(nearTtlSeconds, TimeUnit.SECONDS)
+                .build();
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 读取简历BO，两级缓存均未命中时通过loader加载并回填
+     *
+     * @param resumeId 简历ID
+     * @param userId   用户ID
+     * @param loader   缓存未命中时的加载逻辑，简历不存在时返回null（不缓存）
+     * @return 简历业务对象，简历不存在时返回null
+     */
+    public CvBO getCvBO(Long resumeId, Long userId, Supplier<CvBO> loader) {
+        if (!cacheEnabled) {
+            return loader.get();
+        }
+
+        String cacheKey = buildCacheKey(resumeId, userId);
+
+        // 1. 近端缓存
+        byte[] payload = nearCache.getIfPresent(cacheKey);
+
+        // 2. Redis缓存
+        if (Objects.isNull(payload)) {
+            payload = getFromRedis(cacheKey);
+            if (Objects.nonNull(payload)) {
+                nearCache.put(cacheKey, payload);
+            }
+        }
+
+        if (Objects.nonNull(payload)) {
+            CvBO cvBO = decode(cacheKey, payload);
+            if (Objects.nonNull(cvBO)) {
+                return cvBO;
+            }
+        }
+
+        // 3. 回源加载并回填两级缓存
+        CvBO cvBO = loader.get();
+        if (Objects.nonNull(cvBO)) {
+            put(cacheKey, cvBO);
+        }
+        return cvBO;
+    }
+
+    /**
+     * 失效指定简历的缓存
+     * <p>
+     * 存在事务时在事务提交后执行，避免其他请求在提交前重新加载到旧数据。
+     *
+     * @param resumeId 简历ID
+     * @param userId   用户ID
+     */
+    public void evict(Long resumeId, Long userId) {
+        if (!cacheEnabled) {
+            return;
+        }
+
+        String cacheKey = buildCacheKey(resumeId, userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doEvict(cacheKey);
+                }
+            });
+        } else {
+            doEvict(cacheKey);
+        }
+    }
+
+    /**
+     * 接收其他节点广播的失效消息，清除近端缓存
+     *
+     * @param message 失效消息（消息体为缓存key）
+     * @param pattern 订阅的频道
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object cacheKey = redisUtil.deserializeMessage(message.getBody());
+        if (cacheKey instanceof String key) {
+            nearCache.invalidate(key);
+        }
+    }
+
+    private void doEvict(String cacheKey) {
+        nearCache.invalidate(cacheKey);
+        try {
+            redisUtil.del(REDIS_KEY_PREFIX + cacheKey);
+        } catch (Exception e) {
+            log.warn("删除简历Redis缓存失败，cacheKey: {}", cacheKey, e);
+        }
+        redisUtil.publish(INVALIDATE_CHANNEL, cacheKey);
+    }
+
+    private void put(String cacheKey, CvBO cvBO) {
+        byte[] payload = cvSnapshotCodec.encode(cvBO);
+        nearCache.put(cacheKey, payload);
+        // Redis值序列化为JSON，字节数组以Base64字符串存放
+        redisUtil.set(REDIS_KEY_PREFIX + cacheKey, Base64.getEncoder().encodeToString(payload),
+                redisTtlSeconds, TimeUnit.SECONDS);
+    }
+
+    private byte[] getFromRedis(String cacheKey) {
+        try {
+            Object value = redisUtil.get(REDIS_KEY_PREFIX + cacheKey);
+            return value instanceof String encoded ? Base64.getDecoder().decode(encoded) : null;
+        } catch (Exception e) {
+            log.warn("读取简历Redis缓存失败，cacheKey: {}", cacheKey, e);
+            return null;
+        }
+    }
+
+    private CvBO decode(String cacheKey, byte[] payload) {
+        try {
+            return cvSnapshotCodec.decode(CvSnapshotCodec.CURRENT_SCHEMA_VERSION, payload);
+        } catch (Exception e) {
+            log.warn("简历缓存解码失败，cacheKey: {}", cacheKey, e);
+            nearCache.invalidate(cacheKey);
+            return null;
+        }
+    }
+
+    private String buildCacheKey(Long resumeId, Long userId) {
+        return resumeId + ":" + userId;
+    }
+}
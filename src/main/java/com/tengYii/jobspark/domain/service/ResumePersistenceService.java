@@ -2,22 +2,49 @@ package com.tengYii.jobspark.domain.service;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.toolkit.CollectionUtils;
+import com.google.common.collect.Lists;
 import com.tengYii.jobspark.common.enums.CvHighLightTypeEnum;
+import com.tengYii.jobspark.common.enums.CvSectionEnum;
 import com.tengYii.jobspark.common.enums.DeleteFlagEnum;
+import com.tengYii.jobspark.common.enums.ResultCodeEnum;
+import com.tengYii.jobspark.common.exception.BusinessException;
 import com.tengYii.jobspark.common.utils.SnowflakeUtil;
+import com.tengYii.jobspark.infrastructure.context.DataSourceRoutingContext;
 import com.tengYii.jobspark.infrastructure.repo.*;
 import com.tengYii.jobspark.model.bo.*;
 import com.tengYii.jobspark.model.po.*;
+import jakarta.annotation.Resource;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,9 +52,22 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ResumePersistenceService {
 
+    /**
+     * 批量组装简历时单批次的简历数量
+     */
+    private static final int BATCH_ASSEMBLE_SIZE = 100;
+
+    /**
+     * 流式导出简历时单批次组装的简历数量
+     */
+    private static final int STREAM_ASSEMBLE_SIZE = 50;
+
     @Autowired
     private CvRepository cvRepository;
 
+    @Autowired
+    private CvBulkWriter cvBulkWriter;
+
     @Autowired
     private CvContactRepository contactRepository;
 
@@ -58,6 +98,63 @@ public class ResumePersistenceService {
     @Autowired
     private CvHighlightRepository highlightRepository;
 
+    @Autowired
+    private CvSnapshotRepository cvSnapshotRepository;
+
+    @Autowired
+    private CvSnapshotCodec cvSnapshotCodec;
+
+    @Autowired
+    private CvSectionRefRepository cvSectionRefRepository;
+
+    @Autowired
+    private CvSectionDiffer cvSectionDiffer;
+
+    @Autowired
+    private ResumeCacheService resumeCacheService;
+
+    @Autowired
+    private DataSourceRoutingContext dataSourceRoutingContext;
+
+    @Resource(name = "cvAssembleExecutor")
+    private Executor cvAssembleExecutor;
+
+    @Resource(name = "cvExportExecutor")
+    private Executor cvExportExecutor;
+
+    @Resource(name = "cvSnapshotBackfillExecutor")
+    private Executor cvSnapshotBackfillExecutor;
+
+    /**
+     * 是否写入并优先读取简历快照
+     */
+    @Value("${jobspark.cv.snapshot.enabled:true}")
+    private boolean snapshotEnabled;
+
+    /**
+     * 是否并发查询各子表组装简历
+     */
+    @Value("${jobspark.cv.assemble.parallel-enabled:true}")
+    private boolean parallelAssembleEnabled;
+
+    /**
+     * 组装简历时单个子表查询的超时时间（毫秒）
+     */
+    @Value("${jobspark.cv.assemble.query-timeout-ms:3000}")
+    private long assembleQueryTimeoutMs;
+
+    /**
+     * 流式导出时单批次组装的超时时间（毫秒）
+     */
+    @Value("${jobspark.cv.export.batch-timeout-ms:30000}")
+    private long exportBatchTimeoutMs;
+
+    /**
+     * 保存简历新版本时是否与父版本共享内容相同的模块
+     */
+    @Value("${jobspark.cv.version.section-sharing-enabled:true}")
+    private boolean sectionSharingEnabled;
+
 
     /**
      * 将CvBO转换并保存为PO对象
@@ -67,82 +164,685 @@ public class ResumePersistenceService {
      * @return 保存后的简历ID
      */
     public Long convertAndSaveCv(CvBO cvBO, LocalDateTime nowTime) {
+        return convertAndSaveCvVersion(cvBO, null, nowTime);
+    }
+
+    /**
+     * 将CvBO作为指定简历的新版本保存
+     * <p>
+     * 与父版本内容相同的模块不再复制子表行，只记录实际存储该模块的简历ID；读取时透明解析，仍返回完整简历。
+     * 引用始终指向最初写入数据的版本，不形成引用链。简历快照仍按完整简历写入。
+     *
+     * @param cvBO       简历业务对象
+     * @param parentCvId 父版本简历ID（为空时按完整简历保存）
+     * @param nowTime    当前时间
+     * @return 保存后的简历ID
+     */
+    public Long convertAndSaveCvVersion(CvBO cvBO, Long parentCvId, LocalDateTime nowTime) {
         if (Objects.isNull(cvBO)) {
             throw new IllegalArgumentException("简历对象不能为空");
         }
 
-        // 1. 转换并保存主简历信息
-        CvPO cvPO = convertToCvPO(cvBO, nowTime);
-        cvRepository.save(cvPO);
-        Long cvId = cvPO.getId();
-
-        // 2. 转换并保存联系方式
-        convertAndSaveContact(cvId, cvBO.getContact(), nowTime);
+        // 1. 找出与父版本内容相同的模块及其实际存储位置，再一次性转换出其余表行（主键预先生成，亮点关联ID随之确定）
+        Map<CvSectionEnum, Long> sharedSections = resolveSharedSections(cvBO, parentCvId);
+        CvRowSetBO rowSet = convertToCvRowSet(cvBO, parentCvId, sharedSections, nowTime);
 
-        // 3. 转换并保存社交链接
-        convertAndSaveSocialLinks(cvId, cvBO.getSocialLinks(), nowTime);
+        // 2. 按表批量写入，每张表一条多行INSERT语句
+        cvBulkWriter.insert(rowSet);
 
-        // 4. 转换并保存教育经历
-        convertAndSaveEducations(cvId, cvBO.getEducations(), nowTime);
+        // 3. 事务提交后失效该简历的两级缓存并广播到其他节点
+        CvPO cvPO = rowSet.getCv();
+        resumeCacheService.evict(cvPO.getId(), cvPO.getUserId());
 
-        // 5. 转换并保存工作经历
-        convertAndSaveExperiences(cvId, cvBO.getExperiences(), nowTime);
+        // 4. 写入窗口期内该用户的读请求走主库，避免从库复制延迟导致读不到刚保存的简历（提交后按复制延迟重新计时）
+        dataSourceRoutingContext.markWrite(cvPO.getUserId());
 
-        // 6. 转换并保存项目经验
-        convertAndSaveProjects(cvId, cvBO.getProjects(), nowTime);
-
-        // 7. 转换并保存技能信息
-        convertAndSaveSkills(cvId, cvBO.getSkills(), nowTime);
-
-        // 8. 转换并保存证书信息
-        convertAndSaveCertificates(cvId, cvBO.getCertificates(), nowTime);
-
-        // 9. 转换并保存格式元数据
-        convertAndSaveFormatMeta(cvId, cvBO.getMeta(), nowTime);
-
-        return cvId;
+        return cvPO.getId();
     }
 
     /**
      * 根据简历po对象查询并转换为BO对象
+     * <p>
+     * 开启快照读取时优先按主键读取简历快照，一次查询即可得到完整简历；快照缺失或版本过旧时按规范化表组装，并回填快照。
+     * <p>
+     * 按规范化表组装时，工作经历、项目经验、专业技能的亮点通过一次批量查询加载后在内存中按类型+关联ID挂载，
+     * 组装单份简历的查询次数与条目数量无关。开启并发组装时，各子表查询同时发起。
+     * <p>
+     * 只读操作，不开启事务，避免调用线程在子查询并发执行期间额外占用一个数据库连接。
      *
      * @param cvPO 简历po对象
      * @return 简历业务对象
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public CvBO convertToCvBO(CvPO cvPO) {
+        if (snapshotEnabled) {
+            CvSnapshotPO snapshotPO = cvSnapshotRepository.getById(cvPO.getId());
+            CvBO cvBO = decodeSnapshot(cvPO, snapshotPO);
+            if (Objects.nonNull(cvBO)) {
+                return cvBO;
+            }
+        }
 
-        // 1. 填充主cvBO对象
-        Long cvId = cvPO.getId();
+        CvBO cvBO = parallelAssembleEnabled ? convertToCvBOInParallel(cvPO) : convertToCvBOInSequence(cvPO);
+        if (snapshotEnabled) {
+            backfillSnapshot(cvPO.getId(), cvBO);
+        }
+        return cvBO;
+    }
+
+    /**
+     * 顺序查询各子表并组装简历BO对象
+     *
+     * @param cvPO 简历po对象
+     * @return 简历业务对象
+     */
+    private CvBO convertToCvBOInSequence(CvPO cvPO) {
+
+        // 1. 填充主cvBO对象，并解析各模块实际存储的简历ID
         CvBO cvBO = new CvBO();
         BeanUtils.copyProperties(cvPO, cvBO);
+        Map<CvSectionEnum, Long> sourceIds = resolveSectionSources(cvPO);
 
         // 2. 查询并转换联系方式
-        cvBO.setContact(convertToContactBO(cvId));
+        cvBO.setContact(convertToContactBO(sourceIds.get(CvSectionEnum.CONTACT)));
 
         // 3. 查询并转换社交链接
-        cvBO.setSocialLinks(convertToSocialLinkBOList(cvId));
+        cvBO.setSocialLinks(convertToSocialLinkBOList(sourceIds.get(CvSectionEnum.SOCIAL_LINK)));
 
         // 4. 查询并转换教育经历
-        cvBO.setEducations(convertToEducationBOList(cvId));
+        cvBO.setEducations(convertToEducationBOList(sourceIds.get(CvSectionEnum.EDUCATION)));
 
-        // 5. 查询并转换工作经历
-        cvBO.setExperiences(convertToExperienceBOList(cvId));
+        // 5. 查询工作经历、项目经验、技能信息
+        List<CvExperiencePO> experiencePOList = listExperiencePO(sourceIds.get(CvSectionEnum.EXPERIENCE));
+        List<CvProjectPO> projectPOList = listProjectPO(sourceIds.get(CvSectionEnum.PROJECT));
+        List<CvSkillPO> skillPOList = listSkillPO(sourceIds.get(CvSectionEnum.SKILL));
 
-        // 6. 查询并转换项目经验
-        cvBO.setProjects(convertToProjectBOList(cvId));
+        // 6. 一次性查询上述条目的全部亮点，并按类型+关联ID分组
+        Map<Integer, Map<Long, List<HighlightBO>>> highlightMap = loadHighlightMap(experiencePOList, projectPOList, skillPOList);
 
-        // 7. 查询并转换技能信息
-        cvBO.setSkills(convertToSkillBOList(cvId));
+        // 7. 转换工作经历、项目经验、技能信息并挂载亮点
+        cvBO.setExperiences(convertToExperienceBOList(experiencePOList,
+                highlightMap.getOrDefault(CvHighLightTypeEnum.EXPERIENCE.getType(), Collections.emptyMap())));
+        cvBO.setProjects(convertToProjectBOList(projectPOList,
+                highlightMap.getOrDefault(CvHighLightTypeEnum.PROJECT.getType(), Collections.emptyMap())));
+        cvBO.setSkills(convertToSkillBOList(skillPOList,
+                highlightMap.getOrDefault(CvHighLightTypeEnum.SKILL.getType(), Collections.emptyMap())));
 
         // 8. 查询并转换证书信息
-        cvBO.setCertificates(convertToCertificateBOList(cvId));
+        cvBO.setCertificates(convertToCertificateBOList(sourceIds.get(CvSectionEnum.CERTIFICATE)));
 
         // 9. 查询并转换格式元数据
-        cvBO.setMeta(convertToFormatMetaBO(cvId));
+        cvBO.setMeta(convertToFormatMetaBO(sourceIds.get(CvSectionEnum.FORMAT_META)));
+
+        return cvBO;
+    }
+
+    /**
+     * 并发查询各子表并组装简历BO对象
+     * <p>
+     * 联系方式、社交链接、教育经历、工作经历、项目经验、技能、证书、格式元数据彼此独立，同时提交到组装执行器；
+     * 亮点依赖工作经历/项目经验/技能的主键，在三者返回后再批量查询。每个查询单独计算超时。
+     *
+     * @param cvPO 简历po对象
+     * @return 简历业务对象
+     */
+    private CvBO convertToCvBOInParallel(CvPO cvPO) {
+
+        // 1. 填充主cvBO对象，并解析各模块实际存储的简历ID
+        Long cvId = cvPO.getId();
+        CvBO cvBO = new CvBO();
+        BeanUtils.copyProperties(cvPO, cvBO);
+        Map<CvSectionEnum, Long> sourceIds = resolveSectionSources(cvPO);
+
+        // 2. 并发发起各子表查询
+        CompletableFuture<ContactBO> contactFuture = supplyAssembleQuery(
+                () -> convertToContactBO(sourceIds.get(CvSectionEnum.CONTACT)));
+        CompletableFuture<List<SocialLinkBO>> socialLinkFuture = supplyAssembleQuery(
+                () -> convertToSocialLinkBOList(sourceIds.get(CvSectionEnum.SOCIAL_LINK)));
+        CompletableFuture<List<EducationBO>> educationFuture = supplyAssembleQuery(
+                () -> convertToEducationBOList(sourceIds.get(CvSectionEnum.EDUCATION)));
+        CompletableFuture<List<CvExperiencePO>> experienceFuture = supplyAssembleQuery(
+                () -> listExperiencePO(sourceIds.get(CvSectionEnum.EXPERIENCE)));
+        CompletableFuture<List<CvProjectPO>> projectFuture = supplyAssembleQuery(
+                () -> listProjectPO(sourceIds.get(CvSectionEnum.PROJECT)));
+        CompletableFuture<List<CvSkillPO>> skillFuture = supplyAssembleQuery(
+                () -> listSkillPO(sourceIds.get(CvSectionEnum.SKILL)));
+        CompletableFuture<List<CertificateBO>> certificateFuture = supplyAssembleQuery(
+                () -> convertToCertificateBOList(sourceIds.get(CvSectionEnum.CERTIFICATE)));
+        CompletableFuture<FormatMetaBO> formatMetaFuture = supplyAssembleQuery(
+                () -> convertToFormatMetaBO(sourceIds.get(CvSectionEnum.FORMAT_META)));
+
+        // 3. 工作经历、项目经验、技能返回后，批量查询亮点
+        List<CvExperiencePO> experiencePOList = joinAssembleQuery(experienceFuture, cvId);
+        List<CvProjectPO> projectPOList = joinAssembleQuery(projectFuture, cvId);
+        List<CvSkillPO> skillPOList = joinAssembleQuery(skillFuture, cvId);
+        Map<Integer, Map<Long, List<HighlightBO>>> highlightMap = joinAssembleQuery(
+                supplyAssembleQuery(() -> loadHighlightMap(experiencePOList, projectPOList, skillPOList)), cvId);
+
+        // 4. 汇总查询结果
+        cvBO.setContact(joinAssembleQuery(contactFuture, cvId));
+        cvBO.setSocialLinks(joinAssembleQuery(socialLinkFuture, cvId));
+        cvBO.setEducations(joinAssembleQuery(educationFuture, cvId));
+        cvBO.setExperiences(convertToExperienceBOList(experiencePOList,
+                highlightMap.getOrDefault(CvHighLightTypeEnum.EXPERIENCE.getType(), Collections.emptyMap())));
+        cvBO.setProjects(convertToProjectBOList(projectPOList,
+                highlightMap.getOrDefault(CvHighLightTypeEnum.PROJECT.getType(), Collections.emptyMap())));
+        cvBO.setSkills(convertToSkillBOList(skillPOList,
+                highlightMap.getOrDefault(CvHighLightTypeEnum.SKILL.getType(), Collections.emptyMap())));
+        cvBO.setCertificates(joinAssembleQuery(certificateFuture, cvId));
+        cvBO.setMeta(joinAssembleQuery(formatMetaFuture, cvId));
 
         return cvBO;
     }
 
+    /**
+     * 提交组装查询到组装执行器，并设置单次查询超时
+     *
+     * @param query 查询逻辑
+     * @param <T>   查询结果类型
+     * @return 查询结果Future
+     */
+    private <T> CompletableFuture<T> supplyAssembleQuery(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, cvAssembleExecutor)
+                .orTimeout(assembleQueryTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 等待组装查询结果，超时或失败时转换为业务异常
+     *
+     * @param future 查询结果Future
+     * @param cvId   简历ID
+     * @param <T>    查询结果类型
+     * @return 查询结果
+     */
+    private <T> T joinAssembleQuery(CompletableFuture<T> future, Long cvId) {
+        return joinAssembleQuery(future, cvId, assembleQueryTimeoutMs);
+    }
+
+    /**
+     * 等待组装查询结果，超时或失败时转换为业务异常
+     *
+     * @param future    查询结果Future
+     * @param cvId      简历ID
+     * @param timeoutMs 查询超时时间（毫秒），用于日志
+     * @param <T>       查询结果类型
+     * @return 查询结果
+     */
+    private <T> T joinAssembleQuery(CompletableFuture<T> future, Long cvId, long timeoutMs) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = Objects.nonNull(e.getCause()) ? e.getCause() : e;
+            if (cause instanceof TimeoutException) {
+                log.error("组装简历查询超时，cvId: {}, timeout: {} ms", cvId, timeoutMs);
+                throw new BusinessException(ResultCodeEnum.SYSTEM_ERROR, "查询简历数据超时", cause);
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new BusinessException(ResultCodeEnum.SYSTEM_ERROR, "查询简历数据失败", cause);
+        }
+    }
+
+    /**
+     * 流式遍历用户的全部简历
+     * <p>
+     * 简历主表通过MyBatis游标逐行读取，每攒够一批即组装为完整简历交给consumer处理，内存占用与简历数量无关。
+     * 流式结果集读取期间独占当前连接，同一连接上无法执行其他查询，因此每批简历在导出组装线程池上使用独立连接组装，
+     * 该线程池饱和时阻塞等待而不会退回到当前线程执行。
+     *
+     * @param userId   用户ID
+     * @param consumer 简历处理逻辑（简历主表行、完整简历业务对象），按主键升序依次调用
+     */
+    @Transactional(readOnly = true)
+    public void forEachUserCv(Long userId, BiConsumer<CvPO, CvBO> consumer) {
+        try (Cursor<CvPO> cursor = cvRepository.streamByUser(userId)) {
+            List<CvPO> batch = new ArrayList<>(STREAM_ASSEMBLE_SIZE);
+            for (CvPO cvPO : cursor) {
+                batch.add(cvPO);
+                if (batch.size() >= STREAM_ASSEMBLE_SIZE) {
+                    assembleAndConsume(batch, consumer);
+                    batch = new ArrayList<>(STREAM_ASSEMBLE_SIZE);
+                }
+            }
+            assembleAndConsume(batch, consumer);
+        } catch (IOException e) {
+            throw new BusinessException(ResultCodeEnum.SYSTEM_ERROR, "关闭简历游标失败", e);
+        }
+    }
+
+    /**
+     * 在导出组装线程池上组装一批简历，再在当前线程上依次交给consumer处理
+     *
+     * @param cvPOList 简历po对象列表（单批次）
+     * @param consumer 简历处理逻辑
+     */
+    private void assembleAndConsume(List<CvPO> cvPOList, BiConsumer<CvPO, CvBO> consumer) {
+        if (CollectionUtils.isEmpty(cvPOList)) {
+            return;
+        }
+
+        List<CvBO> cvBOList = joinAssembleQuery(
+                CompletableFuture.supplyAsync(() -> convertToCvBOList(cvPOList), cvExportExecutor)
+                        .orTimeout(exportBatchTimeoutMs, TimeUnit.MILLISECONDS),
+                cvPOList.get(0).getId(), exportBatchTimeoutMs);
+        for (int i = 0; i < cvPOList.size(); i++) {
+            if (Objects.nonNull(cvBOList.get(i))) {
+                consumer.accept(cvPOList.get(i), cvBOList.get(i));
+            }
+        }
+    }
+
+    /**
+     * 批量将简历po对象转换为BO对象
+     * <p>
+     * 每张子表按 cv_id IN (...) 只查询一次，再在内存中按简历ID分组组装，查询次数与简历数量无关；
+     * 简历数量较多时按批次拆分，避免 IN 列表过长。返回顺序与入参顺序一致。
+     *
+     * @param cvPOList 简历po对象列表
+     * @return 简历业务对象列表
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<CvBO> convertToCvBOList(List<CvPO> cvPOList) {
+        if (CollectionUtils.isEmpty(cvPOList)) {
+            return new ArrayList<>();
+        }
+
+        List<CvBO> cvBOList = new ArrayList<>(cvPOList.size());
+        for (List<CvPO> partition : Lists.partition(cvPOList, BATCH_ASSEMBLE_SIZE)) {
+            cvBOList.addAll(snapshotEnabled ? convertToCvBOBatchWithSnapshot(partition) : convertToCvBOBatch(partition));
+        }
+        return cvBOList;
+    }
+
+    /**
+     * 单批次组装多份简历，优先使用快照
+     * <p>
+     * 快照按 cv_id IN (...) 一次查询，仅快照缺失的简历按规范化表批量组装并回填快照。
+     *
+     * @param cvPOList 简历po对象列表（单批次）
+     * @return 简历业务对象列表
+     */
+    private List<CvBO> convertToCvBOBatchWithSnapshot(List<CvPO> cvPOList) {
+        List<Long> cvIds = cvPOList.stream()
+                .map(CvPO::getId)
+                .collect(Collectors.toList());
+        Map<Long, CvSnapshotPO> snapshotMap = cvSnapshotRepository.listByCvIds(cvIds).stream()
+                .collect(Collectors.toMap(CvSnapshotPO::getCvId, Function.identity()));
+
+        // 1. 解码快照，记录未命中的简历
+        Map<Long, CvBO> cvBOMap = new HashMap<>(cvPOList.size());
+        List<CvPO> missedCvPOList = new ArrayList<>();
+        for (CvPO cvPO : cvPOList) {
+            CvBO cvBO = decodeSnapshot(cvPO, snapshotMap.get(cvPO.getId()));
+            if (Objects.nonNull(cvBO)) {
+                cvBOMap.put(cvPO.getId(), cvBO);
+            } else {
+                missedCvPOList.add(cvPO);
+            }
+        }
+
+        // 2. 未命中的简历按规范化表批量组装并回填快照
+        if (CollectionUtils.isNotEmpty(missedCvPOList)) {
+            List<CvBO> assembledList = convertToCvBOBatch(missedCvPOList);
+            for (int i = 0; i < missedCvPOList.size(); i++) {
+                Long cvId = missedCvPOList.get(i).getId();
+                cvBOMap.put(cvId, assembledList.get(i));
+                backfillSnapshot(cvId, assembledList.get(i));
+            }
+        }
+
+        return cvPOList.stream()
+                .map(cvPO -> cvBOMap.get(cvPO.getId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 解码简历快照
+     * <p>
+     * 简历主表字段以主表为准覆盖快照中的同名字段。快照损坏时记录日志并视为未命中。
+     *
+     * @param cvPO       简历po对象
+     * @param snapshotPO 简历快照（可为空）
+     * @return 简历业务对象，快照缺失、版本过旧或损坏时返回null
+     */
+    private CvBO decodeSnapshot(CvPO cvPO, CvSnapshotPO snapshotPO) {
+        if (Objects.isNull(snapshotPO)) {
+            return null;
+        }
+
+        try {
+            CvBO cvBO = cvSnapshotCodec.decode(snapshotPO.getSchemaVersion(), snapshotPO.getPayload());
+            if (Objects.nonNull(cvBO)) {
+                BeanUtils.copyProperties(cvPO, cvBO);
+            }
+            return cvBO;
+        } catch (BusinessException e) {
+            log.warn("简历快照解码失败，按规范化表重建，cvId: {}", cvPO.getId(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 回填简历快照
+     * <p>
+     * 读请求可能路由到从库，且当前线程可能已绑定只读连接（或被流式结果集占用），因此回填提交到独立的回填线程池
+     * （饱和时丢弃，绝不在当前线程执行）并显式写入主库。回填失败不影响本次读取，下次读取时会再次尝试。
+     *
+     * @param cvId 简历ID
+     * @param cvBO 按规范化表组装的简历业务对象
+     */
+    private void backfillSnapshot(Long cvId, CvBO cvBO) {
+        if (Objects.isNull(cvBO)) {
+            return;
+        }
+
+        try {
+            CvSnapshotPO snapshotPO = buildSnapshotPO(cvId, cvBO, LocalDateTime.now());
+            CompletableFuture.runAsync(() -> dataSourceRoutingContext.runOnPrimary(() -> cvSnapshotRepository.upsert(snapshotPO)),
+                            cvSnapshotBackfillExecutor)
+                    .exceptionally(e -> {
+                        log.warn("回填简历快照失败，cvId: {}", cvId, e);
+                        return null;
+                    });
+        } catch (Exception e) {
+            log.warn("回填简历快照失败，cvId: {}", cvId, e);
+        }
+    }
+
+    /**
+     * 构建简历快照
+     *
+     * @param cvId    简历ID
+     * @param cvBO    简历业务对象
+     * @param nowTime 当前时间
+     * @return 简历快照
+     */
+    private CvSnapshotPO buildSnapshotPO(Long cvId, CvBO cvBO, LocalDateTime nowTime) {
+        CvSnapshotPO snapshotPO = new CvSnapshotPO();
+        snapshotPO.setCvId(cvId);
+        snapshotPO.setSchemaVersion(CvSnapshotCodec.CURRENT_SCHEMA_VERSION);
+        snapshotPO.setPayload(cvSnapshotCodec.encode(cvBO));
+        snapshotPO.setCreatedTime(nowTime);
+        snapshotPO.setUpdatedTime(nowTime);
+        return snapshotPO;
+    }
+
+    /**
+     * 查询简历各模块的条目数量
+     *
+     * @param cvIds 简历ID列表
+     * @return 条目数量（key：简历ID -> 模块名称 -> 条目数量）
+     * @see CvSectionCountBO
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<Long, Map<String, Long>> countSectionsByCvIds(List<Long> cvIds) {
+        if (CollectionUtils.isEmpty(cvIds)) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, Map<String, Long>> countMap = new HashMap<>();
+        for (List<Long> partition : Lists.partition(cvIds, BATCH_ASSEMBLE_SIZE)) {
+            // 共享模块的条目存储在来源简历下，一并统计后再按引用映射回各简历
+            Map<Long, Map<CvSectionEnum, Long>> sourceMap = loadSectionSourceMap(partition);
+            Set<Long> countCvIds = new HashSet<>(partition);
+            sourceMap.values().forEach(sections -> countCvIds.addAll(sections.values()));
+
+            Map<Long, Map<String, Long>> storedCountMap = new HashMap<>();
+            for (CvSectionCountBO sectionCount : cvRepository.countSectionsByCvIds(countCvIds)) {
+                storedCountMap.computeIfAbsent(sectionCount.getCvId(), key -> new HashMap<>())
+                        .put(sectionCount.getSection(), sectionCount.getTotal());
+            }
+
+            for (Long cvId : partition) {
+                Map<String, Long> sectionCountMap = new HashMap<>();
+                for (CvSectionEnum section : CvSectionEnum.values()) {
+                    Long total = storedCountMap.getOrDefault(sourceOf(sourceMap, cvId, section), Collections.emptyMap())
+                            .get(section.getCode());
+                    if (Objects.nonNull(total)) {
+                        sectionCountMap.put(section.getCode(), total);
+                    }
+                }
+                countMap.put(cvId, sectionCountMap);
+            }
+        }
+        return countMap;
+    }
+
+    /**
+     * 单批次组装多份简历
+     *
+     * @param cvPOList 简历po对象列表（单批次）
+     * @return 简历业务对象列表
+     */
+    private List<CvBO> convertToCvBOBatch(List<CvPO> cvPOList) {
+        List<Long> cvIds = cvPOList.stream()
+                .map(CvPO::getId)
+                .collect(Collectors.toList());
+
+        // 1. 解析各模块实际存储的简历ID，按实际存储ID批量查询各子表
+        Map<Long, Map<CvSectionEnum, Long>> sourceMap = loadSectionSourceMap(cvPOList);
+        Map<Long, List<CvContactPO>> contactMap = groupByCvId(contactRepository.list(
+                new LambdaQueryWrapper<CvContactPO>()
+                        .in(CvContactPO::getCvId, sourceIdsOf(sourceMap, cvIds, CvSectionEnum.CONTACT))
+                        .eq(CvContactPO::getDeleteFlag, DeleteFlagEnum.NOT_DELETED.getCode())
+        ), CvContactPO::getCvId);
+        Map<Long, List<CvSocialLinkPO>> linkMap = groupByCvId(linkRepository.list(
+                new LambdaQueryWrapper<CvSocialLinkPO>()
+                        .in(CvSocialLinkPO::getCvId, sourceIdsOf(sourceMap, cvIds, CvSectionEnum.SOCIAL_LINK))
+                        .eq(CvSocialLinkPO::getDeleteFlag, DeleteFlagEnum.NOT_DELETED.getCode())
+        ), CvSocialLinkPO::getCvId);
+        Map<Long, List<CvEducationPO>> educationMap = groupByCvId(educationRepository.list(
+                new LambdaQueryWrapper<CvEducationPO>()
+                        .in(CvEducationPO::getCvId, sourceIdsOf(sourceMap, cvIds, CvSectionEnum.EDUCATION))
+                        .eq(CvEducationPO::getDeleteFlag, DeleteFlagEnum.NOT_DELETED.getCode())
+        ), CvEducationPO::getCvId);
+        List<CvExperiencePO> experiencePOList = experienceRepository.list(
+                new LambdaQueryWrapper<CvExperiencePO>()
+                        .in(CvExperiencePO::getCvId, sourceIdsOf(sourceMap, cvIds, CvSectionEnum.EXPERIENCE))
+                        .eq(CvExperiencePO::getDeleteFlag, DeleteFlagEnum.NOT_DELETED.getCode())
+        );
+        List<CvProjectPO> projectPOList = projectRepository.list(
+                new LambdaQueryWrapper<CvProjectPO>()
+                        .in(CvProjectPO::getCvId, sourceIdsOf(sourceMap, cvIds, CvSectionEnum.PROJECT))
+                        .eq(CvProjectPO::getDeleteFlag, DeleteFlagEnum.NOT_DELETED.getCode())
+        );
+        List<CvSkillPO> skillPOList = skillRepository.list(
+                new LambdaQueryWrapper<CvSkillPO>()
+                        .in(CvSkillPO::getCvId, sourceIdsOf(sourceMap, cvIds, CvSectionEnum.SKILL))
+                        .eq(CvSkillPO::getDeleteFlag, DeleteFlagEnum.NOT_DELETED.getCode())
+        );
+        Map<Long, List<CvCertificatePO>> certificateMap = groupByCvId(certificateRepository.list(
+                new LambdaQueryWrapper<CvCertificatePO>()
+                        .in(CvCertificatePO::getCvId, sourceIdsOf(sourceMap, cvIds, CvSectionEnum.CERTIFICATE))
+                        .eq(CvCertificatePO::getDeleteFlag, DeleteFlagEnum.NOT_DELETED.getCode())
+        ), CvCertificatePO::getCvId);
+        Map<Long, List<CvFormatMetaPO>> formatMetaMap = groupByCvId(formatMetaRepository.list(
+                new LambdaQueryWrapper<CvFormatMetaPO>()
+                        .in(CvFormatMetaPO::getCvId, sourceIdsOf(sourceMap, cvIds, CvSectionEnum.FORMAT_META))
+        ), CvFormatMetaPO::getCvId);
+
+        // 2. 批量查询本地化配置及亮点
+        List<Long> formatMetaIds = formatMetaMap.values().stream()
+                .flatMap(List::stream)
+                .map(CvFormatMetaPO::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        Map<Long, CvLocaleConfigPO> localeConfigMap = CollectionUtils.isEmpty(formatMetaIds)
+                ? Collections.emptyMap()
+                : localeConfigRepository.list(
+                        new LambdaQueryWrapper<CvLocaleConfigPO>()
+                                .in(CvLocaleConfigPO::getFormatMetaId, formatMetaIds)
+                ).stream().collect(Collectors.toMap(CvLocaleConfigPO::getFormatMetaId, Function.identity(),
+                        (first, second) -> first));
+        Map<Integer, Map<Long, List<HighlightBO>>> highlightMap = loadHighlightMap(experiencePOList, projectPOList, skillPOList);
+
+        Map<Long, List<CvExperiencePO>> experienceMap = groupByCvId(experiencePOList, CvExperiencePO::getCvId);
+        Map<Long, List<CvProjectPO>> projectMap = groupByCvId(projectPOList, CvProjectPO::getCvId);
+        Map<Long, List<CvSkillPO>> skillMap = groupByCvId(skillPOList, CvSkillPO::getCvId);
+
+        // 3. 按简历逐份组装
+        List<CvBO> cvBOList = new ArrayList<>(cvPOList.size());
+        for (CvPO cvPO : cvPOList) {
+            Long cvId = cvPO.getId();
+            CvBO cvBO = new CvBO();
+            BeanUtils.copyProperties(cvPO, cvBO);
+
+            List<CvContactPO> contactPOList = contactMap.getOrDefault(
+                    sourceOf(sourceMap, cvId, CvSectionEnum.CONTACT), Collections.emptyList());
+            cvBO.setContact(contactPOList.isEmpty() ? null : toContactBO(contactPOList.get(0)));
+            cvBO.setSocialLinks(toSocialLinkBOList(linkMap.get(sourceOf(sourceMap, cvId, CvSectionEnum.SOCIAL_LINK))));
+            cvBO.setEducations(toEducationBOList(educationMap.get(sourceOf(sourceMap, cvId, CvSectionEnum.EDUCATION))));
+            cvBO.setExperiences(convertToExperienceBOList(experienceMap.get(sourceOf(sourceMap, cvId, CvSectionEnum.EXPERIENCE)),
+                    highlightMap.getOrDefault(CvHighLightTypeEnum.EXPERIENCE.getType(), Collections.emptyMap())));
+            cvBO.setProjects(convertToProjectBOList(projectMap.get(sourceOf(sourceMap, cvId, CvSectionEnum.PROJECT)),
+                    highlightMap.getOrDefault(CvHighLightTypeEnum.PROJECT.getType(), Collections.emptyMap())));
+            cvBO.setSkills(convertToSkillBOList(skillMap.get(sourceOf(sourceMap, cvId, CvSectionEnum.SKILL)),
+                    highlightMap.getOrDefault(CvHighLightTypeEnum.SKILL.getType(), Collections.emptyMap())));
+            cvBO.setCertificates(toCertificateBOList(certificateMap.get(sourceOf(sourceMap, cvId, CvSectionEnum.CERTIFICATE))));
+
+            List<CvFormatMetaPO> cvFormatMetaList = formatMetaMap.getOrDefault(
+                    sourceOf(sourceMap, cvId, CvSectionEnum.FORMAT_META), Collections.emptyList());
+            if (!cvFormatMetaList.isEmpty()) {
+                CvFormatMetaPO formatMetaPO = cvFormatMetaList.get(0);
+                cvBO.setMeta(toFormatMetaBO(formatMetaPO, localeConfigMap.get(formatMetaPO.getId())));
+            }
+
+            cvBOList.add(cvBO);
+        }
+        return cvBOList;
+    }
+
+    /**
+     * 将子表PO列表按简历ID分组
+     *
+     * @param poList       子表PO列表
+     * @param cvIdFunction 简历ID获取函数
+     * @param <T>          子表PO类型
+     * @return 分组结果（key：简历ID）
+     */
+    private static <T> Map<Long, List<T>> groupByCvId(List<T> poList, Function<T, Long> cvIdFunction) {
+        if (CollectionUtils.isEmpty(poList)) {
+            return Collections.emptyMap();
+        }
+        return poList.stream().collect(Collectors.groupingBy(cvIdFunction));
+    }
+
+    /**
+     * 批量查询派生版本的模块引用
+     * <p>
+     * 只有派生版本（父版本ID非空）才可能存在模块引用，原始上传的简历不发起查询。
+     *
+     * @param cvPOList 简历po对象列表
+     * @return 模块引用（key：简历ID，value：模块 -> 实际存储该模块的简历ID）
+     */
+    private Map<Long, Map<CvSectionEnum, Long>> loadSectionSourceMap(List<CvPO> cvPOList) {
+        List<Long> derivedCvIds = cvPOList.stream()
+                .filter(cvPO -> Objects.nonNull(cvPO.getParentId()))
+                .map(CvPO::getId)
+                .collect(Collectors.toList());
+        return loadSectionSourceMap(derivedCvIds);
+    }
+
+    /**
+     * 批量查询简历的模块引用
+     *
+     * @param cvIds 简历ID集合
+     * @return 模块引用（key：简历ID，value：模块 -> 实际存储该模块的简历ID）
+     */
+    private Map<Long, Map<CvSectionEnum, Long>> loadSectionSourceMap(Collection<Long> cvIds) {
+        if (CollectionUtils.isEmpty(cvIds)) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, Map<CvSectionEnum, Long>> sourceMap = new HashMap<>();
+        for (CvSectionRefPO sectionRefPO : cvSectionRefRepository.listByCvIds(cvIds)) {
+            CvSectionEnum section = CvSectionEnum.getByCode(sectionRefPO.getSection());
+            if (Objects.nonNull(section)) {
+                sourceMap.computeIfAbsent(sectionRefPO.getCvId(), key -> new EnumMap<>(CvSectionEnum.class))
+                        .put(section, sectionRefPO.getSourceCvId());
+            }
+        }
+        return sourceMap;
+    }
+
+    /**
+     * 解析单份简历各模块实际存储的简历ID
+     *
+     * @param cvPO 简历po对象
+     * @return 模块 -> 实际存储该模块的简历ID（未共享的模块为简历自身ID）
+     */
+    private Map<CvSectionEnum, Long> resolveSectionSources(CvPO cvPO) {
+        Map<Long, Map<CvSectionEnum, Long>> sourceMap = loadSectionSourceMap(Collections.singletonList(cvPO));
+        Map<CvSectionEnum, Long> sourceIds = new EnumMap<>(CvSectionEnum.class);
+        for (CvSectionEnum section : CvSectionEnum.values()) {
+            sourceIds.put(section, sourceOf(sourceMap, cvPO.getId(), section));
+        }
+        return sourceIds;
+    }
+
+    /**
+     * 获取简历指定模块实际存储的简历ID
+     *
+     * @param sourceMap 模块引用
+     * @param cvId      简历ID
+     * @param section   简历模块
+     * @return 实际存储该模块的简历ID，未共享时为简历自身ID
+     */
+    private static Long sourceOf(Map<Long, Map<CvSectionEnum, Long>> sourceMap, Long cvId, CvSectionEnum section) {
+        Map<CvSectionEnum, Long> sections = sourceMap.get(cvId);
+        return Objects.isNull(sections) ? cvId : sections.getOrDefault(section, cvId);
+    }
+
+    /**
+     * 获取一批简历指定模块实际存储的简历ID（去重）
+     *
+     * @param sourceMap 模块引用
+     * @param cvIds     简历ID列表
+     * @param section   简历模块
+     * @return 实际存储该模块的简历ID列表
+     */
+    private static List<Long> sourceIdsOf(Map<Long, Map<CvSectionEnum, Long>> sourceMap, List<Long> cvIds, CvSectionEnum section) {
+        if (sourceMap.isEmpty()) {
+            return cvIds;
+        }
+        return cvIds.stream()
+                .map(cvId -> sourceOf(sourceMap, cvId, section))
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 找出新版本中与父版本内容相同、可共享存储的模块
+     * <p>
+     * 父版本按当前存储内容读取（快照优先），父版本本身共享的模块继续指向其来源简历。
+     *
+     * @param cvBO       新版本简历业务对象
+     * @param parentCvId 父版本简历ID
+     * @return 可共享的模块 -> 实际存储该模块的简历ID
+     */
+    private Map<CvSectionEnum, Long> resolveSharedSections(CvBO cvBO, Long parentCvId) {
+        if (!sectionSharingEnabled || Objects.isNull(parentCvId)) {
+            return Collections.emptyMap();
+        }
+
+        CvPO parentCvPO = cvRepository.getById(parentCvId);
+        if (Objects.isNull(parentCvPO)) {
+            log.warn("父版本简历不存在，按完整简历保存，parentCvId: {}", parentCvId);
+            return Collections.emptyMap();
+        }
+
+        CvBO parentCvBO = convertToCvBO(parentCvPO);
+        Map<CvSectionEnum, Long> parentSources = resolveSectionSources(parentCvPO);
+        Map<CvSectionEnum, Long> sharedSections = new EnumMap<>(CvSectionEnum.class);
+        for (CvSectionEnum section : CvSectionEnum.values()) {
+            if (cvSectionDiffer.isSharable(section, cvBO, parentCvBO)) {
+                sharedSections.put(section, parentSources.get(section));
+            }
+        }
+        return sharedSections;
+    }
+
     /**
      * 转换联系方式PO为BO
      *
@@ -156,6 +856,16 @@ public class ResumePersistenceService {
                         .eq(CvContactPO::getDeleteFlag, DeleteFlagEnum.NOT_DELETED.getCode())
         );
 
+        return toContactBO(contactPO);
+    }
+
+    /**
+     * 联系方式PO转换为BO
+     *
+     * @param contactPO 联系方式PO
+     * @return 联系方式BO，PO为空时返回null
+     */
+    private ContactBO toContactBO(CvContactPO contactPO) {
         if (Objects.isNull(contactPO)) {
             return null;
         }
@@ -178,6 +888,16 @@ public class ResumePersistenceService {
                         .eq(CvSocialLinkPO::getDeleteFlag, DeleteFlagEnum.NOT_DELETED.getCode())
         );
 
+        return toSocialLinkBOList(linkPOList);
+    }
+
+    /**
+     * 社交链接PO列表转换为BO列表
+     *
+     * @param linkPOList 社交链接PO列表
+     * @return 社交链接BO列表
+     */
+    private List<SocialLinkBO> toSocialLinkBOList(List<CvSocialLinkPO> linkPOList) {
         if (CollectionUtils.isEmpty(linkPOList)) {
             return new ArrayList<>();
         }
@@ -204,6 +924,16 @@ public class ResumePersistenceService {
                         .eq(CvEducationPO::getDeleteFlag, DeleteFlagEnum.NOT_DELETED.getCode())
         );
 
+        return toEducationBOList(educationPOList);
+    }
+
+    /**
+     * 教育经历PO列表转换为BO列表
+     *
+     * @param educationPOList 教育经历PO列表
+     * @return 教育经历BO列表
+     */
+    private List<EducationBO> toEducationBOList(List<CvEducationPO> educationPOList) {
         if (CollectionUtils.isEmpty(educationPOList)) {
             return new ArrayList<>();
         }
@@ -218,18 +948,56 @@ public class ResumePersistenceService {
     }
 
     /**
-     * 转换工作经历PO列表为BO列表
+     * 查询工作经历PO列表
      *
      * @param cvId 简历ID
-     * @return 工作经历BO列表
+     * @return 工作经历PO列表
      */
-    private List<ExperienceBO> convertToExperienceBOList(Long cvId) {
-        List<CvExperiencePO> experiencePOList = experienceRepository.list(
+    private List<CvExperiencePO> listExperiencePO(Long cvId) {
+        return experienceRepository.list(
                 new LambdaQueryWrapper<CvExperiencePO>()
                         .eq(CvExperiencePO::getCvId, cvId)
                         .eq(CvExperiencePO::getDeleteFlag, DeleteFlagEnum.NOT_DELETED.getCode())
         );
+    }
 
+    /**
+     * 查询项目经验PO列表
+     *
+     * @param cvId 简历ID
+     * @return 项目经验PO列表
+     */
+    private List<CvProjectPO> listProjectPO(Long cvId) {
+        return projectRepository.list(
+                new LambdaQueryWrapper<CvProjectPO>()
+                        .eq(CvProjectPO::getCvId, cvId)
+                        .eq(CvProjectPO::getDeleteFlag, DeleteFlagEnum.NOT_DELETED.getCode())
+        );
+    }
+
+    /**
+     * 查询技能PO列表
+     *
+     * @param cvId 简历ID
+     * @return 技能PO列表
+     */
+    private List<CvSkillPO> listSkillPO(Long cvId) {
+        return skillRepository.list(
+                new LambdaQueryWrapper<CvSkillPO>()
+                        .eq(CvSkillPO::getCvId, cvId)
+                        .eq(CvSkillPO::getDeleteFlag, DeleteFlagEnum.NOT_DELETED.getCode())
+        );
+    }
+
+    /**
+     * 转换工作经历PO列表为BO列表
+     *
+     * @param experiencePOList 工作经历PO列表
+     * @param highlightMap     工作经历亮点（key：工作经历ID）
+     * @return 工作经历BO列表
+     */
+    private List<ExperienceBO> convertToExperienceBOList(List<CvExperiencePO> experiencePOList,
+                                                         Map<Long, List<HighlightBO>> highlightMap) {
         if (CollectionUtils.isEmpty(experiencePOList)) {
             return new ArrayList<>();
         }
@@ -239,12 +1007,9 @@ public class ResumePersistenceService {
                     ExperienceBO experienceBO = new ExperienceBO();
                     BeanUtils.copyProperties(experiencePO, experienceBO);
 
-                    // 查询并设置工作亮点
-                    List<HighlightBO> highlights = convertToHighlightBOList(
-                            experiencePO.getId(),
-                            CvHighLightTypeEnum.EXPERIENCE.getType()
-                    );
-                    experienceBO.setHighlights(highlights);
+                    // 设置工作亮点
+                    experienceBO.setHighlights(new ArrayList<>(
+                            highlightMap.getOrDefault(experiencePO.getId(), Collections.emptyList())));
 
                     return experienceBO;
                 })
@@ -254,16 +1019,12 @@ public class ResumePersistenceService {
     /**
      * 转换项目经验PO列表为BO列表
      *
-     * @param cvId 简历ID
+     * @param projectPOList 项目经验PO列表
+     * @param highlightMap  项目亮点（key：项目经验ID）
      * @return 项目经验BO列表
      */
-    private List<ProjectBO> convertToProjectBOList(Long cvId) {
-        List<CvProjectPO> projectPOList = projectRepository.list(
-                new LambdaQueryWrapper<CvProjectPO>()
-                        .eq(CvProjectPO::getCvId, cvId)
-                        .eq(CvProjectPO::getDeleteFlag, DeleteFlagEnum.NOT_DELETED.getCode())
-        );
-
+    private List<ProjectBO> convertToProjectBOList(List<CvProjectPO> projectPOList,
+                                                   Map<Long, List<HighlightBO>> highlightMap) {
         if (CollectionUtils.isEmpty(projectPOList)) {
             return new ArrayList<>();
         }
@@ -273,12 +1034,9 @@ public class ResumePersistenceService {
                     ProjectBO projectBO = new ProjectBO();
                     BeanUtils.copyProperties(projectPO, projectBO);
 
-                    // 查询并设置项目亮点
-                    List<HighlightBO> highlights = convertToHighlightBOList(
-                            projectPO.getId(),
-                            CvHighLightTypeEnum.PROJECT.getType()
-                    );
-                    projectBO.setHighlights(highlights);
+                    // 设置项目亮点
+                    projectBO.setHighlights(new ArrayList<>(
+                            highlightMap.getOrDefault(projectPO.getId(), Collections.emptyList())));
 
                     return projectBO;
                 })
@@ -288,16 +1046,12 @@ public class ResumePersistenceService {
     /**
      * 转换技能PO列表为BO列表
      *
-     * @param cvId 简历ID
+     * @param skillPOList  技能PO列表
+     * @param highlightMap 技能亮点（key：技能ID）
      * @return 技能BO列表
      */
-    private List<SkillBO> convertToSkillBOList(Long cvId) {
-        List<CvSkillPO> skillPOList = skillRepository.list(
-                new LambdaQueryWrapper<CvSkillPO>()
-                        .eq(CvSkillPO::getCvId, cvId)
-                        .eq(CvSkillPO::getDeleteFlag, DeleteFlagEnum.NOT_DELETED.getCode())
-        );
-
+    private List<SkillBO> convertToSkillBOList(List<CvSkillPO> skillPOList,
+                                               Map<Long, List<HighlightBO>> highlightMap) {
         if (CollectionUtils.isEmpty(skillPOList)) {
             return new ArrayList<>();
         }
@@ -307,12 +1061,9 @@ public class ResumePersistenceService {
                     SkillBO skillBO = new SkillBO();
                     BeanUtils.copyProperties(skillPO, skillBO);
 
-                    // 查询并设置技能亮点
-                    List<HighlightBO> highlights = convertToHighlightBOList(
-                            skillPO.getId(),
-                            CvHighLightTypeEnum.SKILL.getType()
-                    );
-                    skillBO.setHighlights(highlights);
+                    // 设置技能亮点
+                    skillBO.setHighlights(new ArrayList<>(
+                            highlightMap.getOrDefault(skillPO.getId(), Collections.emptyList())));
 
                     return skillBO;
                 })
@@ -332,6 +1083,16 @@ public class ResumePersistenceService {
                         .eq(CvCertificatePO::getDeleteFlag, DeleteFlagEnum.NOT_DELETED.getCode())
         );
 
+        return toCertificateBOList(certificatePOList);
+    }
+
+    /**
+     * 证书PO列表转换为BO列表
+     *
+     * @param certificatePOList 证书PO列表
+     * @return 证书BO列表
+     */
+    private List<CertificateBO> toCertificateBOList(List<CvCertificatePO> certificatePOList) {
         if (CollectionUtils.isEmpty(certificatePOList)) {
             return new ArrayList<>();
         }
@@ -361,61 +1122,91 @@ public class ResumePersistenceService {
             return null;
         }
 
+        // 查询本地化配置
+        CvLocaleConfigPO localeConfigPO = null;
+        if (Objects.nonNull(formatMetaPO.getId())) {
+            localeConfigPO = localeConfigRepository.getByFormatMetaId(formatMetaPO.getId());
+        }
+
+        return toFormatMetaBO(formatMetaPO, localeConfigPO);
+    }
+
+    /**
+     * 格式元数据PO及本地化配置PO转换为BO
+     *
+     * @param formatMetaPO   格式元数据PO
+     * @param localeConfigPO 本地化配置PO（可为空）
+     * @return 格式元数据BO，格式元数据PO为空时返回null
+     */
+    private FormatMetaBO toFormatMetaBO(CvFormatMetaPO formatMetaPO, CvLocaleConfigPO localeConfigPO) {
+        if (Objects.isNull(formatMetaPO)) {
+            return null;
+        }
+
         FormatMetaBO formatMetaBO = new FormatMetaBO();
         BeanUtils.copyProperties(formatMetaPO, formatMetaBO);
 
-        // 查询并设置本地化配置
-        if (Objects.nonNull(formatMetaPO.getId())) {
-            CvLocaleConfigPO localeConfigPO = localeConfigRepository.getByFormatMetaId(formatMetaPO.getId());
-            if (Objects.nonNull(localeConfigPO)) {
-                LocaleConfigBO localeConfigBO = new LocaleConfigBO();
-                BeanUtils.copyProperties(localeConfigPO, localeConfigBO);
-                formatMetaBO.setLocaleConfig(localeConfigBO);
-            }
+        // 设置本地化配置
+        if (Objects.nonNull(localeConfigPO)) {
+            LocaleConfigBO localeConfigBO = new LocaleConfigBO();
+            BeanUtils.copyProperties(localeConfigPO, localeConfigBO);
+            formatMetaBO.setLocaleConfig(localeConfigBO);
         }
 
         return formatMetaBO;
     }
 
     /**
-     * 转换亮点PO列表为BO列表
+     * 批量加载工作经历、项目经验、技能的亮点
+     * <p>
+     * 所有条目的亮点通过一次 related_id IN (...) 查询取回，再按类型+关联ID分组，
+     * 分组内保持 sort_order 升序。
      *
-     * @param relatedId 关联ID
-     * @param type      亮点类型
-     * @return 亮点BO列表
+     * @param experiencePOList 工作经历PO列表
+     * @param projectPOList    项目经验PO列表
+     * @param skillPOList      技能PO列表
+     * @return 亮点分组（key：亮点类型 -> 关联ID -> 亮点BO列表）
      */
-    private List<HighlightBO> convertToHighlightBOList(Long relatedId, Integer type) {
-        List<CvHighlightPO> highlightPOList = highlightRepository.list(
-                new LambdaQueryWrapper<CvHighlightPO>()
-                        .eq(CvHighlightPO::getRelatedId, relatedId)
-                        .eq(CvHighlightPO::getType, type)
-                        .eq(CvHighlightPO::getDeleteFlag, DeleteFlagEnum.NOT_DELETED.getCode())
-                        .orderByAsc(CvHighlightPO::getSortOrder)
-        );
+    private Map<Integer, Map<Long, List<HighlightBO>>> loadHighlightMap(List<CvExperiencePO> experiencePOList,
+                                                                        List<CvProjectPO> projectPOList,
+                                                                        List<CvSkillPO> skillPOList) {
+        List<Long> relatedIds = new ArrayList<>();
+        if (CollectionUtils.isNotEmpty(experiencePOList)) {
+            experiencePOList.forEach(experiencePO -> relatedIds.add(experiencePO.getId()));
+        }
+        if (CollectionUtils.isNotEmpty(projectPOList)) {
+            projectPOList.forEach(projectPO -> relatedIds.add(projectPO.getId()));
+        }
+        if (CollectionUtils.isNotEmpty(skillPOList)) {
+            skillPOList.forEach(skillPO -> relatedIds.add(skillPO.getId()));
+        }
 
+        List<CvHighlightPO> highlightPOList = highlightRepository.listByRelatedIds(relatedIds);
         if (CollectionUtils.isEmpty(highlightPOList)) {
-            return new ArrayList<>();
+            return Collections.emptyMap();
         }
 
         return highlightPOList.stream()
-                .map(highlightPO -> {
-                    HighlightBO highlightBO = new HighlightBO();
-                    BeanUtils.copyProperties(highlightPO, highlightBO);
-                    return highlightBO;
-                })
-                .collect(Collectors.toList());
+                .collect(Collectors.groupingBy(CvHighlightPO::getType,
+                        Collectors.groupingBy(CvHighlightPO::getRelatedId,
+                                Collectors.mapping(highlightPO -> {
+                                    HighlightBO highlightBO = new HighlightBO();
+                                    BeanUtils.copyProperties(highlightPO, highlightBO);
+                                    return highlightBO;
+                                }, Collectors.toList()))));
     }
 
     /**
      * 转换CvBO为CvPO
      *
      * @param cvBO    简历业务对象
+     * @param cvId    简历ID
      * @param nowTime 当前时间
      * @return 简历PO对象
      */
-    private CvPO convertToCvPO(CvBO cvBO, LocalDateTime nowTime) {
+    private CvPO convertToCvPO(CvBO cvBO, long cvId, LocalDateTime nowTime) {
         CvPO cvPO = new CvPO();
-        cvPO.setId(SnowflakeUtil.snowflakeId());
+        cvPO.setId(cvId);
         BeanUtils.copyProperties(cvBO, cvPO);
 
         // 设置时间戳
@@ -427,105 +1218,210 @@ public class ResumePersistenceService {
     }
 
     /**
-     * 转换并保存联系方式
+     * 将简历BO转换为待写入的全部表行
+     * <p>
+     * 需要预生成主键的行先统计数量，通过 {@link SnowflakeUtil#nextIds(int)} 一次性批量取号。
      *
-     * @param cvId      简历ID
-     * @param contactBO 联系方式BO
+     * @param cvBO           简历业务对象
+     * @param parentCvId     父版本简历ID（可为空）
+     * @param sharedSections 与父版本共享的模块 -> 实际存储该模块的简历ID
+     * @param nowTime        当前时间
+     * @return 简历表行集合
+     */
+    private CvRowSetBO convertToCvRowSet(CvBO cvBO, Long parentCvId, Map<CvSectionEnum, Long> sharedSections,
+                                         LocalDateTime nowTime) {
+        CvBO ownedCvBO = withoutSharedSections(cvBO, sharedSections.keySet());
+        PrimitiveIterator.OfLong idIterator = Arrays.stream(SnowflakeUtil.nextIds(countPreassignedIds(ownedCvBO))).iterator();
+
+        CvRowSetBO rowSet = new CvRowSetBO();
+        CvPO cvPO = convertToCvPO(cvBO, idIterator.nextLong(), nowTime);
+        cvPO.setParentId(parentCvId);
+        rowSet.setCv(cvPO);
+
+        Long cvId = cvPO.getId();
+        convertContact(rowSet, cvId, ownedCvBO.getContact(), idIterator, nowTime);
+        convertSocialLinks(rowSet, cvId, ownedCvBO.getSocialLinks(), idIterator, nowTime);
+        convertEducations(rowSet, cvId, ownedCvBO.getEducations(), idIterator, nowTime);
+        convertExperiences(rowSet, cvId, ownedCvBO.getExperiences(), idIterator, nowTime);
+        convertProjects(rowSet, cvId, ownedCvBO.getProjects(), idIterator, nowTime);
+        convertSkills(rowSet, cvId, ownedCvBO.getSkills(), idIterator, nowTime);
+        convertCertificates(rowSet, cvId, ownedCvBO.getCertificates(), nowTime);
+        convertFormatMeta(rowSet, cvId, ownedCvBO.getMeta(), idIterator, nowTime);
+
+        // 共享模块只写入引用
+        sharedSections.forEach((section, sourceCvId) -> {
+            CvSectionRefPO sectionRefPO = new CvSectionRefPO();
+            sectionRefPO.setCvId(cvId);
+            sectionRefPO.setSection(section.getCode());
+            sectionRefPO.setSourceCvId(sourceCvId);
+            sectionRefPO.setCreatedTime(nowTime);
+            rowSet.getSectionRefs().add(sectionRefPO);
+        });
+
+        // 整份简历的快照与规范化表在同一事务内写入
+        if (snapshotEnabled) {
+            rowSet.setSnapshot(buildSnapshotPO(cvId, cvBO, nowTime));
+        }
+        return rowSet;
+    }
+
+    /**
+     * 复制简历BO并清空共享模块，剩余模块即需要写入子表行的部分
+     *
+     * @param cvBO           简历业务对象
+     * @param sharedSections 共享模块
+     * @return 仅包含需写入模块的简历业务对象（浅拷贝）
      */
-    private void convertAndSaveContact(Long cvId, ContactBO contactBO, LocalDateTime nowTime) {
-        if (Objects.nonNull(contactBO)) {
-            CvContactPO contactPO = new CvContactPO();
-            contactPO.setId(SnowflakeUtil.snowflakeId());
-            BeanUtils.copyProperties(contactBO, contactPO);
+    private static CvBO withoutSharedSections(CvBO cvBO, Set<CvSectionEnum> sharedSections) {
+        if (sharedSections.isEmpty()) {
+            return cvBO;
+        }
 
-            contactPO.setCvId(cvId);
-            contactPO.setDeleteFlag(DeleteFlagEnum.NOT_DELETED.getCode());
-            contactPO.setCreatedTime(nowTime);
-            contactPO.setUpdatedTime(nowTime);
-            contactRepository.save(contactPO);
+        CvBO ownedCvBO = new CvBO();
+        BeanUtils.copyProperties(cvBO, ownedCvBO);
+        for (CvSectionEnum section : sharedSections) {
+            switch (section) {
+                case CONTACT -> ownedCvBO.setContact(null);
+                case SOCIAL_LINK -> ownedCvBO.setSocialLinks(null);
+                case EDUCATION -> ownedCvBO.setEducations(null);
+                case EXPERIENCE -> ownedCvBO.setExperiences(null);
+                case PROJECT -> ownedCvBO.setProjects(null);
+                case SKILL -> ownedCvBO.setSkills(null);
+                case CERTIFICATE -> ownedCvBO.setCertificates(null);
+                case FORMAT_META -> ownedCvBO.setMeta(null);
+            }
         }
+        return ownedCvBO;
     }
 
     /**
-     * 转换并保存社交链接列表
+     * 统计保存简历时需要预生成主键的行数（亮点、证书、本地化配置使用数据库自增主键）
      *
+     * @param cvBO 简历业务对象
+     * @return 行数上限（列表中的空元素也计入）
+     */
+    private int countPreassignedIds(CvBO cvBO) {
+        return 1
+                + (Objects.nonNull(cvBO.getContact()) ? 1 : 0)
+                + sizeOf(cvBO.getSocialLinks())
+                + sizeOf(cvBO.getEducations())
+                + sizeOf(cvBO.getExperiences())
+                + sizeOf(cvBO.getProjects())
+                + sizeOf(cvBO.getSkills())
+                + (Objects.nonNull(cvBO.getMeta()) ? 1 : 0);
+    }
+
+    private static int sizeOf(List<?> list) {
+        return Objects.isNull(list) ? 0 : list.size();
+    }
+
+    /**
+     * 转换联系方式
+     *
+     * @param rowSet     简历表行集合
+     * @param cvId       简历ID
+     * @param contactBO  联系方式BO
+     * @param idIterator 预生成的主键ID
+     * @param nowTime    当前时间
+     */
+    private void convertContact(CvRowSetBO rowSet, Long cvId, ContactBO contactBO,
+                                PrimitiveIterator.OfLong idIterator, LocalDateTime nowTime) {
+        if (Objects.isNull(contactBO)) {
+            return;
+        }
+
+        CvContactPO contactPO = new CvContactPO();
+        contactPO.setId(idIterator.nextLong());
+        BeanUtils.copyProperties(contactBO, contactPO);
+
+        contactPO.setCvId(cvId);
+        contactPO.setDeleteFlag(DeleteFlagEnum.NOT_DELETED.getCode());
+        contactPO.setCreatedTime(nowTime);
+        contactPO.setUpdatedTime(nowTime);
+        rowSet.getContacts().add(contactPO);
+    }
+
+    /**
+     * 转换社交链接列表
+     *
+     * @param rowSet      简历表行集合
      * @param cvId        简历ID
      * @param socialLinks 社交链接BO列表
+     * @param idIterator  预生成的主键ID
+     * @param nowTime     当前时间
      */
-    private void convertAndSaveSocialLinks(Long cvId, List<SocialLinkBO> socialLinks, LocalDateTime nowTime) {
-        if (CollectionUtils.isNotEmpty(socialLinks)) {
-            List<CvSocialLinkPO> linkPOList = socialLinks.stream()
-                    .filter(Objects::nonNull)
-                    .map(linkBO -> {
-                        CvSocialLinkPO linkPO = new CvSocialLinkPO();
-                        linkPO.setId(SnowflakeUtil.snowflakeId());
-                        BeanUtils.copyProperties(linkBO, linkPO);
-
-                        linkPO.setCvId(cvId);
-                        linkPO.setDeleteFlag(DeleteFlagEnum.NOT_DELETED.getCode());
-                        linkPO.setCreatedTime(nowTime);
-                        linkPO.setUpdatedTime(nowTime);
-
-                        return linkPO;
-                    })
-                    .collect(Collectors.toList());
-
-            if (CollectionUtils.isNotEmpty(linkPOList)) {
-                linkRepository.saveBatch(linkPOList);
-            }
+    private void convertSocialLinks(CvRowSetBO rowSet, Long cvId, List<SocialLinkBO> socialLinks,
+                                    PrimitiveIterator.OfLong idIterator, LocalDateTime nowTime) {
+        if (CollectionUtils.isEmpty(socialLinks)) {
+            return;
         }
+
+        socialLinks.stream()
+                .filter(Objects::nonNull)
+                .map(linkBO -> {
+                    CvSocialLinkPO linkPO = new CvSocialLinkPO();
+                    linkPO.setId(idIterator.nextLong());
+                    BeanUtils.copyProperties(linkBO, linkPO);
+
+                    linkPO.setCvId(cvId);
+                    linkPO.setDeleteFlag(DeleteFlagEnum.NOT_DELETED.getCode());
+                    linkPO.setCreatedTime(nowTime);
+                    linkPO.setUpdatedTime(nowTime);
+                    return linkPO;
+                })
+                .forEach(rowSet.getSocialLinks()::add);
     }
 
     /**
-     * 转换并保存教育经历列表
+     * 转换教育经历列表
      *
+     * @param rowSet     简历表行集合
      * @param cvId       简历ID
      * @param educations 教育经历BO列表
+     * @param idIterator 预生成的主键ID
+     * @param nowTime    当前时间
      */
-    private void convertAndSaveEducations(Long cvId, List<EducationBO> educations, LocalDateTime nowTime) {
-        if (CollectionUtils.isNotEmpty(educations)) {
-            List<CvEducationPO> educationPOs = educations.stream()
-                    .filter(Objects::nonNull)
-                    .map(educationBO -> {
-                        CvEducationPO educationPO = new CvEducationPO();
-                        educationPO.setId(SnowflakeUtil.snowflakeId());
-                        BeanUtils.copyProperties(educationBO, educationPO);
-                        educationPO.setCvId(cvId);
-                        educationPO.setDeleteFlag(DeleteFlagEnum.NOT_DELETED.getCode());
-                        educationPO.setCreatedTime(nowTime);
-                        educationPO.setUpdatedTime(nowTime);
-
-                        return educationPO;
-                    })
-                    .collect(Collectors.toList());
-
-            if (CollectionUtils.isNotEmpty(educationPOs)) {
-                educationRepository.saveBatch(educationPOs);
-            }
+    private void convertEducations(CvRowSetBO rowSet, Long cvId, List<EducationBO> educations,
+                                   PrimitiveIterator.OfLong idIterator, LocalDateTime nowTime) {
+        if (CollectionUtils.isEmpty(educations)) {
+            return;
         }
+
+        educations.stream()
+                .filter(Objects::nonNull)
+                .map(educationBO -> {
+                    CvEducationPO educationPO = new CvEducationPO();
+                    educationPO.setId(idIterator.nextLong());
+                    BeanUtils.copyProperties(educationBO, educationPO);
+
+                    educationPO.setCvId(cvId);
+                    educationPO.setDeleteFlag(DeleteFlagEnum.NOT_DELETED.getCode());
+                    educationPO.setCreatedTime(nowTime);
+                    educationPO.setUpdatedTime(nowTime);
+                    return educationPO;
+                })
+                .forEach(rowSet.getEducations()::add);
     }
 
     /**
-     * 转换并保存工作经历列表
+     * 转换工作经历列表及其亮点
      *
+     * @param rowSet           简历表行集合
      * @param cvId             简历ID
      * @param experienceBOList 工作经历BO列表
+     * @param idIterator       预生成的主键ID
+     * @param nowTime          当前时间
      */
-    private void convertAndSaveExperiences(Long cvId, List<ExperienceBO> experienceBOList, LocalDateTime nowTime) {
+    private void convertExperiences(CvRowSetBO rowSet, Long cvId, List<ExperienceBO> experienceBOList,
+                                    PrimitiveIterator.OfLong idIterator, LocalDateTime nowTime) {
         if (CollectionUtils.isEmpty(experienceBOList)) {
             return;
         }
 
-        // 准备批量插入的数据
-        List<CvExperiencePO> experiencePOList = new ArrayList<>();
-        List<CvHighlightPO> allHighlightPOList = new ArrayList<>();
-
-        // 遍历处理每个Experience
         for (ExperienceBO experienceBO : experienceBOList) {
-            // 预生成Experience主键
-            long experienceId = SnowflakeUtil.snowflakeId();
+            // 预生成Experience主键，亮点通过该主键关联
+            long experienceId = idIterator.nextLong();
 
-            // 转换Experience
             CvExperiencePO experiencePO = new CvExperiencePO();
             BeanUtils.copyProperties(experienceBO, experiencePO);
             experiencePO.setId(experienceId);
@@ -534,60 +1430,32 @@ public class ResumePersistenceService {
             experiencePO.setDeleteFlag(DeleteFlagEnum.NOT_DELETED.getCode());
             experiencePO.setCreatedTime(nowTime);
             experiencePO.setUpdatedTime(nowTime);
-            experiencePOList.add(experiencePO);
-
-            // 转换并关联Highlights
-            if (CollectionUtils.isNotEmpty(experienceBO.getHighlights())) {
-                List<CvHighlightPO> highlightPOList = experienceBO.getHighlights()
-                        .stream()
-                        .map(highlightBO -> {
-                            CvHighlightPO highlightPO = new CvHighlightPO();
-
-                            highlightPO.setHighlight(highlightBO.getHighlight());
-                            highlightPO.setType(CvHighLightTypeEnum.EXPERIENCE.getType());
-                            highlightPO.setRelatedId(experienceId);
-                            highlightPO.setSortOrder(highlightBO.getSortOrder());
-                            highlightPO.setDeleteFlag(DeleteFlagEnum.NOT_DELETED.getCode());
-                            highlightPO.setCreatedTime(nowTime);
-                            highlightPO.setUpdatedTime(nowTime);
-                            return highlightPO;
-                        })
-                        .toList();
-                allHighlightPOList.addAll(highlightPOList);
-            }
-        }
-
-        // 批量插入Experience
-        experienceRepository.saveBatch(experiencePOList);
+            rowSet.getExperiences().add(experiencePO);
 
-        // 批量插入所有Highlights
-        if (CollectionUtils.isNotEmpty(allHighlightPOList)) {
-            highlightRepository.saveBatch(allHighlightPOList);
+            rowSet.getHighlights().addAll(convertHighlights(experienceBO.getHighlights(),
+                    CvHighLightTypeEnum.EXPERIENCE.getType(), experienceId, nowTime));
         }
     }
 
     /**
-     * 转换并保存项目经验列表
+     * 转换项目经验列表及其亮点
      *
+     * @param rowSet        简历表行集合
      * @param cvId          简历ID
      * @param projectBOList 项目经验BO列表
+     * @param idIterator    预生成的主键ID
      * @param nowTime       当前时间
      */
-    private void convertAndSaveProjects(Long cvId, List<ProjectBO> projectBOList, LocalDateTime nowTime) {
+    private void convertProjects(CvRowSetBO rowSet, Long cvId, List<ProjectBO> projectBOList,
+                                 PrimitiveIterator.OfLong idIterator, LocalDateTime nowTime) {
         if (CollectionUtils.isEmpty(projectBOList)) {
             return;
         }
 
-        // 准备批量插入的数据
-        List<CvProjectPO> projectPOList = new ArrayList<>();
-        List<CvHighlightPO> allHighlightPOList = new ArrayList<>();
-
-        // 遍历处理每个Project
         for (ProjectBO projectBO : projectBOList) {
-            // 预生成Project主键
-            long projectId = SnowflakeUtil.snowflakeId();
+            // 预生成Project主键，亮点通过该主键关联
+            long projectId = idIterator.nextLong();
 
-            // 转换Project
             CvProjectPO projectPO = new CvProjectPO();
             BeanUtils.copyProperties(projectBO, projectPO);
             projectPO.setId(projectId);
@@ -596,60 +1464,32 @@ public class ResumePersistenceService {
             projectPO.setDeleteFlag(DeleteFlagEnum.NOT_DELETED.getCode());
             projectPO.setCreatedTime(nowTime);
             projectPO.setUpdatedTime(nowTime);
-            projectPOList.add(projectPO);
-
-            // 转换并关联Highlights
-            if (CollectionUtils.isNotEmpty(projectBO.getHighlights())) {
-                List<CvHighlightPO> highlightPOList = projectBO.getHighlights()
-                        .stream()
-                        .map(highlightBO -> {
-                            CvHighlightPO highlightPO = new CvHighlightPO();
-
-                            highlightPO.setHighlight(highlightBO.getHighlight());
-                            highlightPO.setType(CvHighLightTypeEnum.PROJECT.getType());
-                            highlightPO.setRelatedId(projectId);
-                            highlightPO.setSortOrder(highlightBO.getSortOrder());
-                            highlightPO.setDeleteFlag(DeleteFlagEnum.NOT_DELETED.getCode());
-                            highlightPO.setCreatedTime(nowTime);
-                            highlightPO.setUpdatedTime(nowTime);
-                            return highlightPO;
-                        })
-                        .toList();
-                allHighlightPOList.addAll(highlightPOList);
-            }
-        }
+            rowSet.getProjects().add(projectPO);
 
-        // 批量插入Project
-        projectRepository.saveBatch(projectPOList);
-
-        // 批量插入所有Highlights
-        if (CollectionUtils.isNotEmpty(allHighlightPOList)) {
-            highlightRepository.saveBatch(allHighlightPOList);
+            rowSet.getHighlights().addAll(convertHighlights(projectBO.getHighlights(),
+                    CvHighLightTypeEnum.PROJECT.getType(), projectId, nowTime));
         }
     }
 
     /**
-     * 转换并保存技能列表
+     * 转换技能列表及其亮点
      *
+     * @param rowSet      简历表行集合
      * @param cvId        简历ID
      * @param skillBOList 技能BO列表
+     * @param idIterator  预生成的主键ID
      * @param nowTime     当前时间
      */
-    private void convertAndSaveSkills(Long cvId, List<SkillBO> skillBOList, LocalDateTime nowTime) {
+    private void convertSkills(CvRowSetBO rowSet, Long cvId, List<SkillBO> skillBOList,
+                               PrimitiveIterator.OfLong idIterator, LocalDateTime nowTime) {
         if (CollectionUtils.isEmpty(skillBOList)) {
             return;
         }
 
-        // 准备批量插入的数据
-        List<CvSkillPO> skillPOList = new ArrayList<>();
-        List<CvHighlightPO> allHighlightPOList = new ArrayList<>();
-
-        // 遍历处理每个Skill
         for (SkillBO skillBO : skillBOList) {
-            // 预生成Skill主键
-            long skillId = SnowflakeUtil.snowflakeId();
+            // 预生成Skill主键，亮点通过该主键关联
+            long skillId = idIterator.nextLong();
 
-            // 转换Skill
             CvSkillPO skillPO = new CvSkillPO();
             BeanUtils.copyProperties(skillBO, skillPO);
             skillPO.setId(skillId);
@@ -658,101 +1498,112 @@ public class ResumePersistenceService {
             skillPO.setDeleteFlag(DeleteFlagEnum.NOT_DELETED.getCode());
             skillPO.setCreatedTime(nowTime);
             skillPO.setUpdatedTime(nowTime);
-            skillPOList.add(skillPO);
-
-            // 转换并关联Highlights
-            if (CollectionUtils.isNotEmpty(skillBO.getHighlights())) {
-                List<CvHighlightPO> highlightPOList = skillBO.getHighlights()
-                        .stream()
-                        .map(highlightBO -> {
-                            CvHighlightPO highlightPO = new CvHighlightPO();
-
-                            highlightPO.setHighlight(highlightBO.getHighlight());
-                            highlightPO.setType(CvHighLightTypeEnum.SKILL.getType());
-                            highlightPO.setRelatedId(skillId);
-                            highlightPO.setSortOrder(highlightBO.getSortOrder());
-                            highlightPO.setDeleteFlag(DeleteFlagEnum.NOT_DELETED.getCode());
-                            highlightPO.setCreatedTime(nowTime);
-                            highlightPO.setUpdatedTime(nowTime);
-                            return highlightPO;
-                        })
-                        .toList();
-                allHighlightPOList.addAll(highlightPOList);
-            }
-        }
+            rowSet.getSkills().add(skillPO);
 
-        // 批量插入Skill
-        skillRepository.saveBatch(skillPOList);
+            rowSet.getHighlights().addAll(convertHighlights(skillBO.getHighlights(),
+                    CvHighLightTypeEnum.SKILL.getType(), skillId, nowTime));
+        }
+    }
 
-        // 批量插入所有Highlights
-        if (CollectionUtils.isNotEmpty(allHighlightPOList)) {
-            highlightRepository.saveBatch(allHighlightPOList);
+    /**
+     * 转换亮点列表
+     *
+     * @param highlightBOList 亮点BO列表
+     * @param type            亮点类型
+     * @param relatedId       关联ID（工作经历/项目经验/专业技能ID）
+     * @param nowTime         当前时间
+     * @return 亮点PO列表
+     * @see CvHighLightTypeEnum
+     */
+    private List<CvHighlightPO> convertHighlights(List<HighlightBO> highlightBOList, Integer type,
+                                                  Long relatedId, LocalDateTime nowTime) {
+        if (CollectionUtils.isEmpty(highlightBOList)) {
+            return Collections.emptyList();
         }
+
+        return highlightBOList.stream()
+                .map(highlightBO -> {
+                    CvHighlightPO highlightPO = new CvHighlightPO();
+
+                    highlightPO.setHighlight(highlightBO.getHighlight());
+                    highlightPO.setType(type);
+                    highlightPO.setRelatedId(relatedId);
+                    highlightPO.setSortOrder(highlightBO.getSortOrder());
+                    highlightPO.setDeleteFlag(DeleteFlagEnum.NOT_DELETED.getCode());
+                    highlightPO.setCreatedTime(nowTime);
+                    highlightPO.setUpdatedTime(nowTime);
+                    return highlightPO;
+                })
+                .toList();
     }
 
     /**
-     * 转换并保存证书列表
+     * 转换证书列表
      *
+     * @param rowSet            简历表行集合
      * @param cvId              简历ID
      * @param certificateBOList 证书BO列表
+     * @param nowTime           当前时间
      */
-    private void convertAndSaveCertificates(Long cvId, List<CertificateBO> certificateBOList, LocalDateTime nowTime) {
-        if (CollectionUtils.isNotEmpty(certificateBOList)) {
-            List<CvCertificatePO> certificatePOs = certificateBOList.stream()
-                    .filter(Objects::nonNull)
-                    .map(certificateBO -> {
-                        CvCertificatePO certificatePO = new CvCertificatePO();
-                        BeanUtils.copyProperties(certificateBO, certificatePO);
-                        certificatePO.setCvId(cvId);
-                        certificatePO.setDeleteFlag(DeleteFlagEnum.NOT_DELETED.getCode());
-                        certificatePO.setCreatedTime(nowTime);
-                        certificatePO.setUpdatedTime(nowTime);
-
-                        return certificatePO;
-                    })
-                    .collect(Collectors.toList());
-
-            if (CollectionUtils.isNotEmpty(certificatePOs)) {
-                certificateRepository.saveBatch(certificatePOs);
-            }
+    private void convertCertificates(CvRowSetBO rowSet, Long cvId, List<CertificateBO> certificateBOList, LocalDateTime nowTime) {
+        if (CollectionUtils.isEmpty(certificateBOList)) {
+            return;
         }
+
+        certificateBOList.stream()
+                .filter(Objects::nonNull)
+                .map(certificateBO -> {
+                    CvCertificatePO certificatePO = new CvCertificatePO();
+                    BeanUtils.copyProperties(certificateBO, certificatePO);
+
+                    certificatePO.setCvId(cvId);
+                    certificatePO.setDeleteFlag(DeleteFlagEnum.NOT_DELETED.getCode());
+                    certificatePO.setCreatedTime(nowTime);
+                    certificatePO.setUpdatedTime(nowTime);
+                    return certificatePO;
+                })
+                .forEach(rowSet.getCertificates()::add);
     }
 
     /**
-     * 转换并保存格式元数据
+     * 转换格式元数据及本地化配置
      *
+     * @param rowSet       简历表行集合
      * @param cvId         简历ID
      * @param formatMetaBO 格式元数据BO
+     * @param idIterator   预生成的主键ID
+     * @param nowTime      当前时间
      */
-    private void convertAndSaveFormatMeta(Long cvId, FormatMetaBO formatMetaBO, LocalDateTime nowTime) {
-        if (Objects.nonNull(formatMetaBO)) {
-            CvFormatMetaPO formatMetaPO = new CvFormatMetaPO();
-            BeanUtils.copyProperties(formatMetaBO, formatMetaPO);
-
-            // 预生成FormatMeta主键ID
-            long formatMetaId = SnowflakeUtil.snowflakeId();
-            formatMetaPO.setId(formatMetaId);
-            formatMetaPO.setCvId(cvId);
-
-            formatMetaPO.setDeleteFlag(DeleteFlagEnum.NOT_DELETED.getCode());
-            formatMetaPO.setCreatedTime(nowTime);
-            formatMetaPO.setUpdatedTime(nowTime);
-
-            // 如果包含LocaleConfigBO，需要单独处理
-            if (Objects.nonNull(formatMetaBO.getLocaleConfig())) {
-                LocaleConfigBO localeConfigBO = formatMetaBO.getLocaleConfig();
-
-                CvLocaleConfigPO cvLocaleConfigPO = new CvLocaleConfigPO();
-                BeanUtils.copyProperties(localeConfigBO, cvLocaleConfigPO);
-                cvLocaleConfigPO.setFormatMetaId(formatMetaId);
-                cvLocaleConfigPO.setDeleteFlag(DeleteFlagEnum.NOT_DELETED.getCode());
-                cvLocaleConfigPO.setCreatedTime(nowTime);
-                cvLocaleConfigPO.setUpdatedTime(nowTime);
-
-                localeConfigRepository.save(cvLocaleConfigPO);
-            }
+    private void convertFormatMeta(CvRowSetBO rowSet, Long cvId, FormatMetaBO formatMetaBO,
+                                   PrimitiveIterator.OfLong idIterator, LocalDateTime nowTime) {
+        if (Objects.isNull(formatMetaBO)) {
+            return;
+        }
 
-            formatMetaRepository.save(formatMetaPO);
+        CvFormatMetaPO formatMetaPO = new CvFormatMetaPO();
+        BeanUtils.copyProperties(formatMetaBO, formatMetaPO);
+
+        // 预生成FormatMeta主键ID
+        long formatMetaId = idIterator.nextLong();
+        formatMetaPO.setId(formatMetaId);
+        formatMetaPO.setCvId(cvId);
+
+        formatMetaPO.setDeleteFlag(DeleteFlagEnum.NOT_DELETED.getCode());
+        formatMetaPO.setCreatedTime(nowTime);
+        formatMetaPO.setUpdatedTime(nowTime);
+        rowSet.getFormatMetas().add(formatMetaPO);
+
+        // 如果包含LocaleConfigBO，需要单独处理
+        if (Objects.nonNull(formatMetaBO.getLocaleConfig())) {
+            LocaleConfigBO localeConfigBO = formatMetaBO.getLocaleConfig();
+
+            CvLocaleConfigPO cvLocaleConfigPO = new CvLocaleConfigPO();
+            BeanUtils.copyProperties(localeConfigBO, cvLocaleConfigPO);
+            cvLocaleConfigPO.setFormatMetaId(formatMetaId);
+            cvLocaleConfigPO.setDeleteFlag(DeleteFlagEnum.NOT_DELETED.getCode());
+            cvLocaleConfigPO.setCreatedTime(nowTime);
+            cvLocaleConfigPO.setUpdatedTime(nowTime);
+            rowSet.getLocaleConfigs().add(cvLocaleConfigPO);
         }
     }
 
@@ -0,0 +1,337 @@
+package com.tengYii.jobspark.domain.service;
+
+import com.tengYii.jobspark.common.enums.TaskStatusEnum;
+import com.tengYii.jobspark.common.utils.RedisUtil;
+import com.tengYii.jobspark.model.po.ResumeTaskPO;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 简历任务状态缓存服务
+ * <p>
+ * 任务状态写穿到 Redis 哈希（状态、各阶段进入时间、简历ID、错误信息等），前端轮询任务状态时直接读取 Redis，
+ * MySQL 仍为持久化记录。缓存缺失时由调用方回源加载，回填时只写入哈希中尚不存在的字段，
+ * 避免回源读到的旧状态覆盖处理线程刚写入的新状态。
+ * <p>
+ * 哈希中存在 taskId 字段才视为完整记录；仅有状态字段的残缺哈希（如缓存过期后处理线程写入了新状态）按未命中处理并回填。
+ * <p>
+ * 数据库条件更新与缓存写入不是原子的，并发的状态变更写入缓存的顺序可能与提交顺序不同：未结束状态的写入在脚本中原子校验，
+ * 缓存已是终态或已有更新时间更晚的状态时放弃写入，避免延迟到达的旧状态覆盖终态（如取消后又被写回解析中）。
+ */
+@Slf4j
+@Service
+public class ResumeTaskCacheService {
+
+    private static final String REDIS_KEY_PREFIX = "task:status:";
+
+    private static final String FIELD_TASK_ID = "taskId";
+    private static final String FIELD_USER_ID = "userId";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_RESUME_ID = "resumeId";
+    private static final String FIELD_ERROR_MESSAGE = "errorMessage";
+    private static final String FIELD_FILE_NAME = "fileName";
+    private static final String FIELD_ORIGINAL_FILE_NAME = "originalFileName";
+    private static final String FIELD_FILE_SIZE = "fileSize";
+    private static final String FIELD_MODEL_NAME = "modelName";
+    private static final String FIELD_START_TIME = "startTime";
+    private static final String FIELD_COMPLETE_TIME = "completeTime";
+    private static final String FIELD_UPDATE_TIME = "updateTime";
+
+    /**
+     * 阶段进入时间字段前缀，如 stage:ANALYZING 表示进入解析阶段的时间
+     */
+    private static final String STAGE_FIELD_PREFIX = "stage:";
+
+    /**
+     * 终态状态码，缓存处于终态时不再接受未结束状态的写入
+     */
+    private static final List<String> TERMINAL_STATUS_CODES = List.of(TaskStatusEnum.COMPLETED.getCode(),
+            TaskStatusEnum.FAILED.getCode(), TaskStatusEnum.DEAD_LETTER.getCode());
+
+    @Resource
+    private RedisUtil redisUtil;
+
+    /**
+     * 是否开启任务状态缓存
+     */
+    @Value("${jobspark.task.status-cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    /**
+     * 未结束任务的缓存过期时间（秒），每次写入时刷新
+     */
+    @Value("${jobspark.task.status-cache.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    /**
+     * 已完成/失败任务的缓存过期时间（秒），结束后仍会被轮询一段时间
+     */
+    @Value("${jobspark.task.status-cache.terminal-ttl-seconds:600}")
+    private long terminalTtlSeconds;
+
+    /**
+     * 读取任务状态，缓存未命中时通过loader加载并回填
+     *
+     * @param taskId 任务ID
+     * @param loader 缓存未命中时的加载逻辑，任务不存在时返回null（不缓存）
+     * @return 任务信息，任务不存在时返回null
+     */
+    public ResumeTaskPO getTask(String taskId, Supplier<ResumeTaskPO> loader) {
+        if (!cacheEnabled) {
+            return loader.get();
+        }
+
+        ResumeTaskPO taskPO = getFromRedis(taskId);
+        if (Objects.nonNull(taskPO)) {
+            return taskPO;
+        }
+
+        taskPO = loader.get();
+        if (Objects.nonNull(taskPO)) {
+            write(taskPO, true);
+        }
+        return taskPO;
+    }
+
+    /**
+     * 批量读取任务状态：一次管道读取所有缓存，未命中的任务通过loader一次性加载并回填
+     *
+     * @param taskIds 任务ID列表
+     * @param loader  缓存未命中时的批量加载逻辑，参数为未命中的任务ID
+     * @return 任务ID -> 任务信息，不存在的任务不包含在结果中
+     */
+    public Map<String, ResumeTaskPO> getTasks(List<String> taskIds, Function<List<String>, List<ResumeTaskPO>> loader) {
+        Map<String, ResumeTaskPO> tasks = new HashMap<>(taskIds.size() * 2);
+        List<String> missedIds = taskIds;
+        if (cacheEnabled) {
+            missedIds = new ArrayList<>();
+            List<Map<Object, Object>> cached = getAllFromRedis(taskIds);
+            for (int i = 0; i < taskIds.size(); i++) {
+                Map<Object, Object> fields = i < cached.size() ? cached.get(i) : null;
+                if (MapUtils.isNotEmpty(fields) && fields.containsKey(FIELD_TASK_ID)) {
+                    tasks.put(taskIds.get(i), fromFields(fields));
+                } else {
+                    missedIds.add(taskIds.get(i));
+                }
+            }
+        }
+        if (CollectionUtils.isEmpty(missedIds)) {
+            return tasks;
+        }
+
+        for (ResumeTaskPO taskPO : loader.apply(missedIds)) {
+            tasks.put(taskPO.getTaskId(), taskPO);
+            if (cacheEnabled) {
+                write(taskPO, true);
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * 写入完整的任务状态（新建任务时调用）
+     *
+     * @param taskPO 任务信息
+     */
+    public void put(ResumeTaskPO taskPO) {
+        if (!cacheEnabled || Objects.isNull(taskPO)) {
+            return;
+        }
+        write(taskPO, false);
+    }
+
+    /**
+     * 写入任务状态变更，并记录进入该阶段的时间
+     * <p>
+     * 缓存中已是终态或更新时间晚于本次变更时不写入。
+     *
+     * @param taskId     任务ID
+     * @param status     新的任务状态
+     * @param updateTime 更新时间
+     */
+    public void updateStatus(String taskId, TaskStatusEnum status, LocalDateTime updateTime) {
+        if (!cacheEnabled) {
+            return;
+        }
+
+        Map<String, Object> fields = new HashMap<>(4);
+        fields.put(FIELD_STATUS, status.getCode());
+        fields.put(FIELD_UPDATE_TIME, updateTime.toString());
+        fields.put(STAGE_FIELD_PREFIX + status.getCode(), updateTime.toString());
+        boolean success = TaskStatusEnum.isTerminal(status.getCode())
+                ? redisUtil.hmset(buildKey(taskId), fields, resolveTtl(status.getCode()), TimeUnit.SECONDS)
+                : redisUtil.hmsetGuarded(buildKey(taskId), fields, FIELD_STATUS, TERMINAL_STATUS_CODES, FIELD_UPDATE_TIME,
+                resolveTtl(status.getCode()), TimeUnit.SECONDS);
+        if (!success) {
+            evict(taskId);
+        }
+    }
+
+    /**
+     * 写入任务结束（完成、失败或重试耗尽）时变更的字段，无需回源读取完整记录
+     * <p>
+     * 不写入 taskId 字段：缓存已过期时写入的只是残缺哈希，读取时按未命中回源回填。
+     *
+     * @param changes 结束时变更的字段（resumeId、errorMessage、completeTime、updateTime）
+     * @param status  结束状态
+     */
+    public void updateFinished(ResumeTaskPO changes, TaskStatusEnum status) {
+        if (!cacheEnabled) {
+            return;
+        }
+
+        Map<String, Object> fields = new HashMap<>(8);
+        fields.put(FIELD_STATUS, status.getCode());
+        putIfNotNull(fields, FIELD_RESUME_ID, changes.getResumeId());
+        putIfNotNull(fields, FIELD_ERROR_MESSAGE, changes.getErrorMessage());
+        putIfNotNull(fields, FIELD_COMPLETE_TIME, changes.getCompleteTime());
+        putIfNotNull(fields, FIELD_UPDATE_TIME, changes.getUpdateTime());
+        if (!redisUtil.hmset(buildKey(changes.getTaskId()), fields, resolveTtl(status.getCode()), TimeUnit.SECONDS)) {
+            evict(changes.getTaskId());
+        }
+    }
+
+    /**
+     * 删除任务状态缓存，下次读取时回源
+     *
+     * @param taskId 任务ID
+     */
+    public void evict(String taskId) {
+        try {
+            redisUtil.del(buildKey(taskId));
+        } catch (Exception e) {
+            log.warn("删除任务状态缓存失败，taskId: {}", taskId, e);
+        }
+    }
+
+    /**
+     * 写入任务状态哈希
+     * <p>
+     * 写入失败时删除缓存，保证读请求回源到数据库而不是读到旧状态。
+     *
+     * @param taskPO   任务信息
+     * @param ifAbsent 是否仅写入尚不存在的字段（回源回填时使用）
+     */
+    private void write(ResumeTaskPO taskPO, boolean ifAbsent) {
+        Map<String, Object> fields = toFields(taskPO);
+        String key = buildKey(taskPO.getTaskId());
+        long ttl = resolveTtl(taskPO.getStatus());
+
+        boolean success = ifAbsent
+                ? redisUtil.hmsetIfAbsent(key, fields, ttl, TimeUnit.SECONDS)
+                : redisUtil.hmset(key, fields, ttl, TimeUnit.SECONDS);
+        if (!success) {
+            log.warn("写入任务状态缓存失败，taskId: {}", taskPO.getTaskId());
+            evict(taskPO.getTaskId());
+        }
+    }
+
+    private ResumeTaskPO getFromRedis(String taskId) {
+        try {
+            Map<Object, Object> fields = redisUtil.hmget(buildKey(taskId));
+            if (MapUtils.isEmpty(fields) || !fields.containsKey(FIELD_TASK_ID)) {
+                return null;
+            }
+            return fromFields(fields);
+        } catch (Exception e) {
+            log.warn("读取任务状态缓存失败，taskId: {}", taskId, e);
+            return null;
+        }
+    }
+
+    private List<Map<Object, Object>> getAllFromRedis(List<String> taskIds) {
+        try {
+            return redisUtil.hmgetAll(taskIds.stream().map(this::buildKey).collect(Collectors.toList()));
+        } catch (Exception e) {
+            log.warn("批量读取任务状态缓存失败，taskIds: {}", taskIds, e);
+            return Collections.emptyList();
+        }
+    }
+
+    private Map<String, Object> toFields(ResumeTaskPO taskPO) {
+        Map<String, Object> fields = new HashMap<>(16);
+        putIfNotNull(fields, FIELD_TASK_ID, taskPO.getTaskId());
+        putIfNotNull(fields, FIELD_USER_ID, taskPO.getUserId());
+        putIfNotNull(fields, FIELD_STATUS, taskPO.getStatus());
+        putIfNotNull(fields, FIELD_RESUME_ID, taskPO.getResumeId());
+        putIfNotNull(fields, FIELD_ERROR_MESSAGE, taskPO.getErrorMessage());
+        putIfNotNull(fields, FIELD_FILE_NAME, taskPO.getFileName());
+        putIfNotNull(fields, FIELD_ORIGINAL_FILE_NAME, taskPO.getOriginalFileName());
+        putIfNotNull(fields, FIELD_FILE_SIZE, taskPO.getFileSize());
+        putIfNotNull(fields, FIELD_MODEL_NAME, taskPO.getModelName());
+        putIfNotNull(fields, FIELD_START_TIME, taskPO.getStartTime());
+        putIfNotNull(fields, FIELD_COMPLETE_TIME, taskPO.getCompleteTime());
+        putIfNotNull(fields, FIELD_UPDATE_TIME, taskPO.getUpdateTime());
+        putIfNotNull(fields, STAGE_FIELD_PREFIX + TaskStatusEnum.ANALYZING.getCode(), taskPO.getAnalyzeStartTime());
+        putIfNotNull(fields, STAGE_FIELD_PREFIX + TaskStatusEnum.SAVING.getCode(), taskPO.getSaveStartTime());
+        return fields;
+    }
+
+    private ResumeTaskPO fromFields(Map<Object, Object> fields) {
+        return ResumeTaskPO.builder()
+                .taskId(getString(fields, FIELD_TASK_ID))
+                .userId(getLong(fields, FIELD_USER_ID))
+                .status(getString(fields, FIELD_STATUS))
+                .resumeId(getLong(fields, FIELD_RESUME_ID))
+                .errorMessage(getString(fields, FIELD_ERROR_MESSAGE))
+                .fileName(getString(fields, FIELD_FILE_NAME))
+                .originalFileName(getString(fields, FIELD_ORIGINAL_FILE_NAME))
+                .fileSize(getLong(fields, FIELD_FILE_SIZE))
+                .modelName(getString(fields, FIELD_MODEL_NAME))
+                .startTime(getTime(fields, FIELD_START_TIME))
+                .analyzeStartTime(getTime(fields, STAGE_FIELD_PREFIX + TaskStatusEnum.ANALYZING.getCode()))
+                .saveStartTime(getTime(fields, STAGE_FIELD_PREFIX + TaskStatusEnum.SAVING.getCode()))
+                .completeTime(getTime(fields, FIELD_COMPLETE_TIME))
+                .updateTime(getTime(fields, FIELD_UPDATE_TIME))
+                .build();
+    }
+
+    /**
+     * 哈希值统一以字符串存放，避免JSON反序列化时数值类型（Integer/Long）不一致
+     */
+    private void putIfNotNull(Map<String, Object> fields, String field, Object value) {
+        if (Objects.nonNull(value)) {
+            fields.put(field, value.toString());
+        }
+    }
+
+    private String getString(Map<Object, Object> fields, String field) {
+        Object value = fields.get(field);
+        return Objects.isNull(value) ? null : value.toString();
+    }
+
+    private Long getLong(Map<Object, Object> fields, String field) {
+        String value = getString(fields, field);
+        return StringUtils.isEmpty(value) ? null : Long.valueOf(value);
+    }
+
+    private LocalDateTime getTime(Map<Object, Object> fields, String field) {
+        String value = getString(fields, field);
+        return StringUtils.isEmpty(value) ? null : LocalDateTime.parse(value);
+    }
+
+    private long resolveTtl(String status) {
+        return TaskStatusEnum.isTerminal(status) ? terminalTtlSeconds : ttlSeconds;
+    }
+
+    private String buildKey(String taskId) {
+        return REDIS_KEY_PREFIX + taskId;
+    }
+}
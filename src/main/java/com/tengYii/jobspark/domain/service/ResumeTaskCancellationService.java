@@ -0,0 +1,141 @@
+package com.tengYii.jobspark.domain.service;
+
+import com.tengYii.jobspark.common.enums.TaskStatusEnum;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 简历任务取消服务
+ * <p>
+ * 记录本节点正在执行的任务（taskId -> Future），并订阅这些任务的状态事件：任务被取消（状态变为 FAILED）、
+ * 被回收节点转入重试耗尽（DEAD_LETTER）或租约被接管（执行线程卡死超时）时，无论请求落在哪个节点，执行该任务的节点都会收到事件，标记取消并中断执行线程。
+ * <p>
+ * 中断会终止正在进行的大模型 HTTP 调用（JDK HttpClient 在线程中断时取消请求）和简历落库事务，尽快释放线程池线程；
+ * 执行线程在各阶段之间检查取消标记，对不响应中断的操作兜底。
+ */
+@Slf4j
+@Service
+public class ResumeTaskCancellationService {
+
+    @Resource
+    private ResumeTaskEventService resumeTaskEventService;
+
+    /**
+     * 本节点正在执行的任务
+     */
+    private final Map<String, RunningTask> runningTasks = new ConcurrentHashMap<>();
+
+    /**
+     * 提交任务到执行器，执行期间可被取消
+     *
+     * @param taskId   任务ID
+     * @param executor 执行器
+     * @param action   任务逻辑
+     * @throws org.springframework.core.task.TaskRejectedException 执行器拒绝任务时抛出，此时不会登记该任务
+     */
+    public void submit(String taskId, Executor executor, Runnable action) {
+        RunningTask runningTask = new RunningTask();
+        runningTask.future = new FutureTask<>(() -> {
+            if (!runningTask.started.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                action.run();
+            } finally {
+                untrack(taskId, runningTask);
+            }
+        }, null) {
+            @Override
+            protected void done() {
+                // 在队列中就被取消的任务不会再执行，由此处移除登记与订阅；已开始执行的由执行线程结束时移除
+                if (isCancelled() && runningTask.started.compareAndSet(false, true)) {
+                    untrack(taskId, runningTask);
+                }
+            }
+        };
+        // 先订阅再执行，避免执行开始后、订阅前的取消事件丢失
+        runningTask.unsubscribe = resumeTaskEventService.subscribe(taskId, event -> {
+            if (StringUtils.equalsAny(event.getStatus(), TaskStatusEnum.FAILED.getCode(), TaskStatusEnum.DEAD_LETTER.getCode())
+                    || Boolean.TRUE.equals(event.getLeaseRevoked())) {
+                cancel(taskId);
+            }
+        });
+        runningTasks.put(taskId, runningTask);
+
+        try {
+            executor.execute(runningTask.future);
+        } catch (RuntimeException e) {
+            untrack(taskId, runningTask);
+            throw e;
+        }
+    }
+
+    /**
+     * 取消本节点正在执行的任务（任务不在本节点执行时忽略）
+     *
+     * @param taskId 任务ID
+     */
+    public void cancel(String taskId) {
+        RunningTask runningTask = runningTasks.get(taskId);
+        if (Objects.isNull(runningTask)) {
+            return;
+        }
+        runningTask.cancelled = true;
+        runningTask.future.cancel(true);
+        log.info("已中断正在执行的任务，taskId: {}", taskId);
+    }
+
+    /**
+     * 判断本节点正在执行的任务是否已被取消
+     *
+     * @param taskId 任务ID
+     * @return 是否已被取消
+     */
+    public boolean isCancelled(String taskId) {
+        RunningTask runningTask = runningTasks.get(taskId);
+        return Objects.nonNull(runningTask) && runningTask.cancelled;
+    }
+
+    /**
+     * 本节点正在执行的任务ID，用于续租
+     *
+     * @return 任务ID列表
+     */
+    public List<String> runningTaskIds() {
+        return new ArrayList<>(runningTasks.keySet());
+    }
+
+    private void untrack(String taskId, RunningTask runningTask) {
+        if (runningTasks.remove(taskId, runningTask)) {
+            runningTask.unsubscribe.run();
+        }
+    }
+
+    /**
+     * 正在执行的任务
+     */
+    private static final class RunningTask {
+
+        private FutureTask<Void> future;
+
+        private Runnable unsubscribe;
+
+        private volatile boolean cancelled;
+
+        /**
+         * 任务逻辑已开始执行，或已在排队时被取消（二者只有一个会成立）
+         */
+        private final AtomicBoolean started = new AtomicBoolean();
+    }
+}
@@ -0,0 +1,196 @@
+package com.tengYii.jobspark.domain.service;
+
+import com.tengYii.jobspark.common.enums.TaskStatusEnum;
+import com.tengYii.jobspark.common.utils.RedisUtil;
+import com.tengYii.jobspark.model.bo.TaskStatusEventBO;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * 简历任务状态事件服务
+ * <p>
+ * 任务处理线程在状态变更时通过 Redis 频道广播事件，各节点收到后分发给本节点订阅了该任务的监听器（如SSE连接），
+ * 处理任务的节点与持有订阅连接的节点可以不同。
+ * <p>
+ * 事件只作为状态变更通知，订阅方收到后应读取最新任务状态，而不是依赖事件本身的顺序与完整性。
+ * 回调在独立的分发线程池中执行，同一订阅尚未执行的回调只保留最新事件。
+ */
+@Slf4j
+@Service
+public class ResumeTaskEventService implements MessageListener, InitializingBean {
+
+    private static final String EVENT_CHANNEL = "task:status:events";
+
+    @Resource
+    private RedisUtil redisUtil;
+
+    @Resource
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Resource(name = "taskEventDispatchExecutor")
+    private Executor taskEventDispatchExecutor;
+
+    /**
+     * 本节点的订阅：任务ID -> 订阅集合
+     */
+    private final Map<String, Set<Subscription>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterPropertiesSet() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(EVENT_CHANNEL));
+    }
+
+    /**
+     * 广播任务状态变更事件
+     *
+     * @param taskId 任务ID
+     * @param status 变更后的任务状态
+     */
+    public void publish(String taskId, TaskStatusEnum status) {
+        publish(TaskStatusEventBO.builder()
+                .taskId(taskId)
+                .status(status.getCode())
+                .eventTime(System.currentTimeMillis())
+                .build());
+    }
+
+    /**
+     * 广播任务租约被接管事件，原执行节点收到后中断执行线程
+     *
+     * @param taskId 任务ID
+     * @param status 接管时的任务状态
+     */
+    public void publishLeaseRevoked(String taskId, String status) {
+        publish(TaskStatusEventBO.builder()
+                .taskId(taskId)
+                .status(status)
+                .eventTime(System.currentTimeMillis())
+                .leaseRevoked(Boolean.TRUE)
+                .build());
+    }
+
+    private void publish(TaskStatusEventBO event) {
+        if (!redisUtil.publish(EVENT_CHANNEL, event)) {
+            log.warn("广播任务状态事件失败，taskId: {}, status: {}, leaseRevoked: {}",
+                    event.getTaskId(), event.getStatus(), event.getLeaseRevoked());
+        }
+    }
+
+    /**
+     * 订阅任务状态变更事件
+     *
+     * @param taskId   任务ID
+     * @param listener 事件监听器，在事件分发线程池中回调
+     * @return 取消订阅操作，连接关闭时必须调用
+     */
+    public Runnable subscribe(String taskId, Consumer<TaskStatusEventBO> listener) {
+        Subscription subscription = new Subscription(listener);
+        listeners.compute(taskId, (key, taskListeners) -> {
+            Set<Subscription> result = Objects.isNull(taskListeners) ? new CopyOnWriteArraySet<>() : taskListeners;
+            result.add(subscription);
+            return result;
+        });
+        return () -> listeners.computeIfPresent(taskId, (key, taskListeners) -> {
+            taskListeners.remove(subscription);
+            return taskListeners.isEmpty() ? null : taskListeners;
+        });
+    }
+
+    /**
+     * 接收任务状态事件，提交给分发线程池回调本节点订阅了该任务的监听器
+     *
+     * @param message 事件消息
+     * @param pattern 订阅的频道
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object body = redisUtil.deserializeMessage(message.getBody());
+        if (!(body instanceof TaskStatusEventBO event)) {
+            return;
+        }
+
+        Set<Subscription> taskListeners = listeners.get(event.getTaskId());
+        if (CollectionUtils.isEmpty(taskListeners)) {
+            return;
+        }
+        for (Subscription subscription : taskListeners) {
+            // 租约接管事件随后会紧跟重新排队/重试耗尽事件，接管标记不能被合并覆盖
+            if (Boolean.TRUE.equals(event.getLeaseRevoked())) {
+                subscription.leaseRevoked.set(true);
+            }
+            subscription.latestEvent.set(event);
+            // 已有待执行的回调时由其读取最新事件，不再重复提交
+            if (!subscription.pending.compareAndSet(false, true)) {
+                continue;
+            }
+            try {
+                taskEventDispatchExecutor.execute(() -> dispatch(subscription));
+            } catch (RejectedExecutionException e) {
+                subscription.pending.set(false);
+                log.warn("任务状态事件分发线程池已满，丢弃事件，taskId: {}, status: {}", event.getTaskId(), event.getStatus());
+            }
+        }
+    }
+
+    /**
+     * 回调订阅方
+     * <p>
+     * 先清除待执行标记再回调，回调期间到达的事件会重新提交，订阅方总能收到最后一个事件；
+     * 合并期间收到过租约接管事件时，回调的事件带上接管标记。
+     *
+     * @param subscription 订阅
+     */
+    private void dispatch(Subscription subscription) {
+        subscription.pending.set(false);
+        TaskStatusEventBO event = subscription.latestEvent.get();
+        if (subscription.leaseRevoked.getAndSet(false) && !Boolean.TRUE.equals(event.getLeaseRevoked())) {
+            event = TaskStatusEventBO.builder()
+                    .taskId(event.getTaskId())
+                    .status(event.getStatus())
+                    .eventTime(event.getEventTime())
+                    .leaseRevoked(Boolean.TRUE)
+                    .build();
+        }
+        try {
+            subscription.listener.accept(event);
+        } catch (Exception e) {
+            log.warn("分发任务状态事件失败，taskId: {}, status: {}", event.getTaskId(), event.getStatus(), e);
+        }
+    }
+
+    /**
+     * 单个订阅：监听器、尚未回调的最新事件及合并期间是否收到过租约接管事件
+     */
+    private static class Subscription {
+
+        private final Consumer<TaskStatusEventBO> listener;
+
+        private final AtomicReference<TaskStatusEventBO> latestEvent = new AtomicReference<>();
+
+        private final AtomicBoolean pending = new AtomicBoolean();
+
+        private final AtomicBoolean leaseRevoked = new AtomicBoolean();
+
+        private Subscription(Consumer<TaskStatusEventBO> listener) {
+            this.listener = listener;
+        }
+    }
+}
@@ -2,15 +2,25 @@ package com.tengYii.jobspark.domain.service;
 
 import com.tengYii.jobspark.common.enums.TaskStatusEnum;
 import com.tengYii.jobspark.infrastructure.repo.ResumeTaskRepository;
+import com.tengYii.jobspark.model.bo.PageCursorBO;
 import com.tengYii.jobspark.model.po.ResumeTaskPO;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * 简历任务服务实现类
@@ -24,6 +34,59 @@ public class ResumeTaskService {
     @Autowired
     private ResumeTaskRepository resumeTaskRepository;
 
+    @Autowired
+    private ResumeTaskCacheService resumeTaskCacheService;
+
+    @Autowired
+    private ResumeTaskEventService resumeTaskEventService;
+
+    /**
+     * 任务租约时长（秒），执行节点在状态变更时续租，超时未续租的任务会被其他节点重新领取
+     */
+    @Value("${jobspark.task.queue.lease-seconds:90}")
+    private long leaseSeconds;
+
+    /**
+     * 最大执行次数（含首次执行），超过后任务转入重试耗尽状态
+     */
+    @Value("${jobspark.task.queue.max-attempts:3}")
+    private int maxAttempts;
+
+    /**
+     * 单个用户同时执行的任务数上限（全局），超出的任务排队等待，避免批量上传占满所有工作线程
+     */
+    @Value("${jobspark.task.queue.per-user-max-running:3}")
+    private int perUserMaxRunning;
+
+    /**
+     * 已领取但未进入解析阶段的超时时间（秒）
+     */
+    @Value("${jobspark.task.reaper.processing-deadline-seconds:120}")
+    private long processingDeadlineSeconds;
+
+    /**
+     * 解析阶段超时时间（秒），应大于大模型调用超时时间与其重试次数的乘积
+     */
+    @Value("${jobspark.task.reaper.analyzing-deadline-seconds:600}")
+    private long analyzingDeadlineSeconds;
+
+    /**
+     * 存储阶段超时时间（秒）
+     */
+    @Value("${jobspark.task.reaper.saving-deadline-seconds:180}")
+    private long savingDeadlineSeconds;
+
+    /**
+     * 重试退避基数（秒）
+     */
+    @Value("${jobspark.task.queue.retry-backoff-base-seconds:10}")
+    private long retryBackoffBaseSeconds;
+
+    /**
+     * 重试退避上限（秒）
+     */
+    @Value("${jobspark.task.queue.retry-backoff-max-seconds:300}")
+    private long retryBackoffMaxSeconds;
 
     /**
      * 保存任务信息到数据库中
@@ -38,7 +101,11 @@ public class ResumeTaskService {
         }
 
         try {
-            return resumeTaskRepository.save(taskPO);
+            boolean saved = resumeTaskRepository.save(taskPO);
+            if (saved) {
+                resumeTaskCacheService.put(taskPO);
+            }
+            return saved;
         } catch (Exception e) {
             log.error("保存任务失败，taskId: {}", taskPO.getTaskId(), e);
             return Boolean.FALSE;
@@ -66,20 +133,97 @@ public class ResumeTaskService {
     }
 
     /**
-     * 更新任务状态
+     * 获取任务信息，优先读取任务状态缓存
+     * <p>
+     * 用于任务状态轮询，缓存未命中时通过loader回源（调用方决定读取的数据源）并回填缓存。
      *
      * @param taskId 任务ID
-     * @param status 新的任务状态
-     * @return 更新成功返回true，否则返回false
+     * @param loader 缓存未命中时的加载逻辑
+     * @return 任务信息对象，任务不存在时返回null
      */
-    public Boolean updateTaskStatus(String taskId, TaskStatusEnum status) {
+    public ResumeTaskPO getTaskThroughCache(String taskId, Supplier<ResumeTaskPO> loader) {
+        if (StringUtils.isEmpty(taskId)) {
+            log.warn("查询任务失败，任务ID为空");
+            return null;
+        }
+        return resumeTaskCacheService.getTask(taskId, loader);
+    }
+
+    /**
+     * 批量获取任务信息，优先读取任务状态缓存
+     *
+     * @param taskIds 任务ID列表
+     * @param loader  缓存未命中时的批量加载逻辑
+     * @return 任务ID -> 任务信息，不存在的任务不包含在结果中
+     */
+    public Map<String, ResumeTaskPO> getTasksThroughCache(List<String> taskIds,
+                                                          Function<List<String>, List<ResumeTaskPO>> loader) {
+        if (CollectionUtils.isEmpty(taskIds)) {
+            return Collections.emptyMap();
+        }
+        return resumeTaskCacheService.getTasks(taskIds, loader);
+    }
+
+    /**
+     * 根据任务ID批量获取任务信息
+     *
+     * @param taskIds 任务ID列表
+     * @return 任务列表
+     */
+    public List<ResumeTaskPO> listByTaskIds(List<String> taskIds) {
+        return resumeTaskRepository.listByTaskIds(taskIds);
+    }
+
+    /**
+     * 领取到期可执行的任务
+     * <p>
+     * 在一个短事务内通过 SELECT ... FOR UPDATE SKIP LOCKED 锁定任务并写入租约（lease_owner、租约到期时间），
+     * 多个节点并发领取时互不阻塞、不会重复领取。租约到期前未续租（执行节点宕机、线程卡死）的任务会被其他节点重新领取。
+     * 按用户轮流领取，并限制单个用户同时执行的任务数。
+     *
+     * @param leaseOwner 工作节点标识
+     * @param limit      最多领取的任务数
+     * @return 领取到的任务（attempts 已包含本次领取）
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public List<ResumeTaskPO> leaseTasks(String leaseOwner, int limit) {
+        if (StringUtils.isEmpty(leaseOwner) || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        LocalDateTime nowTime = LocalDateTime.now();
+        List<Long> ids = resumeTaskRepository.lockRunnableTaskIds(nowTime, perUserMaxRunning, limit);
+        if (CollectionUtils.isEmpty(ids)) {
+            return Collections.emptyList();
+        }
+        resumeTaskRepository.leaseTasks(ids, leaseOwner, nowTime.plusSeconds(leaseSeconds), nowTime);
+        return resumeTaskRepository.listByIds(ids);
+    }
+
+    /**
+     * 更新任务状态并续租
+     *
+     * @param taskId     任务ID
+     * @param leaseOwner 持有租约的工作节点
+     * @param status     新的任务状态
+     * @return 更新成功返回true；租约已丢失（被其他节点接管）或任务已结束（如被取消）时返回false，调用方应停止处理
+     */
+    public Boolean updateTaskStatus(String taskId, String leaseOwner, TaskStatusEnum status) {
         if (StringUtils.isEmpty(taskId) || Objects.isNull(status)) {
             log.warn("更新任务状态失败，参数为空");
             return Boolean.FALSE;
         }
 
         try {
-            resumeTaskRepository.updateTaskStatus(taskId, status, LocalDateTime.now());
+            LocalDateTime nowTime = LocalDateTime.now();
+            boolean updated = resumeTaskRepository.updateTaskStatus(taskId, leaseOwner, status, nowTime,
+                    nowTime.plusSeconds(leaseSeconds));
+            if (!updated) {
+                log.warn("更新任务状态失败，任务租约已丢失或任务已结束，taskId: {}, leaseOwner: {}", taskId, leaseOwner);
+                return Boolean.FALSE;
+            }
+            resumeTaskCacheService.updateStatus(taskId, status, nowTime);
+            resumeTaskEventService.publish(taskId, status);
             return Boolean.TRUE;
         } catch (Exception e) {
             log.error("更新任务状态失败，taskId: {}, status: {}", taskId, status, e);
@@ -90,71 +234,249 @@ public class ResumeTaskService {
     /**
      * 完成任务并更新任务状态
      *
-     * @param taskId   任务ID
-     * @param resumeId 简历ID
+     * @param taskId     任务ID
+     * @param leaseOwner 持有租约的工作节点
+     * @param resumeId   简历ID
      * @return 更新是否成功
      */
-    public Boolean completeTask(String taskId, Long resumeId) {
+    public Boolean completeTask(String taskId, String leaseOwner, Long resumeId) {
         if (StringUtils.isEmpty(taskId) || Objects.isNull(resumeId)) {
             log.warn("完成任务失败，参数为空");
             return Boolean.FALSE;
         }
 
+        LocalDateTime nowTime = LocalDateTime.now();
+        ResumeTaskPO finishPO = ResumeTaskPO.builder()
+                .taskId(taskId)
+                .resumeId(resumeId)
+                .completeTime(nowTime)
+                .updateTime(nowTime)
+                .build();
+        return finishTask(finishPO, TaskStatusEnum.COMPLETED, leaseOwner);
+    }
+
+    /**
+     * 处理任务执行失败：未超过最大执行次数时按指数退避重新排队，否则转入重试耗尽状态
+     *
+     * @param taskPO       领取时的任务信息（attempts 已包含本次执行）
+     * @param leaseOwner   持有租约的工作节点
+     * @param errorMessage 本次执行的错误信息
+     */
+    public void retryOrDeadLetter(ResumeTaskPO taskPO, String leaseOwner, String errorMessage) {
+        int attempts = Objects.requireNonNullElse(taskPO.getAttempts(), 0);
+        if (attempts >= maxAttempts) {
+            deadLetter(taskPO.getTaskId(), leaseOwner, errorMessage);
+            return;
+        }
+
+        String taskId = taskPO.getTaskId();
         try {
             LocalDateTime nowTime = LocalDateTime.now();
-            ResumeTaskPO resumeTaskPO = resumeTaskRepository.getByTaskId(taskId);
-            resumeTaskPO.setResumeId(resumeId);
-            resumeTaskPO.setStatus(TaskStatusEnum.COMPLETED.getCode());
-            resumeTaskPO.setCompleteTime(nowTime);
-            resumeTaskPO.setUpdateTime(nowTime);
-
-            return resumeTaskRepository.updateById(resumeTaskPO);
+            LocalDateTime nextRunTime = nowTime.plusSeconds(resolveBackoffSeconds(attempts));
+            boolean released = resumeTaskRepository.releaseTask(taskId, leaseOwner, nextRunTime, errorMessage, true, nowTime);
+            if (!released) {
+                log.warn("任务重新排队失败，任务租约已丢失或任务已结束，taskId: {}", taskId);
+                return;
+            }
+            resumeTaskCacheService.updateStatus(taskId, TaskStatusEnum.PROCESSING, nowTime);
+            resumeTaskEventService.publish(taskId, TaskStatusEnum.PROCESSING);
+            log.info("任务第{}次执行失败，将于{}重试，taskId: {}", attempts, nextRunTime, taskId);
         } catch (Exception e) {
-            log.error("完成任务失败，taskId: {}, resumeId: {}", taskId, resumeId, e);
-            return Boolean.FALSE;
+            // 未能重新排队的任务在租约到期后仍会被重新领取
+            log.error("任务重新排队异常，taskId: {}", taskId, e);
         }
     }
 
     /**
-     * 处理任务失败并更新任务状态。
+     * 执行次数已超过上限时将任务转入重试耗尽状态
+     * <p>
+     * 执行过程中节点宕机的任务不会走到失败处理，只能在下次领取时根据执行次数判断。
      *
-     * @param taskId       任务ID。
-     * @param resumeId     简历ID。
-     * @param errorMessage 失败错误信息。
+     * @param taskPO     领取时的任务信息
+     * @param leaseOwner 持有租约的工作节点
+     * @return 是否已转入重试耗尽状态，是则不应再执行
      */
-    public void failTask(String taskId, Long resumeId, String errorMessage) {
-        if (StringUtils.isEmpty(taskId)) {
-            log.error("任务失败处理失败，任务ID为空");
+    public boolean deadLetterIfExhausted(ResumeTaskPO taskPO, String leaseOwner) {
+        if (Objects.requireNonNullElse(taskPO.getAttempts(), 0) <= maxAttempts) {
+            return false;
         }
+        deadLetter(taskPO.getTaskId(), leaseOwner,
+                StringUtils.defaultIfEmpty(taskPO.getErrorMessage(), "任务执行超时，已达到最大执行次数"));
+        return true;
+    }
 
+    /**
+     * 释放未实际执行的任务租约（如线程池已满），任务立即回到队列且不计入执行次数
+     *
+     * @param taskId     任务ID
+     * @param leaseOwner 持有租约的工作节点
+     */
+    public void releaseLease(String taskId, String leaseOwner) {
         try {
             LocalDateTime nowTime = LocalDateTime.now();
-            ResumeTaskPO resumeTaskPO = resumeTaskRepository.getByTaskId(taskId);
-            resumeTaskPO.setResumeId(resumeId);
-            resumeTaskPO.setStatus(TaskStatusEnum.FAILED.getCode());
-            resumeTaskPO.setCompleteTime(nowTime);
-            resumeTaskPO.setErrorMessage(errorMessage);
-            resumeTaskPO.setUpdateTime(nowTime);
-
-            resumeTaskRepository.updateById(resumeTaskPO);
+            resumeTaskRepository.releaseTask(taskId, leaseOwner, nowTime, null, false, nowTime);
         } catch (Exception e) {
-            log.error("任务失败处理异常，taskId: {}", taskId, e);
+            log.error("释放任务租约异常，taskId: {}", taskId, e);
         }
     }
 
     /**
-     * 获取用户任务列表
+     * 为本节点正在执行的任务续租（心跳），节点存活期间长耗时阶段的租约不会过期
      *
-     * @param userId 用户ID（可选）
-     * @param status 任务状态（可选）
-     * @return 任务列表
+     * @param leaseOwner 持有租约的工作节点
+     * @param taskIds    本节点正在执行的任务ID
+     */
+    public void renewLeases(String leaseOwner, List<String> taskIds) {
+        if (CollectionUtils.isEmpty(taskIds)) {
+            return;
+        }
+        int renewed = resumeTaskRepository.renewLeases(taskIds, leaseOwner, LocalDateTime.now().plusSeconds(leaseSeconds));
+        if (renewed < taskIds.size()) {
+            log.warn("部分任务续租失败（已被接管或已结束），leaseOwner: {}, 任务数: {}, 续租成功: {}", leaseOwner, taskIds.size(), renewed);
+        }
+    }
+
+    /**
+     * 回收阶段超时的任务
+     * <p>
+     * 节点存活时会持续续租，租约不会过期，但执行线程可能卡死在某个阶段；按各阶段的最后一次状态变更时间判断超时，
+     * 先以“租约持有者、状态、更新时间均未变化”为条件接管租约，查询后有进展的任务不会被误回收；
+     * 接管后原执行线程的状态写入均会失败，不会与重新执行的结果冲突；同时广播租约接管事件，原执行节点收到后中断卡住的线程，释放线程池线程。
+     * 未超过最大执行次数的任务重新排队（复用已上传的文件重新解析），否则转入重试耗尽状态。
+     *
+     * @param reaperId 回收节点标识，用作接管后的租约持有者
+     * @param limit    单次最多回收的任务数
+     * @return 回收的任务数
+     */
+    public int reapStaleTasks(String reaperId, int limit) {
+        LocalDateTime nowTime = LocalDateTime.now();
+        Map<TaskStatusEnum, LocalDateTime> stageDeadlines = Map.of(
+                TaskStatusEnum.PROCESSING, nowTime.minusSeconds(processingDeadlineSeconds),
+                TaskStatusEnum.ANALYZING, nowTime.minusSeconds(analyzingDeadlineSeconds),
+                TaskStatusEnum.SAVING, nowTime.minusSeconds(savingDeadlineSeconds));
+        List<ResumeTaskPO> staleTasks = resumeTaskRepository.listStaleTasks(stageDeadlines, limit);
+
+        int reaped = 0;
+        for (ResumeTaskPO staleTask : staleTasks) {
+            String taskId = staleTask.getTaskId();
+            String errorMessage = "任务在" + staleTask.getStatus() + "阶段超时（最后更新于" + staleTask.getUpdateTime() + "）";
+            if (!resumeTaskRepository.takeOverLease(staleTask, reaperId)) {
+                continue;
+            }
+            log.warn("回收超时任务，taskId: {}, status: {}, leaseOwner: {}, 执行次数: {}",
+                    taskId, staleTask.getStatus(), staleTask.getLeaseOwner(), staleTask.getAttempts());
+            resumeTaskEventService.publishLeaseRevoked(taskId, staleTask.getStatus());
+            retryOrDeadLetter(staleTask, reaperId, errorMessage);
+            reaped++;
+        }
+        return reaped;
+    }
+
+    /**
+     * 将任务转入重试耗尽状态
+     *
+     * @param taskId       任务ID
+     * @param leaseOwner   持有租约的工作节点
+     * @param errorMessage 最后一次执行的错误信息
      */
-    public List<ResumeTaskPO> getUserTasks(Long userId, String status) {
+    private void deadLetter(String taskId, String leaseOwner, String errorMessage) {
+        LocalDateTime nowTime = LocalDateTime.now();
+        ResumeTaskPO finishPO = ResumeTaskPO.builder()
+                .taskId(taskId)
+                .errorMessage(errorMessage)
+                .completeTime(nowTime)
+                .updateTime(nowTime)
+                .build();
+        if (finishTask(finishPO, TaskStatusEnum.DEAD_LETTER, leaseOwner)) {
+            log.warn("任务重试耗尽，taskId: {}, 错误信息: {}", taskId, errorMessage);
+        }
+    }
+
+    /**
+     * 结束任务：单条条件更新完成状态变更，成功后将变更字段写入缓存并广播状态事件
+     *
+     * @param finishPO   待更新的字段
+     * @param status     结束状态
+     * @param leaseOwner 持有租约的工作节点，为空时不校验租约
+     * @return 是否更新成功，任务已结束或租约已丢失时返回false
+     */
+    private boolean finishTask(ResumeTaskPO finishPO, TaskStatusEnum status, String leaseOwner) {
+        String taskId = finishPO.getTaskId();
         try {
-            return resumeTaskRepository.getUserTasks(userId, status);
+            if (!resumeTaskRepository.transitStatus(finishPO, status, leaseOwner)) {
+                log.warn("结束任务失败，任务已结束或租约已丢失，taskId: {}, status: {}", taskId, status);
+                return false;
+            }
+            // 在事务中结束任务（如与简历落库同一事务）时，提交后再写缓存、广播事件，避免回滚后外部看到完成状态
+            Runnable notifyFinished = () -> {
+                resumeTaskCacheService.updateFinished(finishPO, status);
+                resumeTaskEventService.publish(taskId, status);
+            };
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        notifyFinished.run();
+                    }
+                });
+            } else {
+                notifyFinished.run();
+            }
+            return true;
         } catch (Exception e) {
-            log.error("获取用户任务列表失败，userId: {}, status: {}", userId, status, e);
-            return null;
+            log.error("结束任务异常，taskId: {}, status: {}", taskId, status, e);
+            return false;
         }
     }
+
+    /**
+     * 第N次执行失败后的重试等待时间：base * 2^(N-1)，不超过上限
+     *
+     * @param attempts 已执行次数
+     * @return 等待时间（秒）
+     */
+    private long resolveBackoffSeconds(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        return Math.min(retryBackoffBaseSeconds << exponent, retryBackoffMaxSeconds);
+    }
+
+    /**
+     * 将未结束的任务置为失败（如用户取消），不校验租约
+     * <p>
+     * 单条条件更新，与工作节点的完成、重试等状态变更并发时只有一个能成功，不会互相覆盖。
+     *
+     * @param taskId       任务ID
+     * @param resumeId     简历ID（可选）
+     * @param errorMessage 失败错误信息
+     * @return 是否置为失败，任务不存在或已结束时返回false
+     */
+    public Boolean failTask(String taskId, Long resumeId, String errorMessage) {
+        if (StringUtils.isEmpty(taskId)) {
+            log.error("任务失败处理失败，任务ID为空");
+            return Boolean.FALSE;
+        }
+
+        LocalDateTime nowTime = LocalDateTime.now();
+        ResumeTaskPO finishPO = ResumeTaskPO.builder()
+                .taskId(taskId)
+                .resumeId(resumeId)
+                .errorMessage(errorMessage)
+                .completeTime(nowTime)
+                .updateTime(nowTime)
+                .build();
+        return finishTask(finishPO, TaskStatusEnum.FAILED, null);
+    }
+
+    /**
+     * 按游标分页获取用户任务列表
+     *
+     * @param userId 用户ID
+     * @param status 任务状态（可选）
+     * @param cursor 上一页最后一条记录的位置，为空表示第一页
+     * @param limit  查询条数
+     * @return 任务列表
+     */
+    public List<ResumeTaskPO> pageUserTasks(Long userId, String status, PageCursorBO cursor, int limit) {
+        return resumeTaskRepository.pageUserTasks(userId, status, cursor, limit);
+    }
 }
@@ -0,0 +1,192 @@
+package com.tengYii.jobspark.domain.service;
+
+import com.tengYii.jobspark.common.enums.ResultCodeEnum;
+import com.tengYii.jobspark.common.exception.TooManyRequestsException;
+import com.tengYii.jobspark.infrastructure.context.DataSourceRoutingContext;
+import com.tengYii.jobspark.infrastructure.repo.ResumeTaskRepository;
+import com.tengYii.jobspark.model.bo.TaskQueueStatsBO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 简历解析任务准入控制
+ * <p>
+ * 定期统计任务队列（到期待领取的任务数、最早任务已等待的时间、近期完成速率），上传时据此判断是否接收新任务：
+ * 排队数达到上限或最早任务的排队时间超过 SLO 时拒绝，返回 429 及 Retry-After。
+ * 超过单用户并发上限的任务不会排在其他用户之前，不计入排队，单个用户批量上传不会导致其他用户被拒绝。
+ * Retry-After 按近期完成速率估算：排队数降到“上限”与“SLO 时间内可处理的任务数”中较小者所需的时间。
+ * <p>
+ * 同时上报队列深度、最早任务等待时间、完成速率、排队耗时和拒绝次数指标。
+ */
+@Slf4j
+@Service
+public class TaskAdmissionService implements InitializingBean {
+
+    private static final String METRIC_PREFIX = "jobspark.task.queue";
+
+    @Resource
+    private ResumeTaskRepository resumeTaskRepository;
+
+    @Resource
+    private DataSourceRoutingContext dataSourceRoutingContext;
+
+    @Resource
+    private MeterRegistry meterRegistry;
+
+    /**
+     * 是否开启准入控制
+     */
+    @Value("${jobspark.task.admission.enabled:true}")
+    private boolean admissionEnabled;
+
+    /**
+     * 排队任务数上限
+     */
+    @Value("${jobspark.task.admission.max-queued:200}")
+    private long maxQueued;
+
+    /**
+     * 排队时间 SLO（秒）
+     */
+    @Value("${jobspark.task.admission.queue-time-slo-seconds:120}")
+    private long queueTimeSloSeconds;
+
+    /**
+     * Retry-After 上限（秒），完成速率为0时使用
+     */
+    @Value("${jobspark.task.admission.max-retry-after-seconds:300}")
+    private long maxRetryAfterSeconds;
+
+    /**
+     * 完成速率统计窗口（秒）
+     */
+    @Value("${jobspark.task.admission.throughput-window-seconds:300}")
+    private long throughputWindowSeconds;
+
+    /**
+     * 单个用户同时执行的任务数上限，与任务调度保持一致
+     */
+    @Value("${jobspark.task.queue.per-user-max-running:3}")
+    private int perUserMaxRunning;
+
+    /**
+     * 最近一次统计结果，整体替换保证读取时的一致性
+     */
+    private volatile QueueSnapshot snapshot = new QueueSnapshot(0L, 0L, 0D);
+
+    private Counter rejectedCounter;
+
+    private Timer queueWaitTimer;
+
+    @Override
+    public void afterPropertiesSet() {
+        Gauge.builder(METRIC_PREFIX + ".depth", this, service -> service.snapshot.queuedCount)
+                .description("到期待领取的简历解析任务数")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".oldest.wait", this, service -> service.snapshot.oldestWaitSeconds)
+                .description("最早的待领取任务已等待的时间")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".drain.rate", this, service -> service.snapshot.drainPerSecond)
+                .description("近期每秒完成的简历解析任务数")
+                .register(meterRegistry);
+        queueWaitTimer = Timer.builder(METRIC_PREFIX + ".wait")
+                .description("简历解析任务从提交到首次被领取的排队耗时")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("jobspark.task.admission.rejected")
+                .description("因排队已满被拒绝的上传请求数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 重新统计任务队列
+     */
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        TaskQueueStatsBO stats = dataSourceRoutingContext.onReplica(
+                () -> resumeTaskRepository.getQueueStats(now, now.minusSeconds(throughputWindowSeconds), perUserMaxRunning));
+        if (Objects.isNull(stats)) {
+            return;
+        }
+
+        long queuedCount = Objects.requireNonNullElse(stats.getQueuedCount(), 0L);
+        long oldestWaitSeconds = Objects.isNull(stats.getOldestRunTime()) ? 0L
+                : Math.max(0L, Duration.between(stats.getOldestRunTime(), now).getSeconds());
+        double drainPerSecond = Objects.requireNonNullElse(stats.getRecentCompletedCount(), 0L)
+                / (double) throughputWindowSeconds;
+        snapshot = new QueueSnapshot(queuedCount, oldestWaitSeconds, drainPerSecond);
+    }
+
+    /**
+     * 校验是否接收新的解析任务
+     *
+     * @throws TooManyRequestsException 排队已满或排队时间超过 SLO 时抛出
+     */
+    public void checkAdmission() {
+        if (!admissionEnabled) {
+            return;
+        }
+
+        QueueSnapshot current = snapshot;
+        if (current.queuedCount < maxQueued && current.oldestWaitSeconds <= queueTimeSloSeconds) {
+            return;
+        }
+
+        long retryAfterSeconds = computeRetryAfterSeconds(current);
+        rejectedCounter.increment();
+        log.warn("任务排队已满，拒绝新任务，排队数: {}, 最早任务已等待: {}s, 完成速率: {}/s, retryAfter: {}s",
+                current.queuedCount, current.oldestWaitSeconds, current.drainPerSecond, retryAfterSeconds);
+        throw new TooManyRequestsException(ResultCodeEnum.TASK_QUEUE_FULL,
+                "当前解析任务较多，请" + retryAfterSeconds + "秒后重试", retryAfterSeconds);
+    }
+
+    /**
+     * 记录任务从提交到首次被领取的排队耗时
+     *
+     * @param wait 排队耗时
+     */
+    public void recordQueueWait(Duration wait) {
+        if (Objects.nonNull(queueWaitTimer) && !wait.isNegative()) {
+            queueWaitTimer.record(wait);
+        }
+    }
+
+    private long computeRetryAfterSeconds(QueueSnapshot current) {
+        if (current.drainPerSecond <= 0) {
+            return maxRetryAfterSeconds;
+        }
+        double targetQueued = Math.min(maxQueued - 1, queueTimeSloSeconds * current.drainPerSecond);
+        long seconds = (long) Math.ceil((current.queuedCount - targetQueued) / current.drainPerSecond);
+        return Math.max(1L, Math.min(maxRetryAfterSeconds, seconds));
+    }
+
+    /**
+     * 任务队列统计快照
+     */
+    private static final class QueueSnapshot {
+
+        private final long queuedCount;
+
+        private final long oldestWaitSeconds;
+
+        private final double drainPerSecond;
+
+        private QueueSnapshot(long queuedCount, long oldestWaitSeconds, double drainPerSecond) {
+            this.queuedCount = queuedCount;
+            this.oldestWaitSeconds = oldestWaitSeconds;
+            this.drainPerSecond = drainPerSecond;
+        }
+    }
+}
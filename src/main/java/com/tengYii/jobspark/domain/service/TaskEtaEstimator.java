@@ -0,0 +1,259 @@
+package com.tengYii.jobspark.domain.service;
+
+import com.tengYii.jobspark.common.enums.TaskStatusEnum;
+import com.tengYii.jobspark.infrastructure.context.DataSourceRoutingContext;
+import com.tengYii.jobspark.infrastructure.repo.ResumeTaskRepository;
+import com.tengYii.jobspark.model.bo.TaskEstimateBO;
+import com.tengYii.jobspark.model.po.ResumeTaskPO;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 任务进度与剩余时间预估器
+ * <p>
+ * 定期从近期已完成的任务中统计各阶段（排队、解析、存储）耗时的 p50/p90，按 模型+文件大小区间 分桶，
+ * 样本不足的分桶依次回退到 模型 维度、全局维度，仍不足时使用默认耗时。
+ * <p>
+ * 当前阶段已耗时未达 p50 时按 p50 预估剩余时间，超过 p50 后按 p90 预估，超过 p90 后只保留一个很小的剩余时间；
+ * 后续阶段均按 p50 累加。进度 = 已耗时 /（已耗时 + 预估剩余时间）。
+ */
+@Slf4j
+@Service
+public class TaskEtaEstimator {
+
+    /**
+     * 参与预估的阶段（按执行顺序）
+     */
+    private static final List<TaskStatusEnum> STAGES = List.of(
+            TaskStatusEnum.PROCESSING, TaskStatusEnum.ANALYZING, TaskStatusEnum.SAVING);
+
+    /**
+     * 各阶段默认耗时（秒）：{p50, p90}，样本不足时使用
+     */
+    private static final Map<TaskStatusEnum, long[]> DEFAULT_DURATIONS = Map.of(
+            TaskStatusEnum.PROCESSING, new long[]{2L, 5L},
+            TaskStatusEnum.ANALYZING, new long[]{55L, 90L},
+            TaskStatusEnum.SAVING, new long[]{15L, 30L});
+
+    /**
+     * 文件大小分桶上界（字节）：小于256KB、小于1MB、其余
+     */
+    private static final long[] FILE_SIZE_BUCKET_BOUNDS = {256L * 1024, 1024L * 1024};
+
+    private static final String ANY = "*";
+
+    @Resource
+    private ResumeTaskRepository resumeTaskRepository;
+
+    @Resource
+    private DataSourceRoutingContext dataSourceRoutingContext;
+
+    /**
+     * 统计窗口（天）
+     */
+    @Value("${jobspark.task.eta.window-days:7}")
+    private int windowDays = 7;
+
+    /**
+     * 每次统计最多读取的任务数
+     */
+    @Value("${jobspark.task.eta.max-samples:2000}")
+    private int maxSamples = 2000;
+
+    /**
+     * 分桶最少样本数，不足时回退到更粗的维度
+     */
+    @Value("${jobspark.task.eta.min-samples:20}")
+    private int minSamples = 20;
+
+    /**
+     * 各阶段耗时统计：分桶key -> 阶段耗时分位数，整体替换保证读取时的一致性
+     */
+    private volatile Map<String, StageDuration> durations = Collections.emptyMap();
+
+    /**
+     * 重新统计各阶段耗时
+     */
+    public void refresh() {
+        LocalDateTime since = LocalDateTime.now().minusDays(windowDays);
+        List<ResumeTaskPO> samples = dataSourceRoutingContext.onReplica(
+                () -> resumeTaskRepository.listRecentCompleted(since, maxSamples));
+        rebuild(samples);
+        log.info("任务阶段耗时统计已刷新，样本数: {}, 分桶数: {}", samples.size(), durations.size());
+    }
+
+    /**
+     * 预估任务进度与剩余时间
+     *
+     * @param taskPO 任务信息
+     * @param now    当前时间
+     * @return 预估结果
+     */
+    public TaskEstimateBO estimate(ResumeTaskPO taskPO, LocalDateTime now) {
+        String status = taskPO.getStatus();
+        if (StringUtils.equals(status, TaskStatusEnum.COMPLETED.getCode())) {
+            return new TaskEstimateBO(100, null);
+        }
+        int stageIndex = indexOfStage(status);
+        if (stageIndex < 0 || Objects.isNull(taskPO.getStartTime())) {
+            return new TaskEstimateBO(0, null);
+        }
+
+        String model = StringUtils.defaultIfEmpty(taskPO.getModelName(), ANY);
+        String sizeBucket = resolveSizeBucket(taskPO.getFileSize());
+
+        // 当前阶段：按已耗时所处的分位区间预估剩余时间
+        StageDuration current = lookup(STAGES.get(stageIndex), model, sizeBucket);
+        long stageElapsed = secondsBetween(resolveStageStart(taskPO, stageIndex), now);
+        long remaining;
+        if (stageElapsed < current.p50) {
+            remaining = current.p50 - stageElapsed;
+        } else if (stageElapsed < current.p90) {
+            remaining = current.p90 - stageElapsed;
+        } else {
+            remaining = Math.max(1L, current.p50 / 10);
+        }
+
+        // 后续阶段：按p50累加
+        for (int i = stageIndex + 1; i < STAGES.size(); i++) {
+            remaining += lookup(STAGES.get(i), model, sizeBucket).p50;
+        }
+
+        long totalElapsed = secondsBetween(taskPO.getStartTime(), now);
+        int progress = (int) Math.round(totalElapsed * 100.0 / (totalElapsed + remaining));
+        return new TaskEstimateBO(Math.max(1, Math.min(99, progress)), remaining);
+    }
+
+    /**
+     * 根据样本重建各分桶的阶段耗时统计
+     *
+     * @param samples 近期已完成的任务
+     */
+    void rebuild(List<ResumeTaskPO> samples) {
+        Map<String, List<Long>> grouped = new HashMap<>();
+        for (ResumeTaskPO sample : samples) {
+            String model = StringUtils.defaultIfEmpty(sample.getModelName(), ANY);
+            String sizeBucket = resolveSizeBucket(sample.getFileSize());
+            LocalDateTime[] boundaries = {sample.getStartTime(), sample.getAnalyzeStartTime(),
+                    sample.getSaveStartTime(), sample.getCompleteTime()};
+            for (int i = 0; i < STAGES.size(); i++) {
+                if (Objects.isNull(boundaries[i]) || Objects.isNull(boundaries[i + 1])) {
+                    continue;
+                }
+                long seconds = secondsBetween(boundaries[i], boundaries[i + 1]);
+                TaskStatusEnum stage = STAGES.get(i);
+                // 同一样本同时计入 模型+大小、模型、全局 三个维度
+                grouped.computeIfAbsent(buildKey(stage, model, sizeBucket), key -> new ArrayList<>()).add(seconds);
+                grouped.computeIfAbsent(buildKey(stage, model, ANY), key -> new ArrayList<>()).add(seconds);
+                grouped.computeIfAbsent(buildKey(stage, ANY, ANY), key -> new ArrayList<>()).add(seconds);
+            }
+        }
+
+        Map<String, StageDuration> rebuilt = new HashMap<>();
+        grouped.forEach((key, values) -> {
+            if (values.size() >= minSamples) {
+                Collections.sort(values);
+                rebuilt.put(key, new StageDuration(percentile(values, 50), percentile(values, 90)));
+            }
+        });
+        durations = rebuilt;
+    }
+
+    /**
+     * 最近秩法计算分位数
+     *
+     * @param sorted  升序排列的样本
+     * @param percent 百分位（0-100）
+     * @return 分位数
+     */
+    static long percentile(List<Long> sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, rank - 1));
+    }
+
+    private StageDuration lookup(TaskStatusEnum stage, String model, String sizeBucket) {
+        Map<String, StageDuration> snapshot = durations;
+        StageDuration duration = snapshot.get(buildKey(stage, model, sizeBucket));
+        if (Objects.isNull(duration)) {
+            duration = snapshot.get(buildKey(stage, model, ANY));
+        }
+        if (Objects.isNull(duration)) {
+            duration = snapshot.get(buildKey(stage, ANY, ANY));
+        }
+        if (Objects.isNull(duration)) {
+            long[] defaults = DEFAULT_DURATIONS.get(stage);
+            duration = new StageDuration(defaults[0], defaults[1]);
+        }
+        return duration;
+    }
+
+    /**
+     * 当前阶段的开始时间，阶段时间缺失时（如历史任务）以最近一次状态更新时间代替
+     */
+    private LocalDateTime resolveStageStart(ResumeTaskPO taskPO, int stageIndex) {
+        LocalDateTime stageStart = switch (stageIndex) {
+            case 1 -> taskPO.getAnalyzeStartTime();
+            case 2 -> taskPO.getSaveStartTime();
+            default -> taskPO.getStartTime();
+        };
+        return Objects.nonNull(stageStart) ? stageStart
+                : Objects.requireNonNullElse(taskPO.getUpdateTime(), taskPO.getStartTime());
+    }
+
+    private int indexOfStage(String status) {
+        for (int i = 0; i < STAGES.size(); i++) {
+            if (StringUtils.equals(STAGES.get(i).getCode(), status)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private String resolveSizeBucket(Long fileSize) {
+        if (Objects.isNull(fileSize)) {
+            return ANY;
+        }
+        for (int i = 0; i < FILE_SIZE_BUCKET_BOUNDS.length; i++) {
+            if (fileSize < FILE_SIZE_BUCKET_BOUNDS[i]) {
+                return String.valueOf(i);
+            }
+        }
+        return String.valueOf(FILE_SIZE_BUCKET_BOUNDS.length);
+    }
+
+    private long secondsBetween(LocalDateTime start, LocalDateTime end) {
+        // 避免时间回拨导致负数
+        return Math.max(0L, Duration.between(start, end).getSeconds());
+    }
+
+    private String buildKey(TaskStatusEnum stage, String model, String sizeBucket) {
+        return stage.getCode() + "|" + model + "|" + sizeBucket;
+    }
+
+    /**
+     * 阶段耗时分位数（秒）
+     */
+    private static final class StageDuration {
+
+        private final long p50;
+
+        private final long p90;
+
+        private StageDuration(long p50, long p90) {
+            this.p50 = p50;
+            this.p90 = Math.max(p50, p90);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.tengYii.jobspark.domain.service;
+
+import com.tengYii.jobspark.common.enums.TaskStageEnum;
+import com.tengYii.jobspark.infrastructure.context.DataSourceRoutingContext;
+import com.tengYii.jobspark.infrastructure.repo.ResumeTaskEventRepository;
+import com.tengYii.jobspark.model.bo.TaskStageStatsBO;
+import com.tengYii.jobspark.model.po.ResumeTaskEventPO;
+import dev.langchain4j.model.output.TokenUsage;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 任务阶段耗时记录服务
+ * <p>
+ * 每个阶段（上传、文本提取、大模型解析、落库、向量化）结束时向 resume_task_event 表追加一条事件，
+ * 记录开始时间、耗时、token用量和执行节点，按阶段统计p50/p95定位耗时瓶颈。
+ * 记录失败只打印日志，不影响任务执行。
+ */
+@Slf4j
+@Service
+public class TaskStageTimingService {
+
+    private static final int ERROR_MESSAGE_MAX_LENGTH = 500;
+
+    @Resource
+    private ResumeTaskEventRepository resumeTaskEventRepository;
+
+    @Resource
+    private DataSourceRoutingContext dataSourceRoutingContext;
+
+    /**
+     * 是否记录阶段耗时事件
+     */
+    @Value("${jobspark.task.stage-timing.enabled:true}")
+    private boolean timingEnabled;
+
+    /**
+     * 默认统计窗口（小时）
+     */
+    @Value("${jobspark.task.stage-timing.stats-window-hours:24}")
+    private int defaultWindowHours;
+
+    /**
+     * 当前节点标识
+     */
+    private final String nodeId = resolveNodeId();
+
+    /**
+     * 记录成功执行的阶段
+     *
+     * @param taskId      任务ID（不属于解析任务时为空）
+     * @param resumeId    简历ID（未知时为空）
+     * @param stage       执行阶段
+     * @param startMillis 阶段开始时间戳（毫秒）
+     * @param tokenUsage  token用量（非大模型调用阶段为空）
+     */
+    public void record(String taskId, Long resumeId, TaskStageEnum stage, long startMillis, TokenUsage tokenUsage) {
+        ResumeTaskEventPO eventPO = buildEvent(taskId, resumeId, stage, startMillis);
+        eventPO.setSuccess(1);
+        if (Objects.nonNull(tokenUsage)) {
+            eventPO.setInputTokens(tokenUsage.inputTokenCount());
+            eventPO.setOutputTokens(tokenUsage.outputTokenCount());
+        }
+        save(eventPO);
+    }
+
+    /**
+     * 记录执行失败的阶段
+     *
+     * @param taskId       任务ID（不属于解析任务时为空）
+     * @param resumeId     简历ID（未知时为空）
+     * @param stage        执行阶段
+     * @param startMillis  阶段开始时间戳（毫秒）
+     * @param errorMessage 失败原因
+     */
+    public void recordFailure(String taskId, Long resumeId, TaskStageEnum stage, long startMillis, String errorMessage) {
+        ResumeTaskEventPO eventPO = buildEvent(taskId, resumeId, stage, startMillis);
+        eventPO.setSuccess(0);
+        eventPO.setErrorMessage(StringUtils.abbreviate(errorMessage, ERROR_MESSAGE_MAX_LENGTH));
+        save(eventPO);
+    }
+
+    /**
+     * 按阶段统计耗时p50/p95与token用量
+     *
+     * @param windowHours 统计窗口（小时），为空时使用默认窗口
+     * @return 各阶段统计
+     */
+    public List<TaskStageStatsBO> listStageStats(Integer windowHours) {
+        int hours = Objects.nonNull(windowHours) && windowHours > 0 ? windowHours : defaultWindowHours;
+        LocalDateTime since = LocalDateTime.now().minusHours(hours);
+        return dataSourceRoutingContext.onReplica(() -> resumeTaskEventRepository.listStageStats(since));
+    }
+
+    private ResumeTaskEventPO buildEvent(String taskId, Long resumeId, TaskStageEnum stage, long startMillis) {
+        long nowMillis = System.currentTimeMillis();
+        return ResumeTaskEventPO.builder()
+                .taskId(taskId)
+                .resumeId(resumeId)
+                .stage(stage.getCode())
+                .nodeId(nodeId)
+                .startTime(LocalDateTime.ofInstant(Instant.ofEpochMilli(startMillis), ZoneId.systemDefault()))
+                .durationMs(Math.max(0L, nowMillis - startMillis))
+                .createTime(LocalDateTime.now())
+                .build();
+    }
+
+    private void save(ResumeTaskEventPO eventPO) {
+        if (!timingEnabled) {
+            return;
+        }
+        try {
+            resumeTaskEventRepository.save(eventPO);
+        } catch (Exception e) {
+            log.warn("记录任务阶段耗时失败，taskId: {}, stage: {}", eventPO.getTaskId(), eventPO.getStage(), e);
+        }
+    }
+
+    private static String resolveNodeId() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
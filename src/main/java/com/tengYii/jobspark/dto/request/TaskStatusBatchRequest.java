@@ -0,0 +1,18 @@
+package com.tengYii.jobspark.dto.request;
+
+import lombok.Data;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 批量查询任务状态请求request
+ */
+@Data
+public class TaskStatusBatchRequest implements Serializable {
+
+    /**
+     * 待查询的任务ID列表
+     */
+    private List<String> taskIds;
+}
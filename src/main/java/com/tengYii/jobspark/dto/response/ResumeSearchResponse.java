@@ -0,0 +1,60 @@
+package com.tengYii.jobspark.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 简历检索结果响应对象
+ * <p>
+ * 每份命中的简历返回一条，附带命中文本片段
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeSearchResponse implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 简历ID
+     */
+    private String resumeId;
+
+    /**
+     * 相关度得分（取命中项中的最高分）
+     */
+    private Double score;
+
+    /**
+     * 命中片段列表
+     */
+    private List<Snippet> snippets;
+
+    /**
+     * 命中片段
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Snippet implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * 命中字段：summary/experience/project/highlight/skill/degree
+         */
+        private String field;
+
+        /**
+         * 关键词附近的文本片段
+         */
+        private String text;
+    }
+}
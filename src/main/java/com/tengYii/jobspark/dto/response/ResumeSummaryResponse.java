@@ -0,0 +1,68 @@
+package com.tengYii.jobspark.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 简历摘要响应对象
+ * <p>
+ * 用于简历列表页展示，仅包含简历基本信息及各模块条目数量，不加载完整的子表数据
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeSummaryResponse implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 简历ID
+     */
+    private String resumeId;
+
+    /**
+     * 姓名
+     */
+    private String name;
+
+    /**
+     * 职位头衔
+     */
+    private String title;
+
+    /**
+     * 更新时间
+     */
+    private LocalDateTime updatedTime;
+
+    /**
+     * 教育经历数量
+     */
+    private Long educationCount;
+
+    /**
+     * 工作经历数量
+     */
+    private Long experienceCount;
+
+    /**
+     * 项目经历数量
+     */
+    private Long projectCount;
+
+    /**
+     * 专业技能数量
+     */
+    private Long skillCount;
+
+    /**
+     * 证书数量
+     */
+    private Long certificateCount;
+}
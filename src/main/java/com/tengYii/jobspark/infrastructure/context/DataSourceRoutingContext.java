@@ -0,0 +1,293 @@
+package com.tengYii.jobspark.infrastructure.context;
+
+import com.baomidou.dynamic.datasource.DynamicRoutingDataSource;
+import com.baomidou.dynamic.datasource.toolkit.DynamicDataSourceContextHolder;
+import com.tengYii.jobspark.common.utils.RedisUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 数据源读写路由上下文
+ * <p>
+ * 读请求默认路由到从库分组，写入后在写入窗口期内将该用户的读请求回退到主库，保证用户读到自己刚写入的数据。
+ * 写入窗口期在事务提交后按定期采样的从库复制延迟（Seconds_Behind_Source）重新设置，配置值为下限；
+ * 复制延迟未知（未采样、复制中断、无权限查询）或超过上限时，用户读请求全部回退主库。
+ * <p>
+ * 路由必须在事务开启前设置：事务开启后连接已绑定到当前线程，再切换数据源不会生效。
+ * <p>
+ * 从库路由需显式开启（replica profile），开启但未配置从库数据源时启动阶段自动关闭，读请求全部走主库。
+ */
+@Slf4j
+@Component
+public class DataSourceRoutingContext implements InitializingBean {
+
+    /**
+     * 主库数据源名称
+     */
+    public static final String MASTER = "master";
+
+    /**
+     * 从库分组名称（slave_1、slave_2... 自动归入该分组并负载均衡）
+     */
+    public static final String REPLICA_GROUP = "slave";
+
+    /**
+     * 用户写入窗口期标记的key前缀
+     */
+    private static final String WRITE_FENCE_KEY_PREFIX = "ds:write-fence:user:";
+
+    @Autowired
+    private RedisUtil redisUtil;
+
+    @Autowired
+    private DataSource dataSource;
+
+    /**
+     * 是否将读请求路由到从库
+     */
+    @Value("${jobspark.datasource.replica.enabled:false}")
+    private boolean replicaEnabled;
+
+    /**
+     * 写入窗口期（秒），窗口期内该用户的读请求走主库
+     */
+    @Value("${jobspark.datasource.replica.write-fence-seconds:5}")
+    private long writeFenceSeconds;
+
+    /**
+     * 从库复制延迟上限（秒），超过时用户读请求全部走主库
+     */
+    @Value("${jobspark.datasource.replica.max-lag-seconds:30}")
+    private long maxLagSeconds;
+
+    /**
+     * 最近一次采样的从库最大复制延迟（秒），-1 表示未知
+     */
+    private volatile long replicaLagSeconds = -1L;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!replicaEnabled) {
+            return;
+        }
+        boolean replicaConfigured = dataSource instanceof DynamicRoutingDataSource routingDataSource
+                && routingDataSource.getGroupDataSources().containsKey(REPLICA_GROUP);
+        if (!replicaConfigured) {
+            replicaEnabled = false;
+            log.warn("已开启从库路由但未配置从库数据源（{}_*），读请求全部走主库", REPLICA_GROUP);
+        }
+    }
+
+    /**
+     * 标记用户刚发生写入，窗口期内该用户的读请求走主库
+     * <p>
+     * 在写入时（事务提交前）即设置标记，避免提交后、标记前的短暂窗口内读到从库旧数据；
+     * 在事务中写入时，提交后再按当前复制延迟重新设置，窗口期从提交时刻开始计算，不会被长事务耗掉。
+     *
+     * @param userId 用户ID
+     */
+    public void markWrite(Long userId) {
+        if (!replicaEnabled || Objects.isNull(userId)) {
+            return;
+        }
+        setWriteFence(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    setWriteFence(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 采样从库复制延迟，取各从库 Seconds_Behind_Source 的最大值
+     * <p>
+     * 任一从库复制中断（延迟为 NULL）或查询失败（如缺少 REPLICATION CLIENT 权限）时记为未知；
+     * 数据源不是从库（无复制状态）时视为无延迟。
+     */
+    public void refreshReplicaLag() {
+        if (!replicaEnabled || !(dataSource instanceof DynamicRoutingDataSource routingDataSource)) {
+            return;
+        }
+        long sampledLagSeconds = 0L;
+        for (Map.Entry<String, DataSource> entry : routingDataSource.getDataSources().entrySet()) {
+            if (!entry.getKey().startsWith(REPLICA_GROUP + "_")) {
+                continue;
+            }
+            long lagSeconds = queryReplicaLag(entry.getKey(), entry.getValue());
+            if (lagSeconds < 0) {
+                sampledLagSeconds = -1L;
+                break;
+            }
+            sampledLagSeconds = Math.max(sampledLagSeconds, lagSeconds);
+        }
+        if (sampledLagSeconds < 0 || sampledLagSeconds > maxLagSeconds) {
+            log.warn("从库复制延迟未知或超过上限，用户读请求回退主库，延迟: {}s, 上限: {}s", sampledLagSeconds, maxLagSeconds);
+        }
+        replicaLagSeconds = sampledLagSeconds;
+    }
+
+    /**
+     * 最近一次采样的从库最大复制延迟
+     *
+     * @return 复制延迟（秒），-1 表示未知
+     */
+    public long getReplicaLagSeconds() {
+        return replicaLagSeconds;
+    }
+
+    /**
+     * 判断用户是否处于写入窗口期
+     *
+     * @param userId 用户ID
+     * @return 是否处于写入窗口期
+     */
+    public boolean isWriteFenced(Long userId) {
+        if (Objects.isNull(userId)) {
+            return false;
+        }
+        try {
+            return redisUtil.hasKey(buildWriteFenceKey(userId));
+        } catch (Exception e) {
+            // Redis不可用时无法判断复制延迟，保守起见走主库
+            log.warn("查询用户写入窗口期失败，回退主库读取，userId: {}", userId, e);
+            return true;
+        }
+    }
+
+    /**
+     * 为指定用户执行读操作
+     * <p>
+     * 用户处于写入窗口期，或从库复制延迟未知、超过上限时走主库，否则走从库。
+     *
+     * @param userId 用户ID
+     * @param reader 读操作
+     * @param <T>    返回值类型
+     * @return 读操作结果
+     */
+    public <T> T readForUser(Long userId, Supplier<T> reader) {
+        if (!replicaEnabled || !isReplicaLagAcceptable() || isWriteFenced(userId)) {
+            return onPrimary(reader);
+        }
+        return onReplica(reader);
+    }
+
+    /**
+     * 在从库上执行读操作
+     *
+     * @param reader 读操作
+     * @param <T>    返回值类型
+     * @return 读操作结果
+     */
+    public <T> T onReplica(Supplier<T> reader) {
+        return execute(replicaEnabled ? REPLICA_GROUP : MASTER, reader);
+    }
+
+    /**
+     * 在主库上执行操作
+     *
+     * @param action 操作
+     * @param <T>    返回值类型
+     * @return 操作结果
+     */
+    public <T> T onPrimary(Supplier<T> action) {
+        return execute(MASTER, action);
+    }
+
+    /**
+     * 在主库上执行无返回值的操作
+     *
+     * @param action 操作
+     */
+    public void runOnPrimary(Runnable action) {
+        onPrimary(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 切换到指定数据源执行操作，执行结束后恢复到之前的数据源
+     *
+     * @param dataSourceKey 数据源名称或分组名称
+     * @param action        操作
+     * @param <T>           返回值类型
+     * @return 操作结果
+     */
+    private <T> T execute(String dataSourceKey, Supplier<T> action) {
+        DynamicDataSourceContextHolder.push(dataSourceKey);
+        try {
+            return action.get();
+        } finally {
+            DynamicDataSourceContextHolder.poll();
+        }
+    }
+
+    /**
+     * 设置用户写入窗口期标记：窗口期取配置值与两倍当前复制延迟中的较大者，为延迟在窗口期内继续增长留出余量
+     *
+     * @param userId 用户ID
+     */
+    private void setWriteFence(Long userId) {
+        long fenceSeconds = Math.max(writeFenceSeconds, Math.max(replicaLagSeconds, 0L) * 2);
+        try {
+            redisUtil.set(buildWriteFenceKey(userId), System.currentTimeMillis(), fenceSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            // 标记失败不影响写入；Redis不可用时 isWriteFenced 保守地回退主库
+            log.warn("设置用户写入窗口期失败，userId: {}", userId, e);
+        }
+    }
+
+    private boolean isReplicaLagAcceptable() {
+        long lagSeconds = replicaLagSeconds;
+        return lagSeconds >= 0 && lagSeconds <= maxLagSeconds;
+    }
+
+    /**
+     * 查询单个从库的复制延迟
+     *
+     * @param name       数据源名称
+     * @param dataSource 从库数据源
+     * @return 复制延迟（秒），复制中断或查询失败时返回-1
+     */
+    private long queryReplicaLag(String name, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!resultSet.next()) {
+                return 0L;
+            }
+            long lagSeconds = resultSet.getLong("Seconds_Behind_Source");
+            return resultSet.wasNull() ? -1L : lagSeconds;
+        } catch (Exception e) {
+            log.warn("查询从库复制延迟失败，dataSource: {}", name, e);
+            return -1L;
+        }
+    }
+
+    /**
+     * 构建用户写入窗口期标记的key
+     *
+     * @param userId 用户ID
+     * @return key
+     */
+    private String buildWriteFenceKey(Long userId) {
+        return WRITE_FENCE_KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,108 @@
+package com.tengYii.jobspark.infrastructure.mapper;
+
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <p>
+ * 简历归档 Mapper 接口
+ * </p>
+ * 将已逻辑删除的简历整棵从热表迁移到对应的 *_archive 表（INSERT ... SELECT 后 DELETE），需在同一事务内调用。
+ */
+public interface CvArchiveMapper {
+
+    /**
+     * 按主键升序查询一批可归档的简历ID
+     * <p>
+     * 可归档：已逻辑删除，且没有其他简历通过模块引用共享其子表行。
+     *
+     * @param afterId 检查点，只查询主键大于该值的简历
+     * @param limit   查询条数
+     * @return 简历ID列表
+     */
+    List<Long> listArchivableCvIds(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    /**
+     * 锁定并复核可归档的简历（SELECT ... FOR UPDATE）
+     *
+     * @param cvIds 候选简历ID
+     * @return 复核后仍可归档的简历ID
+     */
+    List<Long> lockArchivableCvIds(@Param("cvIds") Collection<Long> cvIds);
+
+    /**
+     * 复制简历的全部亮点到归档表
+     *
+     * @param cvIds 简历ID集合
+     * @return 复制行数
+     */
+    int archiveHighlights(@Param("cvIds") Collection<Long> cvIds);
+
+    /**
+     * 删除简历的全部亮点
+     *
+     * @param cvIds 简历ID集合
+     * @return 删除行数
+     */
+    int purgeHighlights(@Param("cvIds") Collection<Long> cvIds);
+
+    /**
+     * 复制简历的本地化配置到归档表
+     *
+     * @param cvIds 简历ID集合
+     * @return 复制行数
+     */
+    int archiveLocaleConfigs(@Param("cvIds") Collection<Long> cvIds);
+
+    /**
+     * 删除简历的本地化配置
+     *
+     * @param cvIds 简历ID集合
+     * @return 删除行数
+     */
+    int purgeLocaleConfigs(@Param("cvIds") Collection<Long> cvIds);
+
+    /**
+     * 复制按 cv_id 关联的子表行到归档表
+     *
+     * @param table 子表名（仅限代码内固定的表名，不可来自外部输入）
+     * @param cvIds 简历ID集合
+     * @return 复制行数
+     */
+    int archiveChildRows(@Param("table") String table, @Param("cvIds") Collection<Long> cvIds);
+
+    /**
+     * 删除按 cv_id 关联的子表行
+     *
+     * @param table 子表名（仅限代码内固定的表名，不可来自外部输入）
+     * @param cvIds 简历ID集合
+     * @return 删除行数
+     */
+    int purgeChildRows(@Param("table") String table, @Param("cvIds") Collection<Long> cvIds);
+
+    /**
+     * 复制简历主表行到归档表
+     *
+     * @param cvIds 简历ID集合
+     * @return 复制行数
+     */
+    int archiveCvs(@Param("cvIds") Collection<Long> cvIds);
+
+    /**
+     * 删除简历主表行
+     *
+     * @param cvIds 简历ID集合
+     * @return 删除行数
+     */
+    int purgeCvs(@Param("cvIds") Collection<Long> cvIds);
+
+    /**
+     * 删除简历快照（快照可由归档数据重建，不再保留）
+     *
+     * @param cvIds 简历ID集合
+     * @return 删除行数
+     */
+    int purgeSnapshots(@Param("cvIds") Collection<Long> cvIds);
+}
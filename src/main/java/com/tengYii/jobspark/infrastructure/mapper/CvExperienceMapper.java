@@ -2,6 +2,9 @@ package com.tengYii.jobspark.infrastructure.mapper;
 
 import com.tengYii.jobspark.model.po.CvExperiencePO;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
 
 /**
  * <p>
@@ -13,4 +16,11 @@ import com.baomidou.mybatisplus.core.mapper.BaseMapper;
  */
 public interface CvExperienceMapper extends BaseMapper<CvExperiencePO> {
 
+    /**
+     * 批量插入工作经历（单条多行VALUES语句）
+     *
+     * @param list 工作经历PO列表，不能为空
+     * @return 插入行数
+     */
+    int insertBatch(@Param("list") List<CvExperiencePO> list);
 }
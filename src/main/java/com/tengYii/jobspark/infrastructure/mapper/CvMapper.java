@@ -1,7 +1,14 @@
 package com.tengYii.jobspark.infrastructure.mapper;
 
+import com.tengYii.jobspark.model.bo.CvSearchHitBO;
+import com.tengYii.jobspark.model.bo.CvSectionCountBO;
 import com.tengYii.jobspark.model.po.CvPO;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * <p>
@@ -13,4 +20,42 @@ import com.baomidou.mybatisplus.core.mapper.BaseMapper;
  */
 public interface CvMapper extends BaseMapper<CvPO> {
 
+    /**
+     * 按简历ID统计各模块（教育/工作/项目/技能/证书）的未删除条目数量
+     *
+     * @param cvIds 简历ID集合
+     * @return 各简历各模块的条目数量，数量为0的模块不返回
+     */
+    List<CvSectionCountBO> countSectionsByCvIds(@Param("cvIds") Collection<Long> cvIds);
+
+    /**
+     * 以流式游标逐行读取用户未删除的简历（按主键升序）
+     * <p>
+     * 游标读取期间独占数据库连接，调用方需在事务内遍历并及时关闭游标。
+     *
+     * @param userId 用户ID
+     * @return 简历游标
+     */
+    Cursor<CvPO> streamByUser(@Param("userId") Long userId);
+
+    /**
+     * 在用户未删除的简历中检索关键词及学历
+     * <p>
+     * 关键词在该用户的简历行内子串匹配个人摘要、工作概述、项目描述、亮点，并精确匹配技能名称；学历精确匹配。
+     * 两者同时指定时，仅返回学历匹配的简历中命中关键词的文本。
+     *
+     * @param userId      用户ID
+     * @param keyword     关键词（用于技能名称精确匹配），为空表示仅按学历检索
+     * @param searchTerm  归一化后的检索词（用于统计出现次数作为相关度）
+     * @param likePattern 检索词的 LIKE 模式，为空表示仅按学历检索
+     * @param degree      学历，为空表示不限学历
+     * @param limit       最多返回的命中条数
+     * @return 命中项列表，按相关度倒序
+     */
+    List<CvSearchHitBO> searchByUser(@Param("userId") Long userId,
+                                     @Param("keyword") String keyword,
+                                     @Param("searchTerm") String searchTerm,
+                                     @Param("likePattern") String likePattern,
+                                     @Param("degree") String degree,
+                                     @Param("limit") int limit);
 }
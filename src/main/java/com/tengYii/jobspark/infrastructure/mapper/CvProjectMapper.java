@@ -2,6 +2,9 @@ package com.tengYii.jobspark.infrastructure.mapper;
 
 import com.tengYii.jobspark.model.po.CvProjectPO;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
 
 /**
  * <p>
@@ -13,4 +16,11 @@ import com.baomidou.mybatisplus.core.mapper.BaseMapper;
  */
 public interface CvProjectMapper extends BaseMapper<CvProjectPO> {
 
+    /**
+     * 批量插入项目经验（单条多行VALUES语句）
+     *
+     * @param list 项目经验PO列表，不能为空
+     * @return 插入行数
+     */
+    int insertBatch(@Param("list") List<CvProjectPO> list);
 }
@@ -0,0 +1,26 @@
+package com.tengYii.jobspark.infrastructure.mapper;
+
+import com.tengYii.jobspark.model.po.CvSectionRefPO;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * <p>
+ * 简历模块引用表 Mapper 接口
+ * </p>
+ *
+ * @author Teng-Yii
+ * @since 2025-11-16
+ */
+public interface CvSectionRefMapper extends BaseMapper<CvSectionRefPO> {
+
+    /**
+     * 批量插入模块引用（单条多行VALUES语句）
+     *
+     * @param list 模块引用PO列表，不能为空
+     * @return 插入行数
+     */
+    int insertBatch(@Param("list") List<CvSectionRefPO> list);
+}
@@ -2,6 +2,9 @@ package com.tengYii.jobspark.infrastructure.mapper;
 
 import com.tengYii.jobspark.model.po.CvSkillPO;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
 
 /**
  * <p>
@@ -13,4 +16,11 @@ import com.baomidou.mybatisplus.core.mapper.BaseMapper;
  */
 public interface CvSkillMapper extends BaseMapper<CvSkillPO> {
 
+    /**
+     * 批量插入技能（单条多行VALUES语句）
+     *
+     * @param list 技能PO列表，不能为空
+     * @return 插入行数
+     */
+    int insertBatch(@Param("list") List<CvSkillPO> list);
 }
@@ -0,0 +1,24 @@
+package com.tengYii.jobspark.infrastructure.mapper;
+
+import com.tengYii.jobspark.model.po.CvSnapshotPO;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * <p>
+ * 简历快照表 Mapper 接口
+ * </p>
+ *
+ * @author Teng-Yii
+ * @since 2025-11-16
+ */
+public interface CvSnapshotMapper extends BaseMapper<CvSnapshotPO> {
+
+    /**
+     * 写入或覆盖简历快照
+     *
+     * @param snapshot 简历快照
+     * @return 影响行数
+     */
+    int upsert(@Param("snapshot") CvSnapshotPO snapshot);
+}
@@ -0,0 +1,28 @@
+package com.tengYii.jobspark.infrastructure.mapper;
+
+import com.tengYii.jobspark.model.bo.TaskStageStatsBO;
+import com.tengYii.jobspark.model.po.ResumeTaskEventPO;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * <p>
+ * 简历处理任务阶段事件表 Mapper 接口
+ * </p>
+ *
+ * @author Teng-Yii
+ * @since 2026-10-17
+ */
+public interface ResumeTaskEventMapper extends BaseMapper<ResumeTaskEventPO> {
+
+    /**
+     * 按阶段统计耗时分位数（最近秩法）与token用量，分位数只统计成功执行的事件
+     *
+     * @param since 统计窗口的起始时间
+     * @return 各阶段统计
+     */
+    List<TaskStageStatsBO> selectStageStats(@Param("since") LocalDateTime since);
+}
@@ -1,7 +1,12 @@
 package com.tengYii.jobspark.infrastructure.mapper;
 
+import com.tengYii.jobspark.model.bo.TaskQueueStatsBO;
 import com.tengYii.jobspark.model.po.ResumeTaskPO;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * <p>
@@ -13,4 +18,40 @@ import com.baomidou.mybatisplus.core.mapper.BaseMapper;
  */
 public interface ResumeTaskMapper extends BaseMapper<ResumeTaskPO> {
 
+    /**
+     * 按用户公平调度的顺序选出到期可执行的任务（不加锁）
+     * <p>
+     * 每个用户的到期任务按可执行时间排序编号，编号加上该用户正在执行的任务数作为调度轮次，按轮次升序返回：
+     * 各用户的第一个任务先于任何用户的第二个任务，已有任务在执行的用户顺延；轮次超过单用户并发上限的任务不返回。
+     *
+     * @param now               当前时间
+     * @param statuses          未结束的任务状态
+     * @param perUserMaxRunning 单个用户同时执行的任务数上限
+     * @param limit             最多返回的任务数
+     * @return 任务主键ID，按调度顺序排列
+     */
+    List<Long> selectFairRunnableIds(@Param("now") LocalDateTime now,
+                                     @Param("statuses") List<String> statuses,
+                                     @Param("perUserMaxRunning") int perUserMaxRunning,
+                                     @Param("limit") int limit);
+
+    /**
+     * 统计任务队列：到期待领取的任务数、最早到期时间，以及统计窗口内完成的任务数
+     * <p>
+     * 按公平调度的轮次计算，超过单用户并发上限的任务不计入排队数与最早到期时间。
+     *
+     * @param now               当前时间
+     * @param statuses          未结束的任务状态（用于统计各用户正在执行的任务数）
+     * @param queuedStatus      排队中的任务状态
+     * @param completedStatus   已完成的任务状态
+     * @param completedSince    完成任务统计窗口的起始时间
+     * @param perUserMaxRunning 单个用户同时执行的任务数上限
+     * @return 队列统计
+     */
+    TaskQueueStatsBO selectQueueStats(@Param("now") LocalDateTime now,
+                                      @Param("statuses") List<String> statuses,
+                                      @Param("queuedStatus") String queuedStatus,
+                                      @Param("completedStatus") String completedStatus,
+                                      @Param("completedSince") LocalDateTime completedSince,
+                                      @Param("perUserMaxRunning") int perUserMaxRunning);
 }
@@ -0,0 +1,29 @@
+package com.tengYii.jobspark.infrastructure.repo;
+
+import java.util.List;
+
+/**
+ * <p>
+ * 简历归档 服务类
+ * </p>
+ * 将已逻辑删除的简历整棵（主表、子表、亮点、本地化配置、模块引用）迁移到归档表
+ */
+public interface CvArchiveRepository {
+
+    /**
+     * 按主键升序查询一批可归档的简历ID
+     *
+     * @param afterId 检查点，只查询主键大于该值的简历
+     * @param limit   查询条数
+     * @return 简历ID列表
+     */
+    List<Long> listArchivableCvIds(Long afterId, int limit);
+
+    /**
+     * 归档一批简历，需在事务内调用
+     *
+     * @param cvIds 候选简历ID
+     * @return 实际归档的简历ID（加锁复核后不再满足条件的简历会被跳过）
+     */
+    List<Long> archive(List<Long> cvIds);
+}
@@ -0,0 +1,19 @@
+package com.tengYii.jobspark.infrastructure.repo;
+
+import com.tengYii.jobspark.model.bo.CvRowSetBO;
+
+/**
+ * <p>
+ * 简历批量写入器
+ * </p>
+ * 每张表使用一条多行 INSERT ... VALUES 语句写入，替代 save/saveBatch 的逐条执行
+ */
+public interface CvBulkWriter {
+
+    /**
+     * 写入一份简历的全部表行
+     *
+     * @param rowSet 简历表行集合
+     */
+    void insert(CvRowSetBO rowSet);
+}
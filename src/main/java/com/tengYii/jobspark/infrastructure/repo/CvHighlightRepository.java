@@ -3,6 +3,9 @@ package com.tengYii.jobspark.infrastructure.repo;
 import com.tengYii.jobspark.model.po.CvHighlightPO;
 import com.baomidou.mybatisplus.extension.service.IService;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * <p>
  * 统一亮点表（工作经历/项目经历的亮点） 服务类
@@ -13,4 +16,11 @@ import com.baomidou.mybatisplus.extension.service.IService;
  */
 public interface CvHighlightRepository extends IService<CvHighlightPO> {
 
+    /**
+     * 根据关联ID集合批量查询未删除的亮点，按排序字段升序返回
+     *
+     * @param relatedIds 关联ID集合（工作经历/项目经历/专业技能ID）
+     * @return 亮点列表，关联ID为空时返回空列表
+     */
+    List<CvHighlightPO> listByRelatedIds(Collection<Long> relatedIds);
 }
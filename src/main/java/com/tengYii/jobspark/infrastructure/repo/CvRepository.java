@@ -1,8 +1,13 @@
 package com.tengYii.jobspark.infrastructure.repo;
 
+import com.tengYii.jobspark.model.bo.CvSearchHitBO;
+import com.tengYii.jobspark.model.bo.CvSectionCountBO;
+import com.tengYii.jobspark.model.bo.PageCursorBO;
 import com.tengYii.jobspark.model.po.CvPO;
 import com.baomidou.mybatisplus.extension.service.IService;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -25,10 +30,39 @@ public interface CvRepository extends IService<CvPO> {
     CvPO getCvByCondition(Long resumeId, Long userId);
 
     /**
-     * 根据用户ID获取简历对象列表
+     * 以流式游标逐行读取用户未删除的简历
      *
      * @param userId 用户ID
-     * @return 匹配条件的简历对象列表
+     * @return 简历游标，需在事务内遍历并由调用方关闭
      */
-    List<CvPO> getCvByCondition(Long userId);
+    Cursor<CvPO> streamByUser(Long userId);
+
+    /**
+     * 按游标分页获取用户的简历列表（按更新时间、主键倒序）
+     *
+     * @param userId 用户ID
+     * @param cursor 上一页最后一条记录的位置，为空表示第一页
+     * @param limit  查询条数
+     * @return 简历对象列表
+     */
+    List<CvPO> pageByUser(Long userId, PageCursorBO cursor, int limit);
+
+    /**
+     * 按简历ID统计各模块的条目数量
+     *
+     * @param cvIds 简历ID集合
+     * @return 各简历各模块的条目数量
+     */
+    List<CvSectionCountBO> countSectionsByCvIds(Collection<Long> cvIds);
+
+    /**
+     * 在用户未删除的简历中检索关键词及学历
+     *
+     * @param userId  用户ID
+     * @param keyword 关键词，为空表示仅按学历检索
+     * @param degree  学历，为空表示不限学历
+     * @param limit   最多返回的命中条数
+     * @return 命中项列表，按相关度倒序
+     */
+    List<CvSearchHitBO> searchByUser(Long userId, String keyword, String degree, int limit);
 }
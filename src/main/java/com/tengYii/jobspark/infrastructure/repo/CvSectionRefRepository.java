@@ -0,0 +1,26 @@
+package com.tengYii.jobspark.infrastructure.repo;
+
+import com.tengYii.jobspark.model.po.CvSectionRefPO;
+import com.baomidou.mybatisplus.extension.service.IService;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <p>
+ * 简历模块引用表 服务类
+ * </p>
+ *
+ * @author Teng-Yii
+ * @since 2025-11-16
+ */
+public interface CvSectionRefRepository extends IService<CvSectionRefPO> {
+
+    /**
+     * 根据简历ID批量查询模块引用
+     *
+     * @param cvIds 简历ID集合
+     * @return 模块引用列表
+     */
+    List<CvSectionRefPO> listByCvIds(Collection<Long> cvIds);
+}
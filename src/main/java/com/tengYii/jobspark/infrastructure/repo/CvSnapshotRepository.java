@@ -0,0 +1,33 @@
+package com.tengYii.jobspark.infrastructure.repo;
+
+import com.tengYii.jobspark.model.po.CvSnapshotPO;
+import com.baomidou.mybatisplus.extension.service.IService;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <p>
+ * 简历快照表 服务类
+ * </p>
+ *
+ * @author Teng-Yii
+ * @since 2025-11-16
+ */
+public interface CvSnapshotRepository extends IService<CvSnapshotPO> {
+
+    /**
+     * 根据简历ID批量查询快照
+     *
+     * @param cvIds 简历ID集合
+     * @return 快照列表
+     */
+    List<CvSnapshotPO> listByCvIds(Collection<Long> cvIds);
+
+    /**
+     * 写入或覆盖简历快照
+     *
+     * @param snapshot 简历快照
+     */
+    void upsert(CvSnapshotPO snapshot);
+}
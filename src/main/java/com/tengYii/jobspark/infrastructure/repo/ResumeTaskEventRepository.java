@@ -0,0 +1,27 @@
+package com.tengYii.jobspark.infrastructure.repo;
+
+import com.tengYii.jobspark.model.bo.TaskStageStatsBO;
+import com.tengYii.jobspark.model.po.ResumeTaskEventPO;
+import com.baomidou.mybatisplus.extension.service.IService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * <p>
+ * 简历处理任务阶段事件表 服务类
+ * </p>
+ *
+ * @author Teng-Yii
+ * @since 2026-10-17
+ */
+public interface ResumeTaskEventRepository extends IService<ResumeTaskEventPO> {
+
+    /**
+     * 按阶段统计耗时p50/p95与token用量
+     *
+     * @param since 统计窗口的起始时间
+     * @return 各阶段统计
+     */
+    List<TaskStageStatsBO> listStageStats(LocalDateTime since);
+}
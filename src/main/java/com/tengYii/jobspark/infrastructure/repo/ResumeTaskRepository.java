@@ -1,11 +1,14 @@
 package com.tengYii.jobspark.infrastructure.repo;
 
 import com.tengYii.jobspark.common.enums.TaskStatusEnum;
+import com.tengYii.jobspark.model.bo.PageCursorBO;
+import com.tengYii.jobspark.model.bo.TaskQueueStatsBO;
 import com.tengYii.jobspark.model.po.ResumeTaskPO;
 import com.baomidou.mybatisplus.extension.service.IService;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * <p>
@@ -26,20 +29,131 @@ public interface ResumeTaskRepository extends IService<ResumeTaskPO> {
     ResumeTaskPO getByTaskId(String taskId);
 
     /**
-     * 更新任务状态
+     * 根据任务ID批量获取任务信息
      *
-     * @param taskId         任务ID
-     * @param taskStatusEnum 新的任务状态
-     * @param updateTime     当前时间
+     * @param taskIds 任务ID列表
+     * @return 任务列表（不保证顺序，不存在的任务不包含在结果中）
      */
-    void updateTaskStatus(String taskId, TaskStatusEnum taskStatusEnum, LocalDateTime updateTime);
+    List<ResumeTaskPO> listByTaskIds(List<String> taskIds);
 
     /**
-     * 获取用户任务列表
+     * 更新任务状态并续租（仅当任务仍由该工作节点持有且未结束时更新）
      *
-     * @param userId 用户ID（可选）
+     * @param taskId          任务ID
+     * @param leaseOwner      持有租约的工作节点
+     * @param taskStatusEnum  新的任务状态
+     * @param updateTime      当前时间
+     * @param leaseExpireTime 续租后的租约到期时间
+     * @return 是否更新成功，租约已被其他节点接管或任务已结束（如被取消）时返回false
+     */
+    boolean updateTaskStatus(String taskId, String leaseOwner, TaskStatusEnum taskStatusEnum,
+                             LocalDateTime updateTime, LocalDateTime leaseExpireTime);
+
+    /**
+     * 按用户公平调度的顺序锁定到期可执行的任务（SELECT ... FOR UPDATE SKIP LOCKED），需在事务中调用
+     * <p>
+     * 包括排队中、重试退避结束以及租约已过期（执行节点宕机）的任务，已被其他节点锁定的行直接跳过。
+     * 各用户轮流领取，单个用户正在执行的任务数不超过上限，批量上传不会阻塞其他用户的单次上传。
+     *
+     * @param now               当前时间
+     * @param perUserMaxRunning 单个用户同时执行的任务数上限
+     * @param limit             最多锁定的任务数
+     * @return 锁定的任务主键ID，按调度顺序排列
+     */
+    List<Long> lockRunnableTaskIds(LocalDateTime now, int perUserMaxRunning, int limit);
+
+    /**
+     * 为已锁定的任务设置租约，执行次数加一
+     *
+     * @param ids             任务主键ID
+     * @param leaseOwner      工作节点标识
+     * @param leaseExpireTime 租约到期时间
+     * @param updateTime      当前时间
+     */
+    void leaseTasks(List<Long> ids, String leaseOwner, LocalDateTime leaseExpireTime, LocalDateTime updateTime);
+
+    /**
+     * 续租（心跳）：延长该工作节点仍持有且未结束的任务的租约，不修改更新时间
+     *
+     * @param taskIds         任务ID列表
+     * @param leaseOwner      持有租约的工作节点
+     * @param leaseExpireTime 续租后的租约到期时间
+     * @return 续租成功的任务数
+     */
+    int renewLeases(List<String> taskIds, String leaseOwner, LocalDateTime leaseExpireTime);
+
+    /**
+     * 查询执行中且当前阶段停留超过期限的任务（执行线程卡死或节点失联）
+     *
+     * @param stageDeadlines 各阶段的最晚更新时间，阶段内最后一次状态变更早于该时间视为超时
+     * @param limit          查询条数
+     * @return 超时任务（仅包含 taskId、status、leaseOwner、attempts、updateTime）
+     */
+    List<ResumeTaskPO> listStaleTasks(Map<TaskStatusEnum, LocalDateTime> stageDeadlines, int limit);
+
+    /**
+     * 接管超时任务的租约：仅当任务的租约持有者、状态、更新时间均与查询时一致（期间没有任何进展）时成功
+     *
+     * @param staleTask  查询到的超时任务（taskId、leaseOwner、status、updateTime）
+     * @param newOwner   新的租约持有者
+     * @return 是否接管成功
+     */
+    boolean takeOverLease(ResumeTaskPO staleTask, String newOwner);
+
+    /**
+     * 按任务状态机原子变更任务状态：单条 UPDATE ... WHERE task_id = ? AND status IN (目标状态的前置状态)
+     * <p>
+     * 并发的状态变更（如取消与完成）只有一个能成功，失败方据返回值得知已输给对方。
+     * 变更到终态或重新排队时同时清除租约。
+     *
+     * @param changes    需更新的字段（taskId 必填；resumeId、errorMessage、completeTime、updateTime 非空时更新）
+     * @param target     目标状态
+     * @param leaseOwner 持有租约的工作节点，非空时额外要求任务仍由该节点持有；为空时不校验租约（如用户取消）
+     * @return 是否变更成功
+     */
+    boolean transitStatus(ResumeTaskPO changes, TaskStatusEnum target, String leaseOwner);
+
+    /**
+     * 释放租约，使任务在指定时间后可被重新领取（仅当任务仍由该工作节点持有且未结束时更新）
+     *
+     * @param taskId       任务ID
+     * @param leaseOwner   持有租约的工作节点
+     * @param nextRunTime  下次可执行时间
+     * @param errorMessage 本次执行的错误信息（可选）
+     * @param countAttempt 本次领取是否计入执行次数，未实际执行（如线程池拒绝）时不计入
+     * @param updateTime   当前时间
+     * @return 是否更新成功
+     */
+    boolean releaseTask(String taskId, String leaseOwner, LocalDateTime nextRunTime, String errorMessage,
+                        boolean countAttempt, LocalDateTime updateTime);
+
+    /**
+     * 按游标分页获取用户任务列表（按创建时间、主键倒序）
+     *
+     * @param userId 用户ID
      * @param status 任务状态（可选）
+     * @param cursor 上一页最后一条记录的位置，为空表示第一页
+     * @param limit  查询条数
      * @return 任务列表
      */
-    List<ResumeTaskPO> getUserTasks(Long userId, String status);
+    List<ResumeTaskPO> pageUserTasks(Long userId, String status, PageCursorBO cursor, int limit);
+
+    /**
+     * 获取近期已完成且各阶段时间完整的任务（仅包含统计阶段耗时所需的字段）
+     *
+     * @param since 完成时间下限
+     * @param limit 查询条数
+     * @return 任务列表，按完成时间倒序
+     */
+    List<ResumeTaskPO> listRecentCompleted(LocalDateTime since, int limit);
+
+    /**
+     * 统计任务队列：到期待领取的任务数、最早到期时间，以及近期完成的任务数
+     *
+     * @param now               当前时间
+     * @param completedSince    完成任务统计窗口的起始时间
+     * @param perUserMaxRunning 单个用户同时执行的任务数上限，超过上限的任务不计入排队
+     * @return 队列统计
+     */
+    TaskQueueStatsBO getQueueStats(LocalDateTime now, LocalDateTime completedSince, int perUserMaxRunning);
 }
@@ -0,0 +1,83 @@
+package com.tengYii.jobspark.infrastructure.repo.impl;
+
+import com.tengYii.jobspark.infrastructure.mapper.CvArchiveMapper;
+import com.tengYii.jobspark.infrastructure.repo.CvArchiveRepository;
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * 简历归档 服务实现类
+ * </p>
+ * 先锁定并复核候选简历，再按依赖顺序迁移：亮点、本地化配置依赖子表主键定位，需先于子表迁移；主表与快照最后处理。
+ */
+@Service
+public class CvArchiveRepositoryImpl implements CvArchiveRepository {
+
+    /**
+     * 按 cv_id 关联、结构与归档表一致的子表
+     */
+    private static final List<String> CHILD_TABLES = List.of(
+            "cv_contact",
+            "cv_social_link",
+            "cv_education",
+            "cv_experience",
+            "cv_project",
+            "cv_skill",
+            "cv_certificate",
+            "cv_format_meta",
+            "cv_section_ref"
+    );
+
+    @Autowired
+    private CvArchiveMapper cvArchiveMapper;
+
+    /**
+     * 按主键升序查询一批可归档的简历ID
+     *
+     * @param afterId 检查点，只查询主键大于该值的简历
+     * @param limit   查询条数
+     * @return 简历ID列表
+     */
+    @Override
+    public List<Long> listArchivableCvIds(Long afterId, int limit) {
+        return cvArchiveMapper.listArchivableCvIds(afterId, limit);
+    }
+
+    /**
+     * 归档一批简历，需在事务内调用
+     *
+     * @param cvIds 候选简历ID
+     * @return 实际归档的简历ID
+     */
+    @Override
+    public List<Long> archive(List<Long> cvIds) {
+        if (CollectionUtils.isEmpty(cvIds)) {
+            return new ArrayList<>();
+        }
+
+        List<Long> lockedCvIds = cvArchiveMapper.lockArchivableCvIds(cvIds);
+        if (CollectionUtils.isEmpty(lockedCvIds)) {
+            return new ArrayList<>();
+        }
+
+        cvArchiveMapper.archiveHighlights(lockedCvIds);
+        cvArchiveMapper.purgeHighlights(lockedCvIds);
+        cvArchiveMapper.archiveLocaleConfigs(lockedCvIds);
+        cvArchiveMapper.purgeLocaleConfigs(lockedCvIds);
+
+        for (String table : CHILD_TABLES) {
+            cvArchiveMapper.archiveChildRows(table, lockedCvIds);
+            cvArchiveMapper.purgeChildRows(table, lockedCvIds);
+        }
+
+        cvArchiveMapper.archiveCvs(lockedCvIds);
+        cvArchiveMapper.purgeCvs(lockedCvIds);
+        cvArchiveMapper.purgeSnapshots(lockedCvIds);
+        return lockedCvIds;
+    }
+}
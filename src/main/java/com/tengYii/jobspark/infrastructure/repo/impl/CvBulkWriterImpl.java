@@ -0,0 +1,110 @@
+package com.tengYii.jobspark.infrastructure.repo.impl;
+
+import com.google.common.collect.Lists;
+import com.tengYii.jobspark.infrastructure.mapper.*;
+import com.tengYii.jobspark.infrastructure.repo.CvBulkWriter;
+import com.tengYii.jobspark.model.bo.CvRowSetBO;
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * 简历批量写入器 实现类
+ * </p>
+ * 通过各Mapper的 insertBatch 语句写入，一份简历每张表通常只需一条语句；
+ * 单表行数超过 {@link #MAX_ROWS_PER_STATEMENT} 时拆分为多条，避免单条SQL超过 max_allowed_packet。
+ */
+@Service
+public class CvBulkWriterImpl implements CvBulkWriter {
+
+    /**
+     * 单条INSERT语句的最大行数
+     */
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    @Autowired
+    private CvMapper cvMapper;
+
+    @Autowired
+    private CvContactMapper contactMapper;
+
+    @Autowired
+    private CvSocialLinkMapper socialLinkMapper;
+
+    @Autowired
+    private CvEducationMapper educationMapper;
+
+    @Autowired
+    private CvExperienceMapper experienceMapper;
+
+    @Autowired
+    private CvProjectMapper projectMapper;
+
+    @Autowired
+    private CvSkillMapper skillMapper;
+
+    @Autowired
+    private CvHighlightMapper highlightMapper;
+
+    @Autowired
+    private CvCertificateMapper certificateMapper;
+
+    @Autowired
+    private CvFormatMetaMapper formatMetaMapper;
+
+    @Autowired
+    private CvLocaleConfigMapper localeConfigMapper;
+
+    @Autowired
+    private CvSectionRefMapper sectionRefMapper;
+
+    @Autowired
+    private CvSnapshotMapper snapshotMapper;
+
+    /**
+     * 写入一份简历的全部表行
+     *
+     * @param rowSet 简历表行集合
+     */
+    @Override
+    public void insert(CvRowSetBO rowSet) {
+        cvMapper.insert(rowSet.getCv());
+
+        insertInChunks(rowSet.getContacts(), contactMapper::insertBatch);
+        insertInChunks(rowSet.getSocialLinks(), socialLinkMapper::insertBatch);
+        insertInChunks(rowSet.getEducations(), educationMapper::insertBatch);
+        insertInChunks(rowSet.getExperiences(), experienceMapper::insertBatch);
+        insertInChunks(rowSet.getProjects(), projectMapper::insertBatch);
+        insertInChunks(rowSet.getSkills(), skillMapper::insertBatch);
+        insertInChunks(rowSet.getHighlights(), highlightMapper::insertBatch);
+        insertInChunks(rowSet.getCertificates(), certificateMapper::insertBatch);
+        insertInChunks(rowSet.getFormatMetas(), formatMetaMapper::insertBatch);
+        insertInChunks(rowSet.getLocaleConfigs(), localeConfigMapper::insertBatch);
+        insertInChunks(rowSet.getSectionRefs(), sectionRefMapper::insertBatch);
+
+        if (Objects.nonNull(rowSet.getSnapshot())) {
+            snapshotMapper.insert(rowSet.getSnapshot());
+        }
+    }
+
+    /**
+     * 按最大行数拆分后批量插入
+     *
+     * @param rows        待插入行
+     * @param batchInsert 批量插入语句
+     * @param <T>         PO类型
+     */
+    private static <T> void insertInChunks(List<T> rows, Consumer<List<T>> batchInsert) {
+        if (CollectionUtils.isEmpty(rows)) {
+            return;
+        }
+        for (List<T> chunk : Lists.partition(rows, MAX_ROWS_PER_STATEMENT)) {
+            batchInsert.accept(chunk);
+        }
+    }
+}
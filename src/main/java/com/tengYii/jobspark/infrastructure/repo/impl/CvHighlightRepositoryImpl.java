@@ -1,11 +1,18 @@
 package com.tengYii.jobspark.infrastructure.repo.impl;
 
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.tengYii.jobspark.common.enums.DeleteFlagEnum;
 import com.tengYii.jobspark.model.po.CvHighlightPO;
 import com.tengYii.jobspark.infrastructure.mapper.CvHighlightMapper;
 import com.tengYii.jobspark.infrastructure.repo.CvHighlightRepository;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * <p>
  * 统一亮点表（工作经历/项目经历的亮点） 服务实现类
@@ -17,4 +24,23 @@ import org.springframework.stereotype.Service;
 @Service
 public class CvHighlightRepositoryImpl extends ServiceImpl<CvHighlightMapper, CvHighlightPO> implements CvHighlightRepository {
 
+    /**
+     * 根据关联ID集合批量查询未删除的亮点，按排序字段升序返回
+     *
+     * @param relatedIds 关联ID集合（工作经历/项目经历/专业技能ID）
+     * @return 亮点列表，关联ID为空时返回空列表
+     */
+    @Override
+    public List<CvHighlightPO> listByRelatedIds(Collection<Long> relatedIds) {
+        if (CollectionUtils.isEmpty(relatedIds)) {
+            return new ArrayList<>();
+        }
+
+        LambdaQueryWrapper<CvHighlightPO> queryWrapper = new LambdaQueryWrapper<>();
+        queryWrapper.in(CvHighlightPO::getRelatedId, relatedIds)
+                .eq(CvHighlightPO::getDeleteFlag, DeleteFlagEnum.NOT_DELETED.getCode())
+                .orderByAsc(CvHighlightPO::getSortOrder);
+
+        return baseMapper.selectList(queryWrapper);
+    }
 }
@@ -1,13 +1,22 @@
 package com.tengYii.jobspark.infrastructure.repo.impl;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.CollectionUtils;
 import com.tengYii.jobspark.common.enums.DeleteFlagEnum;
+import com.tengYii.jobspark.common.utils.SearchSnippetUtil;
+import com.tengYii.jobspark.model.bo.CvSearchHitBO;
+import com.tengYii.jobspark.model.bo.CvSectionCountBO;
+import com.tengYii.jobspark.model.bo.PageCursorBO;
 import com.tengYii.jobspark.model.po.CvPO;
 import com.tengYii.jobspark.infrastructure.mapper.CvMapper;
 import com.tengYii.jobspark.infrastructure.repo.CvRepository;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
@@ -42,14 +51,77 @@ public class CvRepositoryImpl extends ServiceImpl<CvMapper, CvPO> implements CvR
         return this.getOne(queryWrapper);
     }
 
+    /**
+     * 以流式游标逐行读取用户未删除的简历
+     *
+     * @param userId 用户ID
+     * @return 简历游标，需在事务内遍历并由调用方关闭
+     */
+    @Override
+    public Cursor<CvPO> streamByUser(Long userId) {
+        return baseMapper.streamByUser(userId);
+    }
+
+    /**
+     * 按游标分页获取用户的简历列表（按更新时间、主键倒序）
+     * <p>
+     * 使用 (updated_time, id) 作为键集定位下一页，配合 idx_user_deleted_updated 索引，查询代价与页码无关。
+     *
+     * @param userId 用户ID
+     * @param cursor 上一页最后一条记录的位置，为空表示第一页
+     * @param limit  查询条数
+     * @return 简历对象列表
+     */
     @Override
-    public List<CvPO> getCvByCondition(Long userId) {
-        // 查询用户未删除的简历列表
+    public List<CvPO> pageByUser(Long userId, PageCursorBO cursor, int limit) {
         LambdaQueryWrapper<CvPO> queryWrapper = new LambdaQueryWrapper<>();
         queryWrapper.eq(CvPO::getUserId, userId)
-                .eq(CvPO::getDeleteFlag, DeleteFlagEnum.NOT_DELETED.getCode())
-                .orderByDesc(CvPO::getUpdatedTime);
+                .eq(CvPO::getDeleteFlag, DeleteFlagEnum.NOT_DELETED.getCode());
+        if (Objects.nonNull(cursor)) {
+            queryWrapper.and(wrapper -> wrapper.lt(CvPO::getUpdatedTime, cursor.getSortTime())
+                    .or(sameTime -> sameTime.eq(CvPO::getUpdatedTime, cursor.getSortTime())
+                            .lt(CvPO::getId, cursor.getId())));
+        }
+        queryWrapper.orderByDesc(CvPO::getUpdatedTime)
+                .orderByDesc(CvPO::getId)
+                .last("LIMIT " + limit);
+
+        return baseMapper.selectList(queryWrapper);
+    }
 
-        return this.list(queryWrapper);
+    /**
+     * 按简历ID统计各模块的条目数量
+     *
+     * @param cvIds 简历ID集合
+     * @return 各简历各模块的条目数量
+     */
+    @Override
+    public List<CvSectionCountBO> countSectionsByCvIds(Collection<Long> cvIds) {
+        if (CollectionUtils.isEmpty(cvIds)) {
+            return new ArrayList<>();
+        }
+        return baseMapper.countSectionsByCvIds(cvIds);
+    }
+
+    /**
+     * 在用户未删除的简历中检索关键词及学历
+     * <p>
+     * 关键词在用户自己的简历行内按子串匹配（不走全局全文索引），技能名称与学历按归一化后的值精确匹配。
+     *
+     * @param userId  用户ID
+     * @param keyword 关键词，为空表示仅按学历检索
+     * @param degree  学历，为空表示不限学历
+     * @param limit   最多返回的命中条数
+     * @return 命中项列表，按相关度倒序
+     */
+    @Override
+    public List<CvSearchHitBO> searchByUser(Long userId, String keyword, String degree, int limit) {
+        String searchTerm = SearchSnippetUtil.buildSearchTerm(keyword);
+        String degreeValue = StringUtils.trimToNull(degree);
+        if (Objects.isNull(userId) || (Objects.isNull(searchTerm) && Objects.isNull(degreeValue))) {
+            return new ArrayList<>();
+        }
+        return baseMapper.searchByUser(userId, StringUtils.trim(keyword), searchTerm,
+                SearchSnippetUtil.buildLikePattern(searchTerm), degreeValue, limit);
     }
 }
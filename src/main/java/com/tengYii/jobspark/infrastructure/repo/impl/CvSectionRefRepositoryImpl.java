@@ -0,0 +1,42 @@
+package com.tengYii.jobspark.infrastructure.repo.impl;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.tengYii.jobspark.infrastructure.mapper.CvSectionRefMapper;
+import com.tengYii.jobspark.infrastructure.repo.CvSectionRefRepository;
+import com.tengYii.jobspark.model.po.CvSectionRefPO;
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <p>
+ * 简历模块引用表 服务实现类
+ * </p>
+ *
+ * @author Teng-Yii
+ * @since 2025-11-16
+ */
+@Service
+public class CvSectionRefRepositoryImpl extends ServiceImpl<CvSectionRefMapper, CvSectionRefPO> implements CvSectionRefRepository {
+
+    /**
+     * 根据简历ID批量查询模块引用
+     *
+     * @param cvIds 简历ID集合
+     * @return 模块引用列表
+     */
+    @Override
+    public List<CvSectionRefPO> listByCvIds(Collection<Long> cvIds) {
+        if (CollectionUtils.isEmpty(cvIds)) {
+            return new ArrayList<>();
+        }
+
+        LambdaQueryWrapper<CvSectionRefPO> queryWrapper = new LambdaQueryWrapper<>();
+        queryWrapper.in(CvSectionRefPO::getCvId, cvIds);
+        return baseMapper.selectList(queryWrapper);
+    }
+}
@@ -0,0 +1,52 @@
+package com.tengYii.jobspark.infrastructure.repo.impl;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.tengYii.jobspark.infrastructure.mapper.CvSnapshotMapper;
+import com.tengYii.jobspark.infrastructure.repo.CvSnapshotRepository;
+import com.tengYii.jobspark.model.po.CvSnapshotPO;
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <p>
+ * 简历快照表 服务实现类
+ * </p>
+ *
+ * @author Teng-Yii
+ * @since 2025-11-16
+ */
+@Service
+public class CvSnapshotRepositoryImpl extends ServiceImpl<CvSnapshotMapper, CvSnapshotPO> implements CvSnapshotRepository {
+
+    /**
+     * 根据简历ID批量查询快照
+     *
+     * @param cvIds 简历ID集合
+     * @return 快照列表
+     */
+    @Override
+    public List<CvSnapshotPO> listByCvIds(Collection<Long> cvIds) {
+        if (CollectionUtils.isEmpty(cvIds)) {
+            return new ArrayList<>();
+        }
+
+        LambdaQueryWrapper<CvSnapshotPO> queryWrapper = new LambdaQueryWrapper<>();
+        queryWrapper.in(CvSnapshotPO::getCvId, cvIds);
+        return baseMapper.selectList(queryWrapper);
+    }
+
+    /**
+     * 写入或覆盖简历快照
+     *
+     * @param snapshot 简历快照
+     */
+    @Override
+    public void upsert(CvSnapshotPO snapshot) {
+        baseMapper.upsert(snapshot);
+    }
+}
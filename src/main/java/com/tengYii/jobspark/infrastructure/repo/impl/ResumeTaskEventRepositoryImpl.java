@@ -0,0 +1,34 @@
+package com.tengYii.jobspark.infrastructure.repo.impl;
+
+import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.tengYii.jobspark.infrastructure.mapper.ResumeTaskEventMapper;
+import com.tengYii.jobspark.infrastructure.repo.ResumeTaskEventRepository;
+import com.tengYii.jobspark.model.bo.TaskStageStatsBO;
+import com.tengYii.jobspark.model.po.ResumeTaskEventPO;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * <p>
+ * 简历处理任务阶段事件表 服务实现类
+ * </p>
+ *
+ * @author Teng-Yii
+ * @since 2026-10-17
+ */
+@Service
+public class ResumeTaskEventRepositoryImpl extends ServiceImpl<ResumeTaskEventMapper, ResumeTaskEventPO> implements ResumeTaskEventRepository {
+
+    /**
+     * 按阶段统计耗时p50/p95与token用量
+     *
+     * @param since 统计窗口的起始时间
+     * @return 各阶段统计
+     */
+    @Override
+    public List<TaskStageStatsBO> listStageStats(LocalDateTime since) {
+        return baseMapper.selectStageStats(since);
+    }
+}
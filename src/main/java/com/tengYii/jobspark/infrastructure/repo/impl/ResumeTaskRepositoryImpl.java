@@ -2,17 +2,26 @@ package com.tengYii.jobspark.infrastructure.repo.impl;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import com.tengYii.jobspark.common.enums.DeleteFlagEnum;
 import com.tengYii.jobspark.common.enums.TaskStatusEnum;
+import com.tengYii.jobspark.model.bo.PageCursorBO;
+import com.tengYii.jobspark.model.bo.TaskQueueStatsBO;
 import com.tengYii.jobspark.model.po.ResumeTaskPO;
 import com.tengYii.jobspark.infrastructure.mapper.ResumeTaskMapper;
 import com.tengYii.jobspark.infrastructure.repo.ResumeTaskRepository;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * <p>
@@ -44,46 +53,313 @@ public class ResumeTaskRepositoryImpl extends ServiceImpl<ResumeTaskMapper, Resu
     }
 
     /**
-     * 更新任务状态
+     * 根据任务ID批量获取任务信息（走 task_id 唯一索引的单条 IN 查询）
      *
-     * @param taskId         任务ID
-     * @param taskStatusEnum 新的任务状态
-     * @param updateTime     当前时间
+     * @param taskIds 任务ID列表
+     * @return 任务列表
      */
     @Override
-    public void updateTaskStatus(String taskId, TaskStatusEnum taskStatusEnum, LocalDateTime updateTime) {
-        LambdaUpdateWrapper<ResumeTaskPO> updateWrapper = new LambdaUpdateWrapper<>();
-        updateWrapper.eq(ResumeTaskPO::getTaskId, taskId)
-                .set(ResumeTaskPO::getStatus, taskStatusEnum.getCode())
+    public List<ResumeTaskPO> listByTaskIds(List<String> taskIds) {
+        if (CollectionUtils.isEmpty(taskIds)) {
+            return Collections.emptyList();
+        }
+
+        LambdaQueryWrapper<ResumeTaskPO> queryWrapper = new LambdaQueryWrapper<>();
+        queryWrapper.in(ResumeTaskPO::getTaskId, taskIds);
+
+        return baseMapper.selectList(queryWrapper);
+    }
+
+    /**
+     * 更新任务状态并续租
+     * <p>
+     * 以 lease_owner 与未结束状态作为更新条件：租约过期后被其他节点接管，或任务已被取消时，旧的执行线程无法再改写任务。
+     *
+     * @param taskId          任务ID
+     * @param leaseOwner      持有租约的工作节点
+     * @param taskStatusEnum  新的任务状态
+     * @param updateTime      当前时间
+     * @param leaseExpireTime 续租后的租约到期时间
+     * @return 是否更新成功
+     */
+    @Override
+    public boolean updateTaskStatus(String taskId, String leaseOwner, TaskStatusEnum taskStatusEnum,
+                                    LocalDateTime updateTime, LocalDateTime leaseExpireTime) {
+        LambdaUpdateWrapper<ResumeTaskPO> updateWrapper = buildTransitWrapper(taskId, taskStatusEnum, leaseOwner);
+        updateWrapper.set(ResumeTaskPO::getNextRunTime, leaseExpireTime)
                 .set(ResumeTaskPO::getUpdateTime, updateTime);
+        // 记录进入各阶段的时间，用于统计各阶段耗时
+        if (TaskStatusEnum.ANALYZING.equals(taskStatusEnum)) {
+            updateWrapper.set(ResumeTaskPO::getAnalyzeStartTime, updateTime);
+        } else if (TaskStatusEnum.SAVING.equals(taskStatusEnum)) {
+            updateWrapper.set(ResumeTaskPO::getSaveStartTime, updateTime);
+        }
+
+        return baseMapper.update(null, updateWrapper) > 0;
+    }
+
+    /**
+     * 按用户公平调度的顺序锁定到期可执行的任务
+     * <p>
+     * 先不加锁地按公平顺序选出候选任务（多取一倍，弥补被其他节点锁定而跳过的行），再对候选行加锁；
+     * SKIP LOCKED 使多个节点并发领取时互不等待、不会重复领取。加锁时重新校验状态与可执行时间，
+     * 避免候选选出后被其他节点领取、提交的任务再次领取。多节点并发领取时单用户并发上限为软限制。
+     *
+     * @param now               当前时间
+     * @param perUserMaxRunning 单个用户同时执行的任务数上限
+     * @param limit             最多锁定的任务数
+     * @return 锁定的任务主键ID，按调度顺序排列
+     */
+    @Override
+    public List<Long> lockRunnableTaskIds(LocalDateTime now, int perUserMaxRunning, int limit) {
+        List<Long> candidateIds = baseMapper.selectFairRunnableIds(now, TaskStatusEnum.runnableCodes(),
+                perUserMaxRunning, limit * 2);
+        if (CollectionUtils.isEmpty(candidateIds)) {
+            return Collections.emptyList();
+        }
+
+        LambdaQueryWrapper<ResumeTaskPO> queryWrapper = new LambdaQueryWrapper<>();
+        queryWrapper.select(ResumeTaskPO::getId)
+                .in(ResumeTaskPO::getId, candidateIds)
+                .in(ResumeTaskPO::getStatus, TaskStatusEnum.runnableCodes())
+                .le(ResumeTaskPO::getNextRunTime, now)
+                .last("FOR UPDATE SKIP LOCKED");
+        Set<Long> lockedIds = baseMapper.selectList(queryWrapper).stream()
+                .map(ResumeTaskPO::getId)
+                .collect(Collectors.toSet());
+
+        // 按公平调度顺序取前limit个，多锁定的行随事务提交释放
+        return candidateIds.stream()
+                .filter(lockedIds::contains)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 为已锁定的任务设置租约，执行次数加一
+     *
+     * @param ids             任务主键ID
+     * @param leaseOwner      工作节点标识
+     * @param leaseExpireTime 租约到期时间
+     * @param updateTime      当前时间
+     */
+    @Override
+    public void leaseTasks(List<Long> ids, String leaseOwner, LocalDateTime leaseExpireTime, LocalDateTime updateTime) {
+        if (CollectionUtils.isEmpty(ids)) {
+            return;
+        }
+
+        LambdaUpdateWrapper<ResumeTaskPO> updateWrapper = new LambdaUpdateWrapper<>();
+        updateWrapper.in(ResumeTaskPO::getId, ids)
+                .set(ResumeTaskPO::getLeaseOwner, leaseOwner)
+                .set(ResumeTaskPO::getNextRunTime, leaseExpireTime)
+                .set(ResumeTaskPO::getUpdateTime, updateTime)
+                .setSql("attempts = attempts + 1");
 
         baseMapper.update(null, updateWrapper);
     }
 
     /**
-     * 获取用户任务列表
+     * 续租（心跳）
+     * <p>
+     * 只延长租约到期时间，不修改 update_time，阶段超时仍按最后一次状态变更时间判断。
+     *
+     * @param taskIds         任务ID列表
+     * @param leaseOwner      持有租约的工作节点
+     * @param leaseExpireTime 续租后的租约到期时间
+     * @return 续租成功的任务数
+     */
+    @Override
+    public int renewLeases(List<String> taskIds, String leaseOwner, LocalDateTime leaseExpireTime) {
+        if (CollectionUtils.isEmpty(taskIds)) {
+            return 0;
+        }
+
+        LambdaUpdateWrapper<ResumeTaskPO> updateWrapper = new LambdaUpdateWrapper<>();
+        updateWrapper.in(ResumeTaskPO::getTaskId, taskIds)
+                .eq(ResumeTaskPO::getLeaseOwner, leaseOwner)
+                .in(ResumeTaskPO::getStatus, TaskStatusEnum.runnableCodes())
+                .set(ResumeTaskPO::getNextRunTime, leaseExpireTime)
+                // 显式保留更新时间，避免 ON UPDATE CURRENT_TIMESTAMP 刷新，阶段超时判断依赖该字段
+                .setSql("update_time = update_time");
+
+        return baseMapper.update(null, updateWrapper);
+    }
+
+    /**
+     * 查询执行中且当前阶段停留超过期限的任务
+     * <p>
+     * 各阶段条件以 OR 连接，每个分支均以 status 开头，走 idx_status_next_run 索引的状态前缀。
+     *
+     * @param stageDeadlines 各阶段的最晚更新时间
+     * @param limit          查询条数
+     * @return 超时任务
+     */
+    @Override
+    public List<ResumeTaskPO> listStaleTasks(Map<TaskStatusEnum, LocalDateTime> stageDeadlines, int limit) {
+        if (MapUtils.isEmpty(stageDeadlines)) {
+            return Collections.emptyList();
+        }
+
+        LambdaQueryWrapper<ResumeTaskPO> queryWrapper = new LambdaQueryWrapper<>();
+        queryWrapper.select(ResumeTaskPO::getTaskId, ResumeTaskPO::getStatus, ResumeTaskPO::getLeaseOwner,
+                        ResumeTaskPO::getAttempts, ResumeTaskPO::getUpdateTime)
+                .isNotNull(ResumeTaskPO::getLeaseOwner)
+                .eq(ResumeTaskPO::getDeleteFlag, DeleteFlagEnum.NOT_DELETED.getCode())
+                .and(wrapper -> stageDeadlines.forEach((stage, deadline) ->
+                        wrapper.or(stageWrapper -> stageWrapper.eq(ResumeTaskPO::getStatus, stage.getCode())
+                                .lt(ResumeTaskPO::getUpdateTime, deadline))))
+                .orderByAsc(ResumeTaskPO::getUpdateTime)
+                .last("LIMIT " + limit);
+
+        return baseMapper.selectList(queryWrapper);
+    }
+
+    /**
+     * 接管超时任务的租约，接管后原执行线程的状态写入均会失败
+     *
+     * @param staleTask 查询到的超时任务
+     * @param newOwner  新的租约持有者
+     * @return 是否接管成功
+     */
+    @Override
+    public boolean takeOverLease(ResumeTaskPO staleTask, String newOwner) {
+        LambdaUpdateWrapper<ResumeTaskPO> updateWrapper = new LambdaUpdateWrapper<>();
+        updateWrapper.eq(ResumeTaskPO::getTaskId, staleTask.getTaskId())
+                .eq(ResumeTaskPO::getLeaseOwner, staleTask.getLeaseOwner())
+                .eq(ResumeTaskPO::getStatus, staleTask.getStatus())
+                .eq(ResumeTaskPO::getUpdateTime, staleTask.getUpdateTime())
+                .set(ResumeTaskPO::getLeaseOwner, newOwner);
+
+        return baseMapper.update(null, updateWrapper) > 0;
+    }
+
+    /**
+     * 按任务状态机原子变更任务状态
+     *
+     * @param changes    需更新的字段
+     * @param target     目标状态
+     * @param leaseOwner 持有租约的工作节点，为空时不校验租约
+     * @return 是否变更成功
+     */
+    @Override
+    public boolean transitStatus(ResumeTaskPO changes, TaskStatusEnum target, String leaseOwner) {
+        LambdaUpdateWrapper<ResumeTaskPO> updateWrapper = buildTransitWrapper(changes.getTaskId(), target, leaseOwner);
+        updateWrapper.set(Objects.nonNull(changes.getResumeId()), ResumeTaskPO::getResumeId, changes.getResumeId())
+                .set(Objects.nonNull(changes.getErrorMessage()), ResumeTaskPO::getErrorMessage, changes.getErrorMessage())
+                .set(Objects.nonNull(changes.getCompleteTime()), ResumeTaskPO::getCompleteTime, changes.getCompleteTime())
+                .set(Objects.nonNull(changes.getUpdateTime()), ResumeTaskPO::getUpdateTime, changes.getUpdateTime())
+                .set(TaskStatusEnum.isTerminal(target.getCode()), ResumeTaskPO::getLeaseOwner, null);
+
+        return baseMapper.update(null, updateWrapper) > 0;
+    }
+
+    /**
+     * 释放租约，任务回到排队状态，到达下次可执行时间后可被任意节点重新领取
+     *
+     * @param taskId       任务ID
+     * @param leaseOwner   持有租约的工作节点
+     * @param nextRunTime  下次可执行时间
+     * @param errorMessage 本次执行的错误信息（可选）
+     * @param countAttempt 本次领取是否计入执行次数
+     * @param updateTime   当前时间
+     * @return 是否更新成功
+     */
+    @Override
+    public boolean releaseTask(String taskId, String leaseOwner, LocalDateTime nextRunTime, String errorMessage,
+                               boolean countAttempt, LocalDateTime updateTime) {
+        LambdaUpdateWrapper<ResumeTaskPO> updateWrapper = buildTransitWrapper(taskId, TaskStatusEnum.PROCESSING, leaseOwner);
+        updateWrapper.set(ResumeTaskPO::getNextRunTime, nextRunTime)
+                .set(ResumeTaskPO::getLeaseOwner, null)
+                .set(Objects.nonNull(errorMessage), ResumeTaskPO::getErrorMessage, errorMessage)
+                .set(ResumeTaskPO::getUpdateTime, updateTime)
+                .setSql(!countAttempt, "attempts = GREATEST(attempts - 1, 0)");
+
+        return baseMapper.update(null, updateWrapper) > 0;
+    }
+
+    /**
+     * 按游标分页获取用户任务列表（按创建时间、主键倒序）
+     * <p>
+     * 使用 (create_time, id) 作为键集定位下一页，配合 idx_user_deleted_created 索引，查询代价与页码无关。
      *
-     * @param userId 用户ID（可选）
+     * @param userId 用户ID
      * @param status 任务状态（可选）
+     * @param cursor 上一页最后一条记录的位置，为空表示第一页
+     * @param limit  查询条数
      * @return 任务列表
      */
     @Override
-    public List<ResumeTaskPO> getUserTasks(Long userId, String status) {
+    public List<ResumeTaskPO> pageUserTasks(Long userId, String status, PageCursorBO cursor, int limit) {
         LambdaQueryWrapper<ResumeTaskPO> queryWrapper = new LambdaQueryWrapper<>();
-
-        // 如果提供了用户ID，则按用户ID筛选
-        if (Objects.nonNull(userId)) {
-            queryWrapper.eq(ResumeTaskPO::getUserId, userId);
+        queryWrapper.eq(ResumeTaskPO::getUserId, userId)
+                .eq(ResumeTaskPO::getDeleteFlag, DeleteFlagEnum.NOT_DELETED.getCode())
+                .eq(StringUtils.isNotEmpty(status), ResumeTaskPO::getStatus, status);
+        if (Objects.nonNull(cursor)) {
+            queryWrapper.and(wrapper -> wrapper.lt(ResumeTaskPO::getCreateTime, cursor.getSortTime())
+                    .or(sameTime -> sameTime.eq(ResumeTaskPO::getCreateTime, cursor.getSortTime())
+                            .lt(ResumeTaskPO::getId, cursor.getId())));
         }
+        queryWrapper.orderByDesc(ResumeTaskPO::getCreateTime)
+                .orderByDesc(ResumeTaskPO::getId)
+                .last("LIMIT " + limit);
 
-        // 如果提供了状态，则按状态筛选
-        if (StringUtils.isNotEmpty(status)) {
-            queryWrapper.eq(ResumeTaskPO::getStatus, status);
-        }
+        return baseMapper.selectList(queryWrapper);
+    }
 
-        // 按创建时间倒序排列，最新的任务在前面
-        queryWrapper.orderByDesc(ResumeTaskPO::getCreateTime);
+    /**
+     * 获取近期已完成且各阶段时间完整的任务
+     * <p>
+     * 走 idx_status_complete 索引，仅查询统计所需的列。
+     *
+     * @param since 完成时间下限
+     * @param limit 查询条数
+     * @return 任务列表，按完成时间倒序
+     */
+    @Override
+    public List<ResumeTaskPO> listRecentCompleted(LocalDateTime since, int limit) {
+        LambdaQueryWrapper<ResumeTaskPO> queryWrapper = new LambdaQueryWrapper<>();
+        queryWrapper.select(ResumeTaskPO::getFileSize, ResumeTaskPO::getModelName, ResumeTaskPO::getStartTime,
+                        ResumeTaskPO::getAnalyzeStartTime, ResumeTaskPO::getSaveStartTime, ResumeTaskPO::getCompleteTime)
+                .eq(ResumeTaskPO::getStatus, TaskStatusEnum.COMPLETED.getCode())
+                .ge(ResumeTaskPO::getCompleteTime, since)
+                .isNotNull(ResumeTaskPO::getAnalyzeStartTime)
+                .isNotNull(ResumeTaskPO::getSaveStartTime)
+                .eq(ResumeTaskPO::getDeleteFlag, DeleteFlagEnum.NOT_DELETED.getCode())
+                .orderByDesc(ResumeTaskPO::getCompleteTime)
+                .last("LIMIT " + limit);
 
         return baseMapper.selectList(queryWrapper);
     }
+
+    /**
+     * 统计任务队列
+     *
+     * @param now               当前时间
+     * @param completedSince    完成任务统计窗口的起始时间
+     * @param perUserMaxRunning 单个用户同时执行的任务数上限，超过上限的任务不计入排队
+     * @return 队列统计
+     */
+    @Override
+    public TaskQueueStatsBO getQueueStats(LocalDateTime now, LocalDateTime completedSince, int perUserMaxRunning) {
+        return baseMapper.selectQueueStats(now, TaskStatusEnum.runnableCodes(), TaskStatusEnum.PROCESSING.getCode(),
+                TaskStatusEnum.COMPLETED.getCode(), completedSince, perUserMaxRunning);
+    }
+
+    /**
+     * 构建状态变更的条件更新：当前状态须为目标状态的前置状态，指定工作节点时须仍持有租约
+     *
+     * @param taskId     任务ID
+     * @param target     目标状态
+     * @param leaseOwner 持有租约的工作节点，为空时不校验租约
+     * @return 已设置条件及目标状态的更新条件
+     */
+    private LambdaUpdateWrapper<ResumeTaskPO> buildTransitWrapper(String taskId, TaskStatusEnum target, String leaseOwner) {
+        LambdaUpdateWrapper<ResumeTaskPO> updateWrapper = new LambdaUpdateWrapper<>();
+        updateWrapper.eq(ResumeTaskPO::getTaskId, taskId)
+                .eq(StringUtils.isNotEmpty(leaseOwner), ResumeTaskPO::getLeaseOwner, leaseOwner)
+                .in(ResumeTaskPO::getStatus, target.predecessorCodes())
+                .set(ResumeTaskPO::getStatus, target.getCode());
+        return updateWrapper;
+    }
 }
@@ -0,0 +1,81 @@
+package com.tengYii.jobspark.model.bo;
+
+import com.tengYii.jobspark.model.po.*;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 一份简历待写入的全部表行
+ * <p>
+ * 由简历BO一次性转换得到，主键（除自增表外）均已预先生成，供批量写入时按表逐条多行插入
+ */
+@Data
+public class CvRowSetBO {
+
+    /**
+     * 简历主表行
+     */
+    private CvPO cv;
+
+    /**
+     * 联系方式
+     */
+    private List<CvContactPO> contacts = new ArrayList<>();
+
+    /**
+     * 社交链接
+     */
+    private List<CvSocialLinkPO> socialLinks = new ArrayList<>();
+
+    /**
+     * 教育经历
+     */
+    private List<CvEducationPO> educations = new ArrayList<>();
+
+    /**
+     * 工作经历
+     */
+    private List<CvExperiencePO> experiences = new ArrayList<>();
+
+    /**
+     * 项目经验
+     */
+    private List<CvProjectPO> projects = new ArrayList<>();
+
+    /**
+     * 专业技能
+     */
+    private List<CvSkillPO> skills = new ArrayList<>();
+
+    /**
+     * 工作经历/项目经验/专业技能的亮点（合并后一次写入）
+     */
+    private List<CvHighlightPO> highlights = new ArrayList<>();
+
+    /**
+     * 证书
+     */
+    private List<CvCertificatePO> certificates = new ArrayList<>();
+
+    /**
+     * 格式元数据
+     */
+    private List<CvFormatMetaPO> formatMetas = new ArrayList<>();
+
+    /**
+     * 本地化配置
+     */
+    private List<CvLocaleConfigPO> localeConfigs = new ArrayList<>();
+
+    /**
+     * 与父版本共享的模块引用（共享模块不再写入对应子表行）
+     */
+    private List<CvSectionRefPO> sectionRefs = new ArrayList<>();
+
+    /**
+     * 简历快照（未开启快照时为空）
+     */
+    private CvSnapshotPO snapshot;
+}
@@ -0,0 +1,64 @@
+package com.tengYii.jobspark.model.bo;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 简历检索命中项（一条命中的文本及其所属简历）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CvSearchHitBO {
+
+    /**
+     * 命中字段：个人摘要
+     */
+    public static final String FIELD_SUMMARY = "summary";
+
+    /**
+     * 命中字段：工作概述
+     */
+    public static final String FIELD_EXPERIENCE = "experience";
+
+    /**
+     * 命中字段：项目描述
+     */
+    public static final String FIELD_PROJECT = "project";
+
+    /**
+     * 命中字段：亮点
+     */
+    public static final String FIELD_HIGHLIGHT = "highlight";
+
+    /**
+     * 命中字段：技能名称
+     */
+    public static final String FIELD_SKILL = "skill";
+
+    /**
+     * 命中字段：学历
+     */
+    public static final String FIELD_DEGREE = "degree";
+
+    /**
+     * 简历ID（模块共享时为引用方简历ID）
+     */
+    private Long cvId;
+
+    /**
+     * 命中字段
+     */
+    private String field;
+
+    /**
+     * 命中的文本内容
+     */
+    private String content;
+
+    /**
+     * 相关度得分
+     */
+    private Double score;
+}
@@ -0,0 +1,54 @@
+package com.tengYii.jobspark.model.bo;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 简历模块条目数量（按简历ID、模块分组统计）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CvSectionCountBO {
+
+    /**
+     * 模块名称：教育经历
+     */
+    public static final String SECTION_EDUCATION = "education";
+
+    /**
+     * 模块名称：工作经历
+     */
+    public static final String SECTION_EXPERIENCE = "experience";
+
+    /**
+     * 模块名称：项目经历
+     */
+    public static final String SECTION_PROJECT = "project";
+
+    /**
+     * 模块名称：专业技能
+     */
+    public static final String SECTION_SKILL = "skill";
+
+    /**
+     * 模块名称：证书
+     */
+    public static final String SECTION_CERTIFICATE = "certificate";
+
+    /**
+     * 简历ID
+     */
+    private Long cvId;
+
+    /**
+     * 模块名称
+     */
+    private String section;
+
+    /**
+     * 条目数量
+     */
+    private Long total;
+}
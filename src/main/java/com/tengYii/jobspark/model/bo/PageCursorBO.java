@@ -0,0 +1,26 @@
+package com.tengYii.jobspark.model.bo;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 游标分页位置（上一页最后一条记录的排序时间 + 主键ID）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageCursorBO {
+
+    /**
+     * 排序时间
+     */
+    private LocalDateTime sortTime;
+
+    /**
+     * 主键ID，排序时间相同时用于确定先后
+     */
+    private Long id;
+}
@@ -0,0 +1,24 @@
+package com.tengYii.jobspark.model.bo;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 任务进度预估结果
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEstimateBO {
+
+    /**
+     * 进度百分比（0-100）
+     */
+    private Integer progress;
+
+    /**
+     * 预估剩余时间（秒），任务已结束时为空
+     */
+    private Long estimatedRemainingSeconds;
+}
@@ -0,0 +1,27 @@
+package com.tengYii.jobspark.model.bo;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 任务队列统计
+ */
+@Data
+public class TaskQueueStatsBO {
+
+    /**
+     * 到期待领取的任务数
+     */
+    private Long queuedCount;
+
+    /**
+     * 最早到期的待领取任务的可执行时间，无待领取任务时为空
+     */
+    private LocalDateTime oldestRunTime;
+
+    /**
+     * 统计窗口内完成的任务数
+     */
+    private Long recentCompletedCount;
+}
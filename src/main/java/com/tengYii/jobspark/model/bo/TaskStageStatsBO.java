@@ -0,0 +1,55 @@
+package com.tengYii.jobspark.model.bo;
+
+import lombok.Data;
+
+/**
+ * 任务阶段耗时统计
+ */
+@Data
+public class TaskStageStatsBO {
+
+    /**
+     * 执行阶段
+     */
+    private String stage;
+
+    /**
+     * 统计窗口内成功执行的次数
+     */
+    private Long sampleCount;
+
+    /**
+     * 统计窗口内失败的次数
+     */
+    private Long failureCount;
+
+    /**
+     * 平均耗时（毫秒）
+     */
+    private Long avgDurationMs;
+
+    /**
+     * 耗时p50（毫秒）
+     */
+    private Long p50DurationMs;
+
+    /**
+     * 耗时p95（毫秒）
+     */
+    private Long p95DurationMs;
+
+    /**
+     * 最长耗时（毫秒）
+     */
+    private Long maxDurationMs;
+
+    /**
+     * 平均输入token数（仅大模型调用阶段）
+     */
+    private Long avgInputTokens;
+
+    /**
+     * 平均输出token数（仅大模型调用阶段）
+     */
+    private Long avgOutputTokens;
+}
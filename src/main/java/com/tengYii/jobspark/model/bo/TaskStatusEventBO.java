@@ -0,0 +1,42 @@
+package com.tengYii.jobspark.model.bo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 任务状态变更事件（通过 Redis 频道广播到各节点）
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusEventBO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 任务ID
+     */
+    private String taskId;
+
+    /**
+     * 变更后的任务状态
+     *
+     * @see com.tengYii.jobspark.common.enums.TaskStatusEnum
+     */
+    private String status;
+
+    /**
+     * 状态变更时间（毫秒时间戳）
+     */
+    private Long eventTime;
+
+    /**
+     * 租约是否已被回收节点接管，为true时原执行节点应中断执行
+     */
+    private Boolean leaseRevoked;
+}
@@ -39,6 +39,11 @@ public class CvPO implements Serializable {
      */
     private Long userId;
 
+    /**
+     * 父版本简历ID（优化生成的新版本指向原简历，原始上传的简历为空）
+     */
+    private Long parentId;
+
     /**
      * 姓名（必填）
      */
@@ -0,0 +1,48 @@
+package com.tengYii.jobspark.model.po;
+
+import com.baomidou.mybatisplus.annotation.TableName;
+
+import java.time.LocalDateTime;
+import java.io.Serializable;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * <p>
+ * 简历模块引用表
+ * </p>
+ * 简历新版本与父版本某一模块内容相同时，不再复制该模块的子表行，仅记录实际存储该模块数据的简历ID
+ *
+ * @author Teng-Yii
+ * @since 2025-11-16
+ */
+@Data
+@EqualsAndHashCode(callSuper = false)
+@TableName("cv_section_ref")
+public class CvSectionRefPO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 简历ID
+     */
+    private Long cvId;
+
+    /**
+     * 模块编码
+     *
+     * @see com.tengYii.jobspark.common.enums.CvSectionEnum
+     */
+    private String section;
+
+    /**
+     * 实际存储该模块子表行的简历ID（始终指向最初写入数据的版本，不形成引用链）
+     */
+    private Long sourceCvId;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createdTime;
+}
@@ -0,0 +1,53 @@
+package com.tengYii.jobspark.model.po;
+
+import com.baomidou.mybatisplus.annotation.TableName;
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+
+import java.time.LocalDateTime;
+import java.io.Serializable;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * <p>
+ * 简历快照表
+ * </p>
+ *
+ * @author Teng-Yii
+ * @since 2025-11-16
+ */
+@Data
+@EqualsAndHashCode(callSuper = false)
+@TableName("cv_snapshot")
+public class CvSnapshotPO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 简历ID
+     */
+    @TableId(value = "cv_id", type = IdType.INPUT)
+    private Long cvId;
+
+    /**
+     * 快照结构版本
+     */
+    private Integer schemaVersion;
+
+    /**
+     * 完整简历对象（gzip压缩的JSON）
+     */
+    private byte[] payload;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createdTime;
+
+    /**
+     * 更新时间
+     */
+    private LocalDateTime updatedTime;
+}
@@ -0,0 +1,90 @@
+package com.tengYii.jobspark.model.po;
+
+import com.baomidou.mybatisplus.annotation.TableName;
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+
+import java.time.LocalDateTime;
+import java.io.Serializable;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * <p>
+ * 简历处理任务阶段事件表（只追加）
+ * </p>
+ *
+ * @author Teng-Yii
+ * @since 2026-10-17
+ */
+@Data
+@EqualsAndHashCode(callSuper = false)
+@Builder
+@TableName("resume_task_event")
+public class ResumeTaskEventPO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 主键ID
+     */
+    @TableId(value = "id", type = IdType.AUTO)
+    private Long id;
+
+    /**
+     * 任务唯一标识符（不属于解析任务的阶段为空，如向量化）
+     */
+    private String taskId;
+
+    /**
+     * 关联的简历ID
+     */
+    private Long resumeId;
+
+    /**
+     * 执行阶段
+     */
+    private String stage;
+
+    /**
+     * 执行该阶段的节点
+     */
+    private String nodeId;
+
+    /**
+     * 阶段开始时间
+     */
+    private LocalDateTime startTime;
+
+    /**
+     * 阶段耗时（毫秒）
+     */
+    private Long durationMs;
+
+    /**
+     * 输入token数（仅大模型调用阶段）
+     */
+    private Integer inputTokens;
+
+    /**
+     * 输出token数（仅大模型调用阶段）
+     */
+    private Integer outputTokens;
+
+    /**
+     * 是否成功：0-否，1-是
+     */
+    private Integer success;
+
+    /**
+     * 失败原因
+     */
+    private String errorMessage;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createTime;
+}
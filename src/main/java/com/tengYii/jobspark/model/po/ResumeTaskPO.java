@@ -69,7 +69,7 @@ public class ResumeTaskPO implements Serializable {
     private String filePath;
 
     /**
-     * 任务状态：PROCESSING-处理中，ANALYZING-解析中，SAVING-存储中，COMPLETED-完成，FAILED-失败
+     * 任务状态：PROCESSING-处理中，ANALYZING-解析中，SAVING-存储中，COMPLETED-完成，FAILED-失败，DEAD_LETTER-重试耗尽
      *
      * @see com.tengYii.jobspark.common.enums.TaskStatusEnum
      */
@@ -90,11 +90,41 @@ public class ResumeTaskPO implements Serializable {
      */
     private LocalDateTime startTime;
 
+    /**
+     * 进入解析阶段时间
+     */
+    private LocalDateTime analyzeStartTime;
+
+    /**
+     * 进入存储阶段时间
+     */
+    private LocalDateTime saveStartTime;
+
     /**
      * 完成时间
      */
     private LocalDateTime completeTime;
 
+    /**
+     * 解析使用的模型名称
+     */
+    private String modelName;
+
+    /**
+     * 已领取执行的次数
+     */
+    private Integer attempts;
+
+    /**
+     * 可被领取的时间（排队中为可执行时间，执行中为租约到期时间，重试时为退避后的时间）
+     */
+    private LocalDateTime nextRunTime;
+
+    /**
+     * 当前持有租约的工作节点
+     */
+    private String leaseOwner;
+
     /**
      * 创建时间
      */
@@ -0,0 +1,161 @@
+package com.tengYii.jobspark.common.interceptor;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * SQL执行指标拦截器测试：
+ * - 指标按 Mapper类名.方法名 打标签，查询记录返回行数、更新记录影响行数
+ * - 执行异常记录为 error，不记录行数
+ * - 慢查询日志只输出占位符SQL与参数个数，不输出参数值；采样率为0时不输出
+ */
+public class SqlMetricsInterceptorTest {
+
+    private static final String STATEMENT_ID = "com.tengYii.jobspark.infrastructure.mapper.CvContactMapper.selectByPhone";
+
+    private static final String PHONE = "13800138000";
+
+    private final Configuration configuration = new Configuration();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SqlMetricsInterceptor interceptor;
+
+    private ListAppender<ILoggingEvent> slowLogAppender;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new SqlMetricsInterceptor();
+        ReflectionTestUtils.setField(interceptor, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(interceptor, "slowThresholdMs", Long.MAX_VALUE);
+        ReflectionTestUtils.setField(interceptor, "slowLogSampleRate", 1.0D);
+
+        slowLogAppender = new ListAppender<>();
+        slowLogAppender.start();
+        ((Logger) LoggerFactory.getLogger("jobspark.sql.slow")).addAppender(slowLogAppender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((Logger) LoggerFactory.getLogger("jobspark.sql.slow")).detachAppender(slowLogAppender);
+    }
+
+    @Test
+    void query_should_record_timer_and_rows_by_statement() throws Throwable {
+        Executor executor = Mockito.mock(Executor.class);
+        Mockito.doReturn(List.of(1, 2, 3)).when(executor).query(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+
+        interceptor.intercept(queryInvocation(executor));
+
+        Timer timer = meterRegistry.find("jobspark.sql.statement")
+                .tags("statement", "CvContactMapper.selectByPhone", "command", "SELECT", "outcome", "success")
+                .timer();
+        Assertions.assertNotNull(timer);
+        Assertions.assertEquals(1L, timer.count());
+
+        DistributionSummary rows = meterRegistry.find("jobspark.sql.rows")
+                .tag("statement", "CvContactMapper.selectByPhone")
+                .summary();
+        Assertions.assertNotNull(rows);
+        Assertions.assertEquals(3.0D, rows.totalAmount());
+    }
+
+    @Test
+    void update_should_record_affected_rows() throws Throwable {
+        Executor executor = Mockito.mock(Executor.class);
+        Mockito.when(executor.update(Mockito.any(), Mockito.any())).thenReturn(2);
+
+        interceptor.intercept(updateInvocation(executor));
+
+        DistributionSummary rows = meterRegistry.find("jobspark.sql.rows")
+                .tags("statement", "CvContactMapper.updateByPhone", "command", "UPDATE")
+                .summary();
+        Assertions.assertNotNull(rows);
+        Assertions.assertEquals(2.0D, rows.totalAmount());
+    }
+
+    @Test
+    void failed_statement_should_record_error_without_rows() throws Exception {
+        Executor executor = Mockito.mock(Executor.class);
+        Mockito.when(executor.update(Mockito.any(), Mockito.any())).thenThrow(new SQLException("deadlock"));
+
+        Assertions.assertThrows(InvocationTargetException.class, () -> interceptor.intercept(updateInvocation(executor)));
+
+        Assertions.assertNotNull(meterRegistry.find("jobspark.sql.statement").tag("outcome", "error").timer());
+        Assertions.assertNull(meterRegistry.find("jobspark.sql.rows").summary());
+    }
+
+    @Test
+    void slow_statement_should_log_placeholders_only() throws Throwable {
+        ReflectionTestUtils.setField(interceptor, "slowThresholdMs", 0L);
+        Executor executor = Mockito.mock(Executor.class);
+        Mockito.doReturn(List.of()).when(executor).query(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+
+        interceptor.intercept(queryInvocation(executor));
+
+        Assertions.assertEquals(1, slowLogAppender.list.size());
+        String message = slowLogAppender.list.get(0).getFormattedMessage();
+        Assertions.assertTrue(message.contains("statement: CvContactMapper.selectByPhone"));
+        Assertions.assertTrue(message.contains("params: 1"));
+        Assertions.assertTrue(message.contains("WHERE phone = ?"));
+        Assertions.assertFalse(message.contains(PHONE));
+    }
+
+    @Test
+    void slow_statement_should_not_log_when_sample_rate_is_zero() throws Throwable {
+        ReflectionTestUtils.setField(interceptor, "slowThresholdMs", 0L);
+        ReflectionTestUtils.setField(interceptor, "slowLogSampleRate", 0.0D);
+        Executor executor = Mockito.mock(Executor.class);
+        Mockito.doReturn(List.of()).when(executor).query(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+
+        interceptor.intercept(queryInvocation(executor));
+
+        Assertions.assertTrue(slowLogAppender.list.isEmpty());
+    }
+
+    private Invocation queryInvocation(Executor executor) throws NoSuchMethodException {
+        StaticSqlSource sqlSource = new StaticSqlSource(configuration, "SELECT id, phone FROM cv_contact WHERE phone = ?",
+                List.of(new ParameterMapping.Builder(configuration, "phone", String.class).build()));
+        MappedStatement mappedStatement = new MappedStatement.Builder(configuration, STATEMENT_ID, sqlSource,
+                SqlCommandType.SELECT).build();
+        Method query = Executor.class.getMethod("query",
+                MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class);
+        return new Invocation(executor, query, new Object[]{mappedStatement, PHONE, RowBounds.DEFAULT, null});
+    }
+
+    private Invocation updateInvocation(Executor executor) throws NoSuchMethodException {
+        StaticSqlSource sqlSource = new StaticSqlSource(configuration, "UPDATE cv_contact SET delete_flag = 1 WHERE phone = ?",
+                List.of(new ParameterMapping.Builder(configuration, "phone", String.class).build()));
+        MappedStatement mappedStatement = new MappedStatement.Builder(configuration,
+                "com.tengYii.jobspark.infrastructure.mapper.CvContactMapper.updateByPhone", sqlSource,
+                SqlCommandType.UPDATE).build();
+        Method update = Executor.class.getMethod("update", MappedStatement.class, Object.class);
+        return new Invocation(executor, update, new Object[]{mappedStatement, PHONE});
+    }
+}
@@ -0,0 +1,41 @@
+package com.tengYii.jobspark.common.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 简历检索工具测试：
+ * - 关键词压缩空白后整体作为子串检索，LIKE 通配符按字面转义
+ * - 片段以关键词为中心截取，被截断的一侧带省略号
+ */
+public class SearchSnippetUtilTest {
+
+    @Test
+    void search_term_should_normalize_whitespace() {
+        Assertions.assertEquals("Kafka Streams", SearchSnippetUtil.buildSearchTerm("  Kafka \t Streams "));
+        Assertions.assertNull(SearchSnippetUtil.buildSearchTerm(" "));
+        Assertions.assertNull(SearchSnippetUtil.buildSearchTerm(null));
+    }
+
+    @Test
+    void like_pattern_should_escape_wildcards() {
+        Assertions.assertEquals("%分布式%", SearchSnippetUtil.buildLikePattern("分布式"));
+        Assertions.assertEquals("%100\\%\\_a\\\\b%", SearchSnippetUtil.buildLikePattern("100%_a\\b"));
+        Assertions.assertNull(SearchSnippetUtil.buildLikePattern(null));
+    }
+
+    @Test
+    void snippet_should_center_on_keyword() {
+        String content = "负责订单系统重构，引入Kafka实现异步削峰，峰值吞吐提升3倍";
+
+        String snippet = SearchSnippetUtil.snippet(content, "kafka", 4);
+
+        Assertions.assertEquals("...构，引入Kafka实现异步...", snippet);
+    }
+
+    @Test
+    void snippet_should_keep_short_content_intact() {
+        Assertions.assertEquals("Kafka", SearchSnippetUtil.snippet("Kafka", "kafka", 30));
+        Assertions.assertEquals("硕士", SearchSnippetUtil.snippet("硕士", null, 30));
+    }
+}
@@ -0,0 +1,69 @@
+package com.tengYii.jobspark.common.utils;
+
+import cn.hutool.core.lang.Snowflake;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 雪花ID生成吞吐基准（32线程）：
+ * - synchronizedHutool：原实现，static synchronized 包装 hutool Snowflake
+ * - lockFree：CAS 单个取号
+ * - lockFreeBulk：nextIds 批量取号（按单个ID计吞吐）
+ * <p>
+ * 单毫秒序列号上限为4096，吞吐上限约为每毫秒4096个ID，基准主要对比的是锁竞争带来的额外开销。
+ * <p>
+ * 运行：先执行 mvn test-compile，再以测试classpath运行本类的 main 方法
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+public class SnowflakeUtilBenchmark {
+
+    private static final int BULK_SIZE = 32;
+
+    private final Snowflake legacySnowflake = new Snowflake(1L, 1L);
+
+    @Benchmark
+    public long synchronizedHutool() {
+        return legacyNextId();
+    }
+
+    @Benchmark
+    public long lockFree() {
+        return SnowflakeUtil.snowflakeId();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK_SIZE)
+    public long[] lockFreeBulk() {
+        return SnowflakeUtil.nextIds(BULK_SIZE);
+    }
+
+    private synchronized long legacyNextId() {
+        return legacySnowflake.nextId();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SnowflakeUtilBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,72 @@
+package com.tengYii.jobspark.common.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 雪花ID生成测试：
+ * - 多线程并发取号不重复
+ * - 批量取号单调递增，且跨越单毫秒序列号上限时仍可分配
+ */
+public class SnowflakeUtilTest {
+
+    @Test
+    void concurrent_ids_should_be_unique() throws Exception {
+        int threads = 32;
+        int perThread = 20_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < perThread; j++) {
+                        // 单个取号与批量取号交替进行
+                        if ((index + j) % 10 == 0) {
+                            for (long id : SnowflakeUtil.nextIds(8)) {
+                                ids.add(id);
+                            }
+                        } else {
+                            ids.add(SnowflakeUtil.snowflakeId());
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long expected = 0;
+        for (int i = 0; i < threads; i++) {
+            for (int j = 0; j < perThread; j++) {
+                expected += (i + j) % 10 == 0 ? 8 : 1;
+            }
+        }
+        Assertions.assertEquals(expected, ids.size());
+    }
+
+    @Test
+    void bulk_ids_should_be_increasing() {
+        long[] ids = SnowflakeUtil.nextIds(10_000);
+
+        Assertions.assertEquals(10_000, ids.length);
+        for (int i = 1; i < ids.length; i++) {
+            Assertions.assertTrue(ids[i] > ids[i - 1]);
+        }
+        Assertions.assertTrue(SnowflakeUtil.snowflakeId() > ids[ids.length - 1]);
+        Assertions.assertEquals(0, SnowflakeUtil.nextIds(0).length);
+    }
+}
@@ -0,0 +1,66 @@
+package com.tengYii.jobspark.domain.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tengYii.jobspark.common.enums.CvSectionEnum;
+import com.tengYii.jobspark.cv.CvBOMock;
+import com.tengYii.jobspark.model.bo.CvBO;
+import com.tengYii.jobspark.model.bo.HighlightBO;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+/**
+ * 简历模块比较测试：
+ * - 内容一致的模块可共享
+ * - 亮点主键、关联ID不同不影响比较结果
+ * - 内容变化或为空的模块不共享
+ */
+public class CvSectionDifferTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final CvSectionDiffer differ = new CvSectionDiffer(objectMapper);
+
+    @Test
+    void unchanged_sections_should_be_sharable() {
+        CvBO parent = CvBOMock.createMockCvBO();
+        CvBO current = deepCopy(parent);
+
+        for (CvSectionEnum section : new CvSectionEnum[]{CvSectionEnum.CONTACT, CvSectionEnum.EDUCATION, CvSectionEnum.EXPERIENCE}) {
+            Assertions.assertTrue(differ.isSharable(section, current, parent), section.getCode());
+        }
+    }
+
+    @Test
+    void highlight_identity_should_be_ignored() {
+        CvBO parent = CvBOMock.createMockCvBO();
+        CvBO current = deepCopy(parent);
+        for (HighlightBO highlight : parent.getExperiences().get(0).getHighlights()) {
+            highlight.setId(100L);
+            highlight.setRelatedId(200L);
+        }
+
+        Assertions.assertTrue(differ.isSharable(CvSectionEnum.EXPERIENCE, current, parent));
+    }
+
+    @Test
+    void changed_or_empty_sections_should_not_be_sharable() {
+        CvBO parent = CvBOMock.createMockCvBO();
+        CvBO current = deepCopy(parent);
+        current.getExperiences().get(0).getHighlights().get(0).setHighlight("按岗位要求改写后的亮点");
+        current.setCertificates(new ArrayList<>());
+        parent.setCertificates(new ArrayList<>());
+
+        Assertions.assertFalse(differ.isSharable(CvSectionEnum.EXPERIENCE, current, parent));
+        Assertions.assertFalse(differ.isSharable(CvSectionEnum.CERTIFICATE, current, parent));
+        Assertions.assertTrue(differ.isSharable(CvSectionEnum.EDUCATION, current, parent));
+    }
+
+    private CvBO deepCopy(CvBO cvBO) {
+        return objectMapper.convertValue(cvBO, CvBO.class);
+    }
+}
@@ -0,0 +1,49 @@
+package com.tengYii.jobspark.domain.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tengYii.jobspark.cv.CvBOMock;
+import com.tengYii.jobspark.model.bo.CvBO;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 简历快照编解码测试：
+ * - 编码后可完整还原简历内容
+ * - 优化建议、优化历史不写入快照
+ * - 版本不一致的快照视为未命中
+ */
+public class CvSnapshotCodecTest {
+
+    private final CvSnapshotCodec codec = new CvSnapshotCodec(new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+
+    @Test
+    void encode_then_decode_should_round_trip() {
+        CvBO cvBO = CvBOMock.createMockCvBO();
+        cvBO.setAdvice("补充量化成果");
+        cvBO.addOptimizationRecord("补充量化成果", 80.0);
+
+        CvBO decoded = codec.decode(CvSnapshotCodec.CURRENT_SCHEMA_VERSION, codec.encode(cvBO));
+
+        Assertions.assertNotNull(decoded);
+        Assertions.assertEquals(cvBO.getName(), decoded.getName());
+        Assertions.assertEquals(cvBO.getBirthDate(), decoded.getBirthDate());
+        Assertions.assertEquals(cvBO.getContact(), decoded.getContact());
+        Assertions.assertEquals(cvBO.getExperiences(), decoded.getExperiences());
+        Assertions.assertEquals(cvBO.getMeta(), decoded.getMeta());
+        Assertions.assertNull(decoded.getAdvice());
+        Assertions.assertNull(decoded.getOptimizationHistory());
+        // 编码不应修改原对象
+        Assertions.assertNotNull(cvBO.getAdvice());
+    }
+
+    @Test
+    void decode_with_stale_version_should_return_null() {
+        byte[] payload = codec.encode(CvBOMock.createMockCvBO());
+
+        Assertions.assertNull(codec.decode(CvSnapshotCodec.CURRENT_SCHEMA_VERSION - 1, payload));
+        Assertions.assertNull(codec.decode(CvSnapshotCodec.CURRENT_SCHEMA_VERSION, new byte[0]));
+    }
+}
@@ -0,0 +1,131 @@
+package com.tengYii.jobspark.domain.service;
+
+import com.tengYii.jobspark.common.enums.TaskStatusEnum;
+import com.tengYii.jobspark.common.utils.RedisUtil;
+import com.tengYii.jobspark.model.bo.TaskStatusEventBO;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 简历任务取消服务测试：
+ * - 在队列中被取消的任务不会执行，立即移除登记并取消订阅
+ * - 执行中被取消的任务保持登记（执行线程可检查取消标记），结束时再移除
+ * - 收到取消（FAILED）或租约被接管事件时取消任务，其他状态事件不影响执行
+ * - 租约接管事件与紧随其后的重新排队事件在分发前被合并时，仍会取消任务
+ */
+public class ResumeTaskCancellationServiceTest {
+
+    private static final String TASK_ID = "task-1";
+
+    private ResumeTaskCancellationService cancellationService;
+
+    private AtomicInteger unsubscribeCount;
+
+    private List<Runnable> queue;
+
+    private ResumeTaskEventService eventService;
+
+    @BeforeEach
+    void setUp() {
+        unsubscribeCount = new AtomicInteger();
+        eventService = Mockito.mock(ResumeTaskEventService.class);
+        Mockito.when(eventService.subscribe(ArgumentMatchers.anyString(), ArgumentMatchers.any()))
+                .thenReturn(unsubscribeCount::incrementAndGet);
+
+        cancellationService = new ResumeTaskCancellationService();
+        ReflectionTestUtils.setField(cancellationService, "resumeTaskEventService", eventService);
+        queue = new ArrayList<>();
+    }
+
+    @Test
+    void cancel_while_queued_should_untrack() {
+        AtomicInteger runCount = new AtomicInteger();
+        cancellationService.submit(TASK_ID, queue::add, runCount::incrementAndGet);
+        Assertions.assertEquals(List.of(TASK_ID), cancellationService.runningTaskIds());
+
+        cancellationService.cancel(TASK_ID);
+
+        Assertions.assertTrue(cancellationService.runningTaskIds().isEmpty());
+        Assertions.assertEquals(1, unsubscribeCount.get());
+
+        // 线程池稍后取出已取消的任务，不会执行任务逻辑，也不会重复取消订阅
+        queue.forEach(Runnable::run);
+        Assertions.assertEquals(0, runCount.get());
+        Assertions.assertEquals(1, unsubscribeCount.get());
+    }
+
+    @Test
+    void cancel_while_running_should_untrack_after_action_returns() {
+        List<Boolean> observed = new ArrayList<>();
+        cancellationService.submit(TASK_ID, queue::add, () -> {
+            cancellationService.cancel(TASK_ID);
+            observed.add(cancellationService.isCancelled(TASK_ID));
+            observed.add(cancellationService.runningTaskIds().contains(TASK_ID));
+        });
+
+        queue.forEach(Runnable::run);
+
+        Assertions.assertEquals(List.of(true, true), observed);
+        Assertions.assertTrue(cancellationService.runningTaskIds().isEmpty());
+        Assertions.assertEquals(1, unsubscribeCount.get());
+        // 清除 cancel(true) 设置的中断标记，避免影响其他测试
+        Thread.interrupted();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void lease_revoked_event_should_cancel_task() {
+        cancellationService.submit(TASK_ID, queue::add, () -> {
+        });
+        ArgumentCaptor<Consumer<TaskStatusEventBO>> listenerCaptor = ArgumentCaptor.forClass(Consumer.class);
+        Mockito.verify(eventService).subscribe(ArgumentMatchers.eq(TASK_ID), listenerCaptor.capture());
+        Consumer<TaskStatusEventBO> listener = listenerCaptor.getValue();
+
+        listener.accept(TaskStatusEventBO.builder().taskId(TASK_ID).status(TaskStatusEnum.ANALYZING.getCode()).build());
+        Assertions.assertEquals(List.of(TASK_ID), cancellationService.runningTaskIds());
+
+        listener.accept(TaskStatusEventBO.builder().taskId(TASK_ID).status(TaskStatusEnum.ANALYZING.getCode())
+                .leaseRevoked(Boolean.TRUE).build());
+        Assertions.assertTrue(cancellationService.runningTaskIds().isEmpty());
+    }
+
+    @Test
+    void lease_revoked_should_survive_event_coalescing() {
+        RedisUtil redisUtil = Mockito.mock(RedisUtil.class);
+        Mockito.when(redisUtil.deserializeMessage(ArgumentMatchers.any())).thenReturn(
+                TaskStatusEventBO.builder().taskId(TASK_ID).status(TaskStatusEnum.ANALYZING.getCode())
+                        .leaseRevoked(Boolean.TRUE).build(),
+                TaskStatusEventBO.builder().taskId(TASK_ID).status(TaskStatusEnum.PROCESSING.getCode()).build());
+        List<Runnable> dispatchQueue = new ArrayList<>();
+        ResumeTaskEventService realEventService = new ResumeTaskEventService();
+        ReflectionTestUtils.setField(realEventService, "redisUtil", redisUtil);
+        ReflectionTestUtils.setField(realEventService, "taskEventDispatchExecutor", (Executor) dispatchQueue::add);
+        ReflectionTestUtils.setField(cancellationService, "resumeTaskEventService", realEventService);
+
+        cancellationService.submit(TASK_ID, queue::add, () -> {
+        });
+
+        // 回收节点先广播租约接管，随后重新排队广播 PROCESSING，二者在分发线程执行前先后到达
+        Message message = Mockito.mock(Message.class);
+        realEventService.onMessage(message, null);
+        realEventService.onMessage(message, null);
+        Assertions.assertEquals(1, dispatchQueue.size());
+
+        dispatchQueue.forEach(Runnable::run);
+
+        Assertions.assertTrue(cancellationService.runningTaskIds().isEmpty());
+        queue.forEach(Runnable::run);
+    }
+}
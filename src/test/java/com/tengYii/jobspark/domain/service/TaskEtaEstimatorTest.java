@@ -0,0 +1,84 @@
+package com.tengYii.jobspark.domain.service;
+
+import com.tengYii.jobspark.common.enums.TaskStatusEnum;
+import com.tengYii.jobspark.model.bo.TaskEstimateBO;
+import com.tengYii.jobspark.model.po.ResumeTaskPO;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 任务进度预估测试：
+ * - 样本不足时使用默认阶段耗时
+ * - 样本充足时按统计出的 p50/p90 预估，超过 p50 后按 p90 预估
+ * - 终态任务不预估剩余时间
+ */
+public class TaskEtaEstimatorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 12, 1, 10, 0, 0);
+
+    @Test
+    void percentile_should_use_nearest_rank() {
+        List<Long> sorted = List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+
+        Assertions.assertEquals(5L, TaskEtaEstimator.percentile(sorted, 50));
+        Assertions.assertEquals(9L, TaskEtaEstimator.percentile(sorted, 90));
+    }
+
+    @Test
+    void default_durations_should_be_used_without_samples() {
+        TaskEtaEstimator estimator = new TaskEtaEstimator();
+
+        TaskEstimateBO estimate = estimator.estimate(analyzingTask(0), NOW);
+
+        // 解析阶段默认 p50=55 秒，存储阶段默认 p50=15 秒
+        Assertions.assertEquals(70L, estimate.getEstimatedRemainingSeconds());
+    }
+
+    @Test
+    void learned_durations_should_drive_estimate() {
+        TaskEtaEstimator estimator = new TaskEtaEstimator();
+        List<ResumeTaskPO> samples = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            // 排队 1 秒，解析 i*2 秒（p50=20，p90=36），存储 4 秒
+            LocalDateTime start = NOW.minusHours(1);
+            samples.add(ResumeTaskPO.builder()
+                    .fileSize(100L * 1024)
+                    .modelName("qwen-plus")
+                    .startTime(start)
+                    .analyzeStartTime(start.plusSeconds(1))
+                    .saveStartTime(start.plusSeconds(1 + i * 2L))
+                    .completeTime(start.plusSeconds(5 + i * 2L))
+                    .build());
+        }
+        estimator.rebuild(samples);
+
+        Assertions.assertEquals(16L + 4L, estimator.estimate(analyzingTask(4), NOW).getEstimatedRemainingSeconds());
+        // 已超过p50，按p90预估
+        Assertions.assertEquals(11L + 4L, estimator.estimate(analyzingTask(25), NOW).getEstimatedRemainingSeconds());
+    }
+
+    @Test
+    void terminal_task_should_not_estimate_remaining() {
+        TaskEtaEstimator estimator = new TaskEtaEstimator();
+        ResumeTaskPO completed = ResumeTaskPO.builder().status(TaskStatusEnum.COMPLETED.getCode()).startTime(NOW).build();
+
+        TaskEstimateBO estimate = estimator.estimate(completed, NOW);
+
+        Assertions.assertEquals(100, estimate.getProgress());
+        Assertions.assertNull(estimate.getEstimatedRemainingSeconds());
+    }
+
+    private ResumeTaskPO analyzingTask(long stageElapsedSeconds) {
+        return ResumeTaskPO.builder()
+                .status(TaskStatusEnum.ANALYZING.getCode())
+                .fileSize(120L * 1024)
+                .modelName("qwen-plus")
+                .startTime(NOW.minusSeconds(stageElapsedSeconds + 1))
+                .analyzeStartTime(NOW.minusSeconds(stageElapsedSeconds))
+                .build();
+    }
+}
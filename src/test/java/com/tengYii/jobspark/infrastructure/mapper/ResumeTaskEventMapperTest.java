@@ -0,0 +1,178 @@
+package com.tengYii.jobspark.infrastructure.mapper;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.MybatisSqlSessionFactoryBuilder;
+import com.tengYii.jobspark.model.bo.TaskStageStatsBO;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 阶段耗时统计SQL测试（ResumeTaskEventMapper.selectStageStats，在真实 MySQL 上执行，无 Docker 时跳过）：
+ * - p50/p95 按最近秩法取值：编号不小于 CEIL(n * p) 的最小耗时（样本数为偶数、奇数、1）
+ * - 同一阶段的失败事件单独计数，不参与分位数与平均耗时，也不影响成功事件的编号
+ * - 统计窗口之前的事件不计入
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public class ResumeTaskEventMapperTest {
+
+    private static final String MAPPER_XML = "mybatis/mapper/mysql/ResumeTaskEventMapper.xml";
+
+    private static final LocalDateTime NOW = LocalDateTime.now().withNano(0);
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.36");
+
+    private static SqlSessionFactory sqlSessionFactory;
+
+    private static UnpooledDataSource dataSource;
+
+    @BeforeAll
+    static void setUpDatabase() throws Exception {
+        dataSource = new UnpooledDataSource(MYSQL.getDriverClassName(), MYSQL.getJdbcUrl(),
+                MYSQL.getUsername(), MYSQL.getPassword());
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(readCreateTable("resume_task_event"));
+        }
+
+        MybatisConfiguration configuration = new MybatisConfiguration(
+                new Environment("test", new JdbcTransactionFactory(), dataSource));
+        configuration.setMapUnderscoreToCamelCase(true);
+        try (InputStream inputStream = Resources.getResourceAsStream(MAPPER_XML)) {
+            new XMLMapperBuilder(inputStream, configuration, MAPPER_XML, configuration.getSqlFragments()).parse();
+        }
+        sqlSessionFactory = new MybatisSqlSessionFactoryBuilder().build(configuration);
+    }
+
+    @BeforeEach
+    void cleanUp() throws Exception {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE resume_task_event");
+        }
+    }
+
+    @Test
+    void percentiles_should_use_nearest_rank_and_ignore_failures() throws Exception {
+        List<Object[]> rows = new ArrayList<>();
+        // LLM_PARSE：20 个成功事件（100..2000ms，乱序写入），6 个耗时更短的失败事件
+        List<Long> successDurations = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            successDurations.add(i * 100);
+        }
+        Collections.shuffle(successDurations);
+        successDurations.forEach(duration -> rows.add(row("LLM_PARSE", duration, 1, NOW)));
+        for (long i = 1; i <= 6; i++) {
+            rows.add(row("LLM_PARSE", i, 0, NOW));
+        }
+        // PERSIST：21 个成功事件（10..210ms），1 个耗时更长的失败事件
+        for (long i = 1; i <= 21; i++) {
+            rows.add(row("PERSIST", i * 10, 1, NOW));
+        }
+        rows.add(row("PERSIST", 99999L, 0, NOW));
+        // EMBED：1 个成功事件，以及统计窗口之前的事件
+        rows.add(row("EMBED", 70L, 1, NOW));
+        rows.add(row("EMBED", 1L, 1, NOW.minusDays(2)));
+        insert(rows);
+
+        Map<String, TaskStageStatsBO> stats = selectStageStats(NOW.minusHours(1));
+
+        TaskStageStatsBO llmParse = stats.get("LLM_PARSE");
+        Assertions.assertEquals(20L, llmParse.getSampleCount());
+        Assertions.assertEquals(6L, llmParse.getFailureCount());
+        // CEIL(20 * 0.5) = 10，CEIL(20 * 0.95) = 19；失败事件若参与编号，结果会整体前移
+        Assertions.assertEquals(1000L, llmParse.getP50DurationMs());
+        Assertions.assertEquals(1900L, llmParse.getP95DurationMs());
+        Assertions.assertEquals(2000L, llmParse.getMaxDurationMs());
+        Assertions.assertEquals(1050L, llmParse.getAvgDurationMs());
+
+        TaskStageStatsBO persist = stats.get("PERSIST");
+        Assertions.assertEquals(21L, persist.getSampleCount());
+        Assertions.assertEquals(1L, persist.getFailureCount());
+        // CEIL(21 * 0.5) = 11，CEIL(21 * 0.95) = 20
+        Assertions.assertEquals(110L, persist.getP50DurationMs());
+        Assertions.assertEquals(200L, persist.getP95DurationMs());
+        Assertions.assertEquals(210L, persist.getMaxDurationMs());
+
+        TaskStageStatsBO embed = stats.get("EMBED");
+        Assertions.assertEquals(1L, embed.getSampleCount());
+        Assertions.assertEquals(70L, embed.getP50DurationMs());
+        Assertions.assertEquals(70L, embed.getP95DurationMs());
+    }
+
+    @Test
+    void stage_with_only_failures_should_have_no_percentiles() throws Exception {
+        insert(List.of(row("EXTRACT", 500L, 0, NOW), row("EXTRACT", 600L, 0, NOW)));
+
+        TaskStageStatsBO extract = selectStageStats(NOW.minusHours(1)).get("EXTRACT");
+
+        Assertions.assertEquals(0L, extract.getSampleCount());
+        Assertions.assertEquals(2L, extract.getFailureCount());
+        Assertions.assertNull(extract.getP50DurationMs());
+        Assertions.assertNull(extract.getP95DurationMs());
+    }
+
+    private static Map<String, TaskStageStatsBO> selectStageStats(LocalDateTime since) {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            return sqlSession.getMapper(ResumeTaskEventMapper.class).selectStageStats(since).stream()
+                    .collect(Collectors.toMap(TaskStageStatsBO::getStage, Function.identity()));
+        }
+    }
+
+    private static Object[] row(String stage, long durationMs, int success, LocalDateTime createTime) {
+        return new Object[]{stage, durationMs, success, createTime};
+    }
+
+    private static void insert(List<Object[]> rows) throws Exception {
+        String sql = "INSERT INTO resume_task_event (stage, node_id, start_time, duration_ms, success, create_time) "
+                + "VALUES (?, 'test-node', ?, ?, ?, ?)";
+        try (Connection connection = dataSource.getConnection(); PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (Object[] row : rows) {
+                Timestamp createTime = Timestamp.valueOf((LocalDateTime) row[3]);
+                statement.setString(1, (String) row[0]);
+                statement.setTimestamp(2, createTime);
+                statement.setLong(3, (Long) row[1]);
+                statement.setInt(4, (Integer) row[2]);
+                statement.setTimestamp(5, createTime);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * 从建表脚本中读取指定表的建表语句，测试表结构与线上保持一致
+     */
+    private static String readCreateTable(String tableName) throws Exception {
+        String script = Files.readString(Path.of("sql", "cv.sql"), StandardCharsets.UTF_8);
+        int start = script.indexOf("CREATE TABLE `" + tableName + "`");
+        Assertions.assertTrue(start >= 0, "建表脚本中缺少表：" + tableName);
+        return script.substring(start, script.indexOf(';', start));
+    }
+}